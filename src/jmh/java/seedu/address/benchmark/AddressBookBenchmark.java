@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+
+/**
+ * Benchmarks searching the candidates in an {@code AddressBook} and computing statistics over them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    /** Keywords that match a single candidate by phone, one by email, and none at all. */
+    private static final List<String> KEYWORDS = Arrays.asList("80000007", "candidate42@example.com", "nobody");
+
+    /** Keywords that match part of the phone numbers and emails of some candidates. */
+    private static final List<String> PARTIAL_KEYWORDS = Arrays.asList("8001234", "e99@");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private PersonDetailsContainKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.getAddressBook(size);
+        predicate = new PersonDetailsContainKeywordsPredicate(KEYWORDS);
+    }
+
+    /**
+     * Tests every candidate against the keywords, as filtering the person list by the predicate does.
+     */
+    @Benchmark
+    public long testPredicateOnAllPersons() {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findPersons() {
+        return addressBook.findPersons(KEYWORDS);
+    }
+
+    @Benchmark
+    public Set<Person> findPersonsPartially() {
+        return addressBook.findPersonsPartially(PARTIAL_KEYWORDS);
+    }
+
+    @Benchmark
+    public Map<JobRole, Long> getJobApplicantStatistics() {
+        return addressBook.getJobApplicantStatistics();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+/**
+ * Generates candidates and interview schedules for benchmarks.
+ *
+ * The {@code i}-th candidate and schedule are the same on every call, so benchmarks can refer to data by position.
+ * No two schedules clash, and the {@code i}-th schedule is an interview of the {@code i}-th candidate.
+ */
+public class BenchmarkData {
+
+    public static final List<String> JOB_ROLES = Arrays.asList("Front End Developer", "Back End Developer",
+            "Data Scientist", "Product Manager", "QA Engineer", "DevOps Engineer", "UI Designer");
+
+    private static final List<String> LABELS = Arrays.asList("Unreviewed", "Accepted", "Rejected", "Shortlisted");
+    private static final List<String> TAGS = Arrays.asList("Java", "Python", "Go", "Rust", "Kotlin");
+
+    private static final LocalDate FIRST_INTERVIEW_DATE = LocalDate.parse("2025-01-01");
+    private static final int FIRST_INTERVIEW_HOUR = 9;
+    private static final int INTERVIEWS_PER_DAY = 8;
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns the {@code i}-th candidate.
+     */
+    public static Person getPerson(int i) {
+        return new PersonBuilder()
+                .withName("Candidate " + i)
+                .withPhone(String.valueOf(80000000 + i))
+                .withEmail("candidate" + i + "@example.com")
+                .withAddress("Block " + i + ", Clementi Ave " + (i % 10))
+                .withJobRole(JOB_ROLES.get(i % JOB_ROLES.size()))
+                .withLabel(LABELS.get(i % LABELS.size()))
+                .withRemark("Applied in batch " + (i % 100))
+                .withTags(TAGS.get(i % TAGS.size()))
+                .build();
+    }
+
+    /**
+     * Returns the first {@code count} candidates.
+     */
+    public static List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the {@code i}-th interview schedule.
+     * Interviews are an hour long and fill each day from 9am before moving on to the next day.
+     */
+    public static Schedule getSchedule(int i) {
+        int startHour = FIRST_INTERVIEW_HOUR + i % INTERVIEWS_PER_DAY;
+        return new ScheduleBuilder()
+                .withDate(FIRST_INTERVIEW_DATE.plusDays(i / INTERVIEWS_PER_DAY).toString())
+                .withStartTime(String.format("%02d:00", startHour))
+                .withEndTime(String.format("%02d:00", startHour + 1))
+                .withMode(i % 2 == 0 ? "ONLINE" : "OFFLINE")
+                .withCandidateName("Candidate " + i)
+                .withCandidateEmail("candidate" + i + "@example.com")
+                .build();
+    }
+
+    /**
+     * Returns the first {@code count} interview schedules.
+     */
+    public static List<Schedule> getSchedules(int count) {
+        List<Schedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            schedules.add(getSchedule(i));
+        }
+        return schedules;
+    }
+
+    /**
+     * Returns an address book with the first {@code size} candidates and all of their job roles.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobRoles(JOB_ROLES.stream().map(JobRole::new).collect(Collectors.toList()));
+        addressBook.setPersons(getPersons(size));
+        return addressBook;
+    }
+
+    /**
+     * Returns a schedule board with the first {@code size} interview schedules.
+     */
+    public static ScheduleBoard getScheduleBoard(int size) {
+        return new ScheduleBoard(getSchedules(size));
+    }
+}
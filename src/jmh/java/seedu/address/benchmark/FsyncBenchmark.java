@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.FsyncScheduler;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Benchmarks saving the address book under each {@code FsyncPolicy}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FsyncBenchmark {
+
+    @Param({"ALWAYS", "PERIODIC", "NEVER"})
+    public FsyncPolicy fsyncPolicy;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private Path dataFolder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage addressBookStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("fsync-benchmark");
+        addressBook = BenchmarkData.getAddressBook(size);
+        addressBookStorage = new JsonAddressBookStorage(dataFolder.resolve("addressbook.json"), false,
+                Deflater.NO_COMPRESSION, new FsyncScheduler(fsyncPolicy, 1000));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(addressBookStorage.getAddressBookFilePath());
+        Files.deleteIfExists(dataFolder);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+}
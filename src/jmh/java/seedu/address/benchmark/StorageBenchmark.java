@@ -0,0 +1,150 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryScheduleBoardStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleBoardStorage;
+import seedu.address.storage.PartialAddressBookReader;
+import seedu.address.storage.ScheduleBoardStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+
+/**
+ * Benchmarks reading and writing the data files of the address book and schedule board, as JSON files, as binary
+ * snapshots, or with the address book in JSON shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final int FIRST_SCREEN_PERSON_COUNT = 100;
+    private static final int SHARD_COUNT = 16;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"json", "binary", "sharded"})
+    public String format;
+
+    private Path dataFolder;
+    private AddressBook addressBook;
+    private ScheduleBoard scheduleBoard;
+    private AddressBookStorage addressBookStorage;
+    private ScheduleBoardStorage scheduleBoardStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("storage-benchmark");
+        addressBook = BenchmarkData.getAddressBook(size);
+        scheduleBoard = BenchmarkData.getScheduleBoard(size);
+        if (format.equals("binary")) {
+            addressBookStorage = new BinaryAddressBookStorage(dataFolder.resolve("addressbook.bin"));
+            scheduleBoardStorage = new BinaryScheduleBoardStorage(dataFolder.resolve("scheduleboard.bin"));
+        } else if (format.equals("sharded")) {
+            addressBookStorage = new ShardedAddressBookStorage(
+                    ShardedAddressBookStorage.getManifestFilePath(dataFolder.resolve("addressbook.json")),
+                    SHARD_COUNT);
+            scheduleBoardStorage = new JsonScheduleBoardStorage(dataFolder.resolve("scheduleboard.json"));
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(dataFolder.resolve("addressbook.json"));
+            scheduleBoardStorage = new JsonScheduleBoardStorage(dataFolder.resolve("scheduleboard.json"));
+        }
+
+        // The read benchmarks read the files written here
+        addressBookStorage.saveAddressBook(addressBook);
+        scheduleBoardStorage.saveScheduleBoard(scheduleBoard);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataFolder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book after one person in it is edited, as after most commands.
+     */
+    @Benchmark
+    public void saveAddressBookAfterOneEdit() throws IOException {
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getLabel(), person.getRemark(), person.getJobRoles(), person.getTags()));
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    /**
+     * Reads the address book with a single worker thread in the common {@code ForkJoinPool}, to compare with the
+     * parallel conversion of persons in {@link #readAddressBook()}.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1")
+    public Optional<ReadOnlyAddressBook> readAddressBookWithOneWorker() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    /**
+     * Reads as much of the address book as is needed to show the first screen of persons.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBookFirstScreen() throws DataLoadingException {
+        Optional<PartialAddressBookReader> reader = addressBookStorage.readAddressBookInParts();
+        if (reader.isPresent()) {
+            return reader.get().readFirstPersons(FIRST_SCREEN_PERSON_COUNT);
+        }
+        return addressBookStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveScheduleBoard() throws IOException {
+        scheduleBoardStorage.saveScheduleBoard(scheduleBoard);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
+        return scheduleBoardStorage.readScheduleBoard();
+    }
+}
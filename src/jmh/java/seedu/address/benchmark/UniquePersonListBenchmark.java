@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks the operations on {@code UniquePersonList} used by commands that add, edit and check for candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private List<Person> persons;
+    private Person personInList;
+    private Person personNotInList;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        uniquePersonList.setPersons(persons);
+        personInList = BenchmarkData.getPerson(size / 2);
+        personNotInList = BenchmarkData.getPerson(size);
+    }
+
+    @Benchmark
+    public boolean containsPersonInList() {
+        return uniquePersonList.contains(personInList);
+    }
+
+    @Benchmark
+    public boolean containsPersonNotInList() {
+        return uniquePersonList.contains(personNotInList);
+    }
+
+    /**
+     * Adds a person to the end of the list, and removes it so that the list is the same for every invocation.
+     */
+    @Benchmark
+    public void addPerson() {
+        uniquePersonList.add(personNotInList);
+        uniquePersonList.remove(personNotInList);
+    }
+
+    @Benchmark
+    public void setPersons() {
+        uniquePersonList.setPersons(persons);
+    }
+}
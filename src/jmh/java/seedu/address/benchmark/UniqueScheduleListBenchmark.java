@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.UniqueScheduleList;
+import seedu.address.testutil.ScheduleBuilder;
+
+/**
+ * Benchmarks the operations on {@code UniqueScheduleList} used by commands that add and check interview schedules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueScheduleListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private final UniqueScheduleList uniqueScheduleList = new UniqueScheduleList();
+    private List<Schedule> schedules;
+    private Schedule scheduleHalfway;
+    private Schedule clashingSchedule;
+
+    @Setup
+    public void setUp() {
+        schedules = BenchmarkData.getSchedules(size);
+        uniqueScheduleList.setSchedules(schedules);
+
+        // Overlaps the second half of the schedule halfway through the list, and the first half of the next one
+        scheduleHalfway = BenchmarkData.getSchedule(size / 2);
+        clashingSchedule = new ScheduleBuilder(scheduleHalfway)
+                .withStartTime(scheduleHalfway.getStartTime().plusMinutes(30).toString())
+                .withEndTime(scheduleHalfway.getEndTime().plusMinutes(30).toString())
+                .build();
+    }
+
+    @Benchmark
+    public boolean hasSameTime() {
+        return uniqueScheduleList.hasSameTime(clashingSchedule);
+    }
+
+    /**
+     * Removes a schedule from the middle of the list and adds it back in order, so that the list is the same for
+     * every invocation.
+     */
+    @Benchmark
+    public void addSchedule() {
+        uniqueScheduleList.remove(scheduleHalfway);
+        uniqueScheduleList.add(scheduleHalfway);
+    }
+
+    @Benchmark
+    public void setSchedules() {
+        uniqueScheduleList.setSchedules(schedules);
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryScheduleBoardStorage;
+import seedu.address.storage.BinarySnapshot;
+import seedu.address.storage.FsyncScheduler;
+import seedu.address.storage.JournaledStorageManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleBoardStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PartialAddressBookReader;
+import seedu.address.storage.ScheduleBoardStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorageManager;
+
+/**
+ * Sets up the config, storage and model of the application from its config file, in the same way for the JavaFX
+ * application and for running commands headless.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /** Number of persons to read before the rest, which is enough to fill the first screen of the person list. */
+    private static final int INITIAL_PERSON_COUNT = 100;
+
+    private final Config config;
+    private final Storage storage;
+    private final ModelManager model;
+
+    /**
+     * Reads the config file at {@code configFilePath}, or the default config file if it is null, then sets up the
+     * storage it describes and a model with the data read from that storage.
+     *
+     * @param modelExecutor Runs changes to the model that are made after it is set up, such as adding the persons
+     *     still being read. If empty, all persons are read before the model is set up.
+     * @param shouldDeferWrites Whether data saved to storage is written only when storage is flushed.
+     */
+    public AppInitializer(Path configFilePath, Optional<Executor> modelExecutor, boolean shouldDeferWrites)
+            throws IOException {
+        config = initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        userPrefsStorage.saveUserPrefs(userPrefs);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isCompactJsonStorage(), config.getCompressionLevel(),
+                new FsyncScheduler(config.getFsyncPolicy(), config.getFsyncIntervalMillis()));
+        ScheduleBoardStorage scheduleBoardStorage = new JsonScheduleBoardStorage(userPrefs.getScheduleBoardFilePath(),
+                config.isCompactJsonStorage(), config.getCompressionLevel(),
+                new FsyncScheduler(config.getFsyncPolicy(), config.getFsyncIntervalMillis()));
+        if (config.isBinarySnapshotStorage()) {
+            // Until the first snapshots are saved, the data is read from the JSON data files.
+            addressBookStorage = new BinaryAddressBookStorage(
+                    BinarySnapshot.getSnapshotFilePath(userPrefs.getAddressBookFilePath()), addressBookStorage,
+                    new FsyncScheduler(config.getFsyncPolicy(), config.getFsyncIntervalMillis()));
+            scheduleBoardStorage = new BinaryScheduleBoardStorage(
+                    BinarySnapshot.getSnapshotFilePath(userPrefs.getScheduleBoardFilePath()), scheduleBoardStorage,
+                    new FsyncScheduler(config.getFsyncPolicy(), config.getFsyncIntervalMillis()));
+        }
+        if (config.isShardedAddressBookStorage()) {
+            // Until the first shards are saved, the address book is read from the storage it was kept in before.
+            addressBookStorage = new ShardedAddressBookStorage(
+                    ShardedAddressBookStorage.getManifestFilePath(userPrefs.getAddressBookFilePath()),
+                    config.getAddressBookShardCount(), addressBookStorage, config.isCompactJsonStorage(),
+                    new FsyncScheduler(config.getFsyncPolicy(), config.getFsyncIntervalMillis()));
+        }
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
+        if (shouldDeferWrites) {
+            storage = new WriteBehindStorageManager(storage, true);
+        } else if (config.isWriteBehindStorage()) {
+            storage = new WriteBehindStorageManager(storage);
+        }
+        JournaledStorageManager journaledStorage = null;
+        if (config.isJournalStorage()) {
+            // With deferred writes, changes are journaled only when storage is flushed, so no file changes before.
+            journaledStorage = new JournaledStorageManager(storage, config.getJournalCompactionThreshold(),
+                    config.getFsyncPolicy(), config.getFsyncIntervalMillis(), shouldDeferWrites);
+            storage = journaledStorage;
+        }
+
+        model = initModelManager(storage, userPrefs, modelExecutor);
+        if (journaledStorage != null) {
+            model.addChangeListener(journaledStorage::record);
+        }
+        this.storage = storage;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public ModelManager getModel() {
+        return model;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Any journaled changes are replayed by {@code storage} while the data is read.
+     * If {@code storage} can read the address book in parts and {@code modelExecutor} is present, the model starts with
+     * only the first persons, and the rest are read in the background and added to the model on {@code modelExecutor}
+     * once they have been read.
+     */
+    private ModelManager initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            Optional<Executor> modelExecutor) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        PartialAddressBookReader remainingPersonsReader = null;
+
+        Optional<ReadOnlyScheduleBoard> scheduleBoardOptional;
+        ReadOnlyScheduleBoard initialScheduleBoard;
+
+        try {
+            Optional<PartialAddressBookReader> partialReader = modelExecutor.isPresent()
+                    ? storage.readAddressBookInParts()
+                    : Optional.empty();
+            if (partialReader.isPresent()) {
+                addressBookOptional = Optional.of(partialReader.get().readFirstPersons(INITIAL_PERSON_COUNT));
+                remainingPersonsReader = partialReader.get();
+            } else {
+                addressBookOptional = storage.readAddressBook();
+            }
+
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data files could not be loaded."
+                    + " Will be starting with an empty data.");
+            initialData = new AddressBook();
+        }
+
+        try {
+            scheduleBoardOptional = storage.readScheduleBoard();
+            if (!scheduleBoardOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getScheduleBoardFilePath()
+                        + " populated with a sample ScheduleBoard.");
+            }
+
+            initialScheduleBoard = scheduleBoardOptional.orElseGet(SampleDataUtil::getSampleScheduleBoard);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Schedule board file is corrupted. Using an empty schedule board.");
+            initialScheduleBoard = new ScheduleBoard();
+        }
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, initialScheduleBoard);
+        if (remainingPersonsReader != null) {
+            CompletableFuture<ReadOnlyAddressBook> wholeAddressBook =
+                    readWholeAddressBookInBackground(initialData, remainingPersonsReader, storage);
+            modelManager.setPendingAddressBook(wholeAddressBook);
+            wholeAddressBook.whenComplete((addressBook, error) ->
+                    modelExecutor.get().execute(modelManager::addPendingPersons));
+        }
+        return modelManager;
+    }
+
+    /**
+     * Reads the persons remaining in {@code reader} on a background thread, and returns the whole address book made of
+     * {@code firstPersons} followed by them. If they cannot be read, the whole address book is read again from
+     * {@code storage} instead, so that the model is never left with only the first persons.
+     */
+    static CompletableFuture<ReadOnlyAddressBook> readWholeAddressBookInBackground(ReadOnlyAddressBook firstPersons,
+            PartialAddressBookReader reader, AddressBookStorage storage) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                List<Person> allPersons = new ArrayList<>(firstPersons.getPersonList());
+                allPersons.addAll(reader.readRemainingPersons());
+                AddressBook wholeAddressBook = new AddressBook(firstPersons);
+                wholeAddressBook.setPersons(allPersons);
+                return wholeAddressBook;
+            } catch (DataLoadingException | DuplicatePersonException e) {
+                logger.warning("Candidates after the first " + firstPersons.getPersonList().size()
+                        + " could not be loaded, reading the whole data file again: " + e);
+            }
+
+            try {
+                return storage.readAddressBook().orElseGet(AddressBook::new);
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
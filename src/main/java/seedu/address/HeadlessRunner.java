@@ -0,0 +1,150 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs commands from a script, one per line, without the JavaFX user interface.
+ *
+ * The result of each command is written to the output, followed by a summary of how many commands were run and how
+ * long they took. Data saved by the commands is written to disk only once, after the last command has run.
+ */
+public class HeadlessRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Error: %1$s";
+    public static final String MESSAGE_SAVE_FAILED = "Error: Failed to save data: %1$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d command(s) (%2$d failed) in %3$.3f s: %4$.1f commands/s, "
+            + "mean latency %5$.3f ms, max latency %6$.3f ms";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessRunner.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code HeadlessRunner} that runs commands on {@code model} and writes their results to {@code out}.
+     */
+    public HeadlessRunner(Model model, Storage storage, PrintStream out) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(out);
+        this.model = model;
+        this.storage = storage;
+        this.out = out;
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Sets up the application as described by {@code appParameters}, then runs the commands in its script, or from
+     * standard input if it has none.
+     *
+     * @return The exit status of the application, which is 0 only if every command ran and the data was saved.
+     */
+    public static int run(AppParameters appParameters) throws IOException {
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath(), Optional.empty(), true);
+        HeadlessRunner runner = new HeadlessRunner(initializer.getModel(), initializer.getStorage(), System.out);
+
+        if (appParameters.getScriptPath() == null) {
+            logger.info("Running commands from standard input");
+            return runner.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        }
+
+        logger.info("Running commands from " + appParameters.getScriptPath());
+        try (BufferedReader script = Files.newBufferedReader(appParameters.getScriptPath(), StandardCharsets.UTF_8)) {
+            return runner.run(script);
+        }
+    }
+
+    /**
+     * Runs each command read from {@code commands} until it ends or an exit command is run, then saves the data.
+     * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+     *
+     * @return 0 if every command ran and the data was saved, or 1 otherwise.
+     */
+    public int run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+        int commandCount = 0;
+        int failedCount = 0;
+        long totalNanos = 0;
+        long maxNanos = 0;
+
+        String line;
+        while ((line = commands.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            out.println("> " + commandText);
+            long startNanos = System.nanoTime();
+            CommandResult result = null;
+            try {
+                result = logic.execute(commandText);
+                out.println(result.getFeedbackToUser());
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            commandCount++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+
+            if (result != null && result.isExit()) {
+                break;
+            }
+        }
+
+        boolean isSaved = saveData();
+        out.println(getSummary(commandCount, failedCount, totalNanos, maxNanos));
+        return failedCount == 0 && isSaved ? 0 : 1;
+    }
+
+    /**
+     * Writes the data saved by the commands, and the user prefs, to disk.
+     *
+     * @return Whether the data was saved.
+     */
+    private boolean saveData() {
+        try {
+            storage.flush();
+            storage.saveUserPrefs(model.getUserPrefs());
+            return true;
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            out.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            return false;
+        }
+    }
+
+    private static String getSummary(int commandCount, int failedCount, long totalNanos, long maxNanos) {
+        double totalSeconds = totalNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+        double commandsPerSecond = totalNanos == 0 ? 0 : commandCount / totalSeconds;
+        double meanMillis = commandCount == 0 ? 0 : totalNanos / nanosPerMilli / commandCount;
+        return String.format(MESSAGE_SUMMARY, commandCount, failedCount, totalSeconds, commandsPerSecond,
+                meanMillis, maxNanos / nanosPerMilli);
+    }
+}
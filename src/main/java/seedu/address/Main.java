@@ -1,9 +1,11 @@
 package seedu.address;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * The main entry point to the application.
@@ -20,11 +22,19 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * With the {@code --headless} flag, commands are run from a script without
+ * starting JavaFX at all (see {@link HeadlessRunner}).
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            runHeadless(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +48,15 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    private static void runHeadless(AppParameters appParameters) {
+        int exitStatus;
+        try {
+            exitStatus = HeadlessRunner.run(appParameters);
+        } catch (IOException e) {
+            logger.severe("Failed to run commands " + StringUtil.getDetails(e));
+            exitStatus = 1;
+        }
+        System.exit(exitStatus);
+    }
 }
@@ -17,6 +17,16 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindStorage = false;
+    private boolean journalStorage = false;
+    private int journalCompactionThreshold = 1000;
+    private boolean compactJsonStorage = false;
+    private int compressionLevel = 0;
+    private boolean binarySnapshotStorage = false;
+    private boolean shardedAddressBookStorage = false;
+    private int addressBookShardCount = 16;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private int fsyncIntervalMillis = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +44,121 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data should be saved on a background thread instead of the thread running commands.
+     */
+    public boolean isWriteBehindStorage() {
+        return writeBehindStorage;
+    }
+
+    public void setWriteBehindStorage(boolean writeBehindStorage) {
+        this.writeBehindStorage = writeBehindStorage;
+    }
+
+    /**
+     * Returns true if changes should be appended to a journal instead of saving all data after every command.
+     */
+    public boolean isJournalStorage() {
+        return journalStorage;
+    }
+
+    public void setJournalStorage(boolean journalStorage) {
+        this.journalStorage = journalStorage;
+    }
+
+    /**
+     * Returns the number of journaled changes after which all data is saved again and the journal is restarted.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if data files should be saved without indentation and line breaks, which makes them smaller and
+     * quicker to write but harder to edit by hand.
+     */
+    public boolean isCompactJsonStorage() {
+        return compactJsonStorage;
+    }
+
+    public void setCompactJsonStorage(boolean compactJsonStorage) {
+        this.compactJsonStorage = compactJsonStorage;
+    }
+
+    /**
+     * Returns the level from 1 (fastest) to 9 (smallest) at which JSON data files are compressed in the GZIP format,
+     * or 0 if they should not be compressed. Compressed data files are read whatever this level is.
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns true if data should be kept in binary snapshots, which are quicker to read and write than JSON files.
+     * JSON files are still used to export data.
+     */
+    public boolean isBinarySnapshotStorage() {
+        return binarySnapshotStorage;
+    }
+
+    public void setBinarySnapshotStorage(boolean binarySnapshotStorage) {
+        this.binarySnapshotStorage = binarySnapshotStorage;
+    }
+
+    /**
+     * Returns true if the address book should be kept in several shard files, so that saving it only rewrites the
+     * shards holding candidates that have changed.
+     */
+    public boolean isShardedAddressBookStorage() {
+        return shardedAddressBookStorage;
+    }
+
+    public void setShardedAddressBookStorage(boolean shardedAddressBookStorage) {
+        this.shardedAddressBookStorage = shardedAddressBookStorage;
+    }
+
+    /**
+     * Returns the number of shard files to keep the address book in when it is sharded.
+     */
+    public int getAddressBookShardCount() {
+        return addressBookShardCount;
+    }
+
+    public void setAddressBookShardCount(int addressBookShardCount) {
+        this.addressBookShardCount = addressBookShardCount;
+    }
+
+    /**
+     * Returns when saved data files are forced onto the storage device.
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Returns the minimum time between saves of a data file that are forced onto the storage device under
+     * {@link FsyncPolicy#PERIODIC}.
+     */
+    public int getFsyncIntervalMillis() {
+        return fsyncIntervalMillis;
+    }
+
+    public void setFsyncIntervalMillis(int fsyncIntervalMillis) {
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +172,24 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindStorage == otherConfig.writeBehindStorage
+                && journalStorage == otherConfig.journalStorage
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && compactJsonStorage == otherConfig.compactJsonStorage
+                && compressionLevel == otherConfig.compressionLevel
+                && binarySnapshotStorage == otherConfig.binarySnapshotStorage
+                && shardedAddressBookStorage == otherConfig.shardedAddressBookStorage
+                && addressBookShardCount == otherConfig.addressBookShardCount
+                && fsyncPolicy == otherConfig.fsyncPolicy
+                && fsyncIntervalMillis == otherConfig.fsyncIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindStorage, journalStorage,
+                journalCompactionThreshold, compactJsonStorage, compressionLevel, binarySnapshotStorage,
+                shardedAddressBookStorage, addressBookShardCount, fsyncPolicy, fsyncIntervalMillis);
     }
 
     @Override
@@ -60,6 +197,16 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindStorage", writeBehindStorage)
+                .add("journalStorage", journalStorage)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("compactJsonStorage", compactJsonStorage)
+                .add("compressionLevel", compressionLevel)
+                .add("binarySnapshotStorage", binarySnapshotStorage)
+                .add("shardedAddressBookStorage", shardedAddressBookStorage)
+                .add("addressBookShardCount", addressBookShardCount)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("fsyncIntervalMillis", fsyncIntervalMillis)
                 .toString();
     }
 
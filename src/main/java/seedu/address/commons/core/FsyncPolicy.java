@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents when saved data files are forced onto the storage device, trading the time taken by saves for the
+ * number of recent saves that can be lost if the computer crashes.
+ */
+public enum FsyncPolicy {
+    /** Every save is forced onto the storage device before it completes. */
+    ALWAYS,
+    /** A save is forced onto the storage device if no earlier save of the file was within the fsync interval. */
+    PERIODIC,
+    /** Saves are left to the operating system to write to the storage device. */
+    NEVER
+}
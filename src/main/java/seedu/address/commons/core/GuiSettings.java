@@ -41,6 +41,16 @@ public class GuiSettings implements Serializable {
         this.theme = theme;
     }
 
+    /**
+     * Constructs a copy of {@code toBeCopied}.
+     */
+    public GuiSettings(GuiSettings toBeCopied) {
+        windowWidth = toBeCopied.windowWidth;
+        windowHeight = toBeCopied.windowHeight;
+        windowCoordinates = toBeCopied.getWindowCoordinates();
+        theme = toBeCopied.theme;
+    }
+
     public double getWindowWidth() {
         return windowWidth;
     }
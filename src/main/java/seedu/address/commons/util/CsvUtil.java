@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes records in the CSV format of RFC 4180, one record at a time.
+ * Fields holding commas, double quotes or line breaks are enclosed in double quotes, with double quotes in them
+ * doubled.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed before the end of the file";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Returns {@code fields} as one CSV record, ending with a line break.
+     */
+    public static String toRecord(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            appendField(builder, fields.get(i));
+        }
+        return builder.append(LINE_SEPARATOR).toString();
+    }
+
+    /**
+     * Reads the next CSV record from {@code reader}, which should be buffered.
+     * A record may span several lines if its quoted fields hold line breaks. An empty line is read as a record with a
+     * single empty field.
+     *
+     * @return the fields of the record, or null if there are no more records.
+     * @throws IOException if the record cannot be read, or a quoted field in it is not closed.
+     */
+    public static List<String> readRecord(Reader reader) throws IOException {
+        requireNonNull(reader);
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (c != -1) {
+            if (isQuoted) {
+                if (c == QUOTE) {
+                    reader.mark(1);
+                    if (reader.read() == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        isQuoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        if (isQuoted) {
+            throw new IOException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void appendField(StringBuilder builder, String field) {
+        requireNonNull(field);
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1;
+        if (!needsQuotes) {
+            builder.append(field);
+            return;
+        }
+
+        builder.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                builder.append(QUOTE);
+            }
+            builder.append(c);
+        }
+        builder.append(QUOTE);
+    }
+}
@@ -2,11 +2,24 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -14,8 +27,14 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     public static final String FILE_EXTENSION_JSON = ".json";
+    public static final String FILE_EXTENSION_GZIP = ".gz";
+    public static final String FILE_EXTENSION_CSV = ".csv";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
 
     private static final String CHARSET = "UTF-8";
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -82,7 +101,209 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)), true);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with those written by {@code contentWriter}, creating the file and its
+     * missing parent directories if needed.
+     *
+     * The contents are written to a new temporary file next to {@code file}, which is then moved over {@code file},
+     * so that {@code file} holds either all of its old contents or all of its new ones even if writing is interrupted.
+     * Each write has its own temporary file, so writes of the same file do not interfere with each other.
+     *
+     * @param isSynced true if the new contents must be forced onto the storage device before returning.
+     * @throws IOException if the contents cannot be written, in which case {@code file} is not modified.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean isSynced) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                contentWriter.write(out);
+                out.flush();
+                if (isSynced) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isSynced) {
+            syncParentDir(file);
+        }
+    }
+
+    /**
+     * Appends {@code bytes} to {@code file}, creating the file and its missing parent directories if needed.
+     *
+     * @param isSynced true if the appended bytes must be forced onto the storage device before returning.
+     */
+    public static void appendToFile(Path file, byte[] bytes, boolean isSynced) throws IOException {
+        requireNonNull(file);
+        requireNonNull(bytes);
+        createParentDirsOfFile(file);
+        boolean isNewFile = !Files.exists(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+
+        if (isSynced && isNewFile) {
+            syncParentDir(file);
+        }
+    }
+
+    /**
+     * Forces the contents of {@code file}, and its entry in its parent directory, onto the storage device.
+     * Does nothing if the file no longer exists.
+     */
+    public static void syncFile(Path file) throws IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        syncParentDir(file);
+    }
+
+    /**
+     * Returns true if {@code file} is named as a JSON file, compressed or not.
+     */
+    public static boolean isJsonFile(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(FILE_EXTENSION_JSON) || fileName.endsWith(FILE_EXTENSION_JSON + FILE_EXTENSION_GZIP);
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is {@link Deflater#NO_COMPRESSION}, or a GZIP compression level from
+     * {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns a {@code ContentWriter} that writes the contents written by {@code contentWriter} to {@code file}
+     * compressed in the GZIP format if {@code compressionLevel} is not {@link Deflater#NO_COMPRESSION}, or if
+     * {@code file} is named as a GZIP file, in which case the default compression level is used if none is given.
+     *
+     * @param compressionLevel must be valid according to {@link #isValidCompressionLevel(int)}.
+     */
+    public static ContentWriter withCompression(Path file, int compressionLevel, ContentWriter contentWriter) {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        assert isValidCompressionLevel(compressionLevel);
+
+        boolean isGzipFile = file.getFileName().toString().endsWith(FILE_EXTENSION_GZIP);
+        if (compressionLevel == Deflater.NO_COMPRESSION && !isGzipFile) {
+            return contentWriter;
+        }
+
+        int level = compressionLevel == Deflater.NO_COMPRESSION ? Deflater.DEFAULT_COMPRESSION : compressionLevel;
+        return out -> {
+            GzipContentStream gzipOut = new GzipContentStream(out, level);
+            try {
+                contentWriter.write(gzipOut);
+                // Finishing instead of closing the stream leaves out open, as required of a ContentWriter.
+                gzipOut.finish();
+            } finally {
+                gzipOut.releaseDeflater();
+            }
+        };
+    }
+
+    /**
+     * Returns a buffered stream of the contents of {@code file}, decompressed if they are in the GZIP format.
+     * Compressed contents are recognised by their first bytes instead of by the name of the file, so that they are
+     * read in the same way as contents that are not compressed. The stream must be closed after use.
+     *
+     * @throws IOException if the file cannot be opened, or its contents cannot be decompressed.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, STREAM_BUFFER_SIZE) : in;
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entry of {@code file} in its parent directory onto the storage device, so that a file that has just
+     * been moved into place stays there after a crash. Not all platforms allow a directory to be synced, so failures
+     * are ignored.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move has completed, and will reach the storage device when the platform flushes the directory.
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, which must not be closed.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A GZIP stream with the given compression level, which is finished instead of closed when written to a
+     * {@code ContentWriter}'s stream, so its deflater has to be released separately.
+     */
+    private static class GzipContentStream extends GZIPOutputStream {
+        GzipContentStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out, STREAM_BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+
+        /**
+         * Releases the native memory of the deflater, after which nothing more can be written.
+         */
+        void releaseDeflater() {
+            def.end();
+        }
     }
 
 }
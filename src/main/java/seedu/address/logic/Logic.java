@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +28,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command to be executed after all commands submitted before it, and returns without waiting for it.
+     * Exactly one of {@code onSuccess} and {@code onFailure} is called with the outcome of the command, unless it is
+     * cancelled by {@link #cancelQueuedCommands()} before it starts.
+     *
+     * @param commandText The command as entered by the user.
+     * @param onSuccess Called with the result of the command execution.
+     * @param onFailure Called with the {@code CommandException} or {@code ParseException} the command failed due to.
+     */
+    void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure);
+
+    /**
+     * Cancels the submitted commands that have not started to be executed, and returns the number cancelled.
+     * A command that has started cannot be cancelled, as its changes would be left half made.
+     */
+    int cancelQueuedCommands();
+
+    /**
+     * Stops accepting commands and changes to the user prefs, and waits for those given before to be done and for all
+     * data to be saved. Must be called on the thread that the model is changed on, if there is one.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -52,7 +77,7 @@ public interface Logic {
     Person getFirstPerson();
 
     /**
-     * Set the user prefs' GUI settings.
+     * Sets the user prefs' GUI settings, and saves them in the background.
      */
     void setGuiSettings(GuiSettings guiSettings);
 
@@ -61,6 +86,17 @@ public interface Logic {
      */
     ObservableList<Schedule> getFilteredScheduleList();
 
+    /**
+     * Returns the interview schedules of {@code candidate}.
+     */
+    List<Schedule> getSchedulesOfCandidate(Person candidate);
+
+    /**
+     * Returns the suggested completions of the last word of {@code commandText}, a command that is being typed.
+     * Only the keywords of a {@code find} command are completed, with words in the details of persons.
+     */
+    List<String> getSuggestions(String commandText);
+
     /**
      * Returns an unmodifiable view of the filtered list of job roles.
      */
@@ -72,9 +108,9 @@ public interface Logic {
     Path getScheduleBoardFilePath();
 
     /**
-     * Set the user prefs' theme in GUI settings.
+     * Set the user prefs' theme in GUI settings, and saves them in the background.
      */
-    void setTheme(Theme theme) throws CommandException;
+    void setTheme(Theme theme);
 
     /**
      * Returns the user pref's theme in GUI settings.
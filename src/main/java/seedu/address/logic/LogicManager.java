@@ -1,23 +1,42 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Theme;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.storage.Storage;
 
@@ -30,40 +49,275 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Maximum number of suggestions returned by {@link #getSuggestions(String)}. */
+    public static final int MAX_SUGGESTIONS = 8;
+
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to be executed";
+
+    private static final long SHUTDOWN_POLL_INTERVAL_MILLIS = 50;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor modelExecutor;
+    /** Tasks given to the model executor that have not been run, which {@link #shutdown()} runs while it waits. */
+    private final BlockingQueue<Runnable> unrunModelTasks = new LinkedBlockingQueue<>();
+    private final ThreadPoolExecutor commandRunner;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which runs submitted commands
+     * entirely on its own thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which changes the model of
+     * submitted commands, and reports their results, on {@code modelExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelExecutor) {
+        requireAllNonNull(model, storage, modelExecutor);
         this.model = model;
         this.storage = storage;
+        this.modelExecutor = task -> executeOnModelExecutor(modelExecutor, task);
         addressBookParser = new AddressBookParser();
+        commandRunner = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "command-runner");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> logger.warning("Ignored work given after shutting down"));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        Command command = parseCommand(commandText);
+        CommandResult commandResult = executeCommand(command);
+        saveData(command);
+        return commandResult;
+    }
+
+    @Override
+    public void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        requireAllNonNull(commandText, onSuccess, onFailure);
+        commandRunner.execute(new SubmittedCommand(commandText, onSuccess, onFailure));
+    }
+
+    @Override
+    public int cancelQueuedCommands() {
+        // Other work queued on the command runner, such as saving the user prefs, is left to run.
+        int cancelledCount = 0;
+        for (Runnable task : commandRunner.getQueue()) {
+            if (task instanceof SubmittedCommand && commandRunner.remove(task)) {
+                cancelledCount++;
+            }
+        }
+        logger.info("Cancelled " + cancelledCount + " queued commands");
+        return cancelledCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The data is saved by the command runner as its last task, and the tasks it gives the model executor meanwhile
+     * are run by this thread, which the model executor may be waiting for.
+     */
+    @Override
+    public void shutdown() {
+        commandRunner.execute(this::saveAllData);
+        commandRunner.shutdown();
+        try {
+            while (!commandRunner.isTerminated()) {
+                Runnable task = unrunModelTasks.poll(SHUTDOWN_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    task.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for commands to finish before shutting down");
+        }
+    }
+
+    /**
+     * Saves the data that has not been saved, and waits for all data to be written to disk.
+     */
+    private void saveAllData() {
+        try {
+            saveModifiedData();
+            storage.flush();
+        } catch (CommandException | IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+    }
 
+    /**
+     * Parses, prepares, executes and saves the data of a submitted command on the command runner thread. Only the
+     * execution of a command that changes the model, or the copying of the parts of the model shown in the UI that a
+     * command reads, is handed to the model executor.
+     */
+    private void runSubmittedCommand(String commandText, Consumer<CommandResult> onSuccess,
+            Consumer<Exception> onFailure) {
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            Command command = parseCommand(commandText);
+            command.prepare();
+            awaitPendingPersons();
+            if (command.readsOnlySnapshot()) {
+                // The snapshot has to include the persons still being loaded, as the model would.
+                callOnModelExecutor(() -> {
+                    model.addPendingPersons();
+                    command.copyFromModel(model);
+                    return null;
+                });
+                commandResult = command.execute(model);
+            } else {
+                commandResult = callOnModelExecutor(() -> executeCommand(command));
+            }
+            saveData(command);
+        } catch (CommandException | ParseException e) {
+            modelExecutor.execute(() -> onFailure.accept(e));
+            return;
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while executing command: " + commandText + " " + e);
+            modelExecutor.execute(() -> onFailure.accept(e));
+            return;
+        }
+
+        CommandResult result = commandResult;
+        modelExecutor.execute(() -> onSuccess.accept(result));
+    }
+
+    /**
+     * Waits for the persons still being loaded on the command runner thread, so that adding them on the model
+     * executor does not block it.
+     */
+    private void awaitPendingPersons() throws CommandException {
+        try {
+            model.awaitPendingPersons();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, e);
+        }
+    }
+
+    /**
+     * Runs {@code task} on {@code modelExecutor}, unless {@link #shutdown()} runs it first.
+     */
+    private void executeOnModelExecutor(Executor modelExecutor, Runnable task) {
+        AtomicBoolean hasStarted = new AtomicBoolean();
+        Runnable taskRunOnce = new Runnable() {
+            @Override
+            public void run() {
+                if (hasStarted.compareAndSet(false, true)) {
+                    unrunModelTasks.remove(this);
+                    task.run();
+                }
+            }
+        };
+        unrunModelTasks.add(taskRunOnce);
+        modelExecutor.execute(taskRunOnce);
+    }
+
+    /**
+     * Runs {@code task} on the model executor and waits for its result.
+     */
+    private <T> T callOnModelExecutor(ModelTask<T> task) throws CommandException {
+        CompletableFuture<T> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, modelExecutor);
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException commandException) {
+                throw commandException;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new AssertionError("Unexpected checked exception", e.getCause());
+        }
+    }
+
+    private Command parseCommand(String commandText) throws ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return addressBookParser.parseCommand(commandText);
+    }
+
+    /**
+     * Executes {@code command} on the model, whose changes are committed even if the command fails.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        // Commands must see, and saves must write, the whole address book.
+        model.addPendingPersons();
+
+        try {
+            return command.execute(model);
+        } finally {
+            // Changes made by a command, even one that fails part way, are undone together.
+            model.commitChanges();
+        }
+    }
 
+    /**
+     * Saves the data changed by {@code command}, and waits for it to be written to disk if the command requires it.
+     */
+    private void saveData(Command command) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveScheduleBoard(model.getScheduleBoard());
-            storage.saveUserPrefs(model.getUserPrefs());
+            if (command.isMutating()) {
+                saveModifiedData();
+            }
+            if (command.requiresDurableSave()) {
+                storage.flush();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Saves only the parts of the model that have changed since they were last saved.
+     * The model is read, and marked as saved, only on the model executor, so the user prefs, which are not in the
+     * model's snapshot, are copied there. Data is saved from the snapshot of the model taken when the command's changes
+     * were committed, which storage can read without copying it.
+     */
+    private void saveModifiedData() throws CommandException, IOException {
+        UnsavedData unsavedData = callOnModelExecutor(this::getUnsavedData);
+        try {
+            unsavedData.saveTo(storage);
+        } finally {
+            // The model may have changed since it was copied, so only the versions copied are marked as saved.
+            modelExecutor.execute(() -> unsavedData.markSaved(model));
+        }
+    }
+
+    /**
+     * Returns the parts of the model that have changed since they were last saved, with the versions they were copied
+     * at. Must be called on the model executor.
+     */
+    private UnsavedData getUnsavedData() {
+        // Commands commit their changes before they are saved, so the snapshot is of the current versions.
+        ModelSnapshot snapshot = model.getSnapshot();
+        return new UnsavedData(
+                model.hasUnsavedAddressBookChanges() ? snapshot.getAddressBook() : null,
+                model.getAddressBookVersion(),
+                model.hasUnsavedScheduleBoardChanges() ? snapshot.getScheduleBoard() : null,
+                model.getScheduleBoardVersion(),
+                model.hasUnsavedUserPrefsChanges() ? new UserPrefs(model.getUserPrefs()) : null,
+                model.getUserPrefsVersion());
     }
 
     @Override
@@ -86,9 +340,13 @@ public class LogicManager implements Logic {
         return model.getGuiSettings();
     }
 
+    /**
+     * {@inheritDoc}
+     * The GUI settings are set, and the user prefs saved, by the command runner, as in {@link #setTheme(Theme)}.
+     */
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        changeUserPrefs(model -> model.setGuiSettings(guiSettings));
     }
 
     @Override
@@ -96,6 +354,25 @@ public class LogicManager implements Logic {
         return model.getFirstPerson();
     }
 
+    @Override
+    public List<Schedule> getSchedulesOfCandidate(Person candidate) {
+        return model.getSchedulesOfCandidate(candidate);
+    }
+
+    @Override
+    public List<String> getSuggestions(String commandText) {
+        String[] words = commandText.stripLeading().split("\\s+", -1);
+        if (words.length < 2 || !words[0].equals(FindCommand.COMMAND_WORD)) {
+            return List.of();
+        }
+
+        String lastWord = words[words.length - 1];
+        if (lastWord.isEmpty() || FindCommand.PARTIAL_MATCH_FLAG.startsWith(lastWord)) {
+            return List.of();
+        }
+        return model.getDetailWordsStartingWith(lastWord, MAX_SUGGESTIONS);
+    }
+
     @Override
     public ObservableList<Schedule> getFilteredScheduleList() {
         return model.getFilteredScheduleList();
@@ -115,15 +392,117 @@ public class LogicManager implements Logic {
         return getGuiSettings().getTheme();
     }
 
+    /**
+     * {@inheritDoc}
+     * The theme is set, and the user prefs saved, by the command runner after the commands submitted before it, so
+     * that the user prefs are only ever saved on that thread.
+     */
     @Override
-    public void setTheme(Theme theme) throws CommandException {
-        getGuiSettings().setTheme(theme);
-        model.setTheme(theme);
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    public void setTheme(Theme theme) {
+        changeUserPrefs(model -> model.setTheme(theme));
+    }
+
+    /**
+     * Makes {@code change} to the user prefs of the model on the model executor, and saves them, on the command runner.
+     */
+    private void changeUserPrefs(Consumer<Model> change) {
+        commandRunner.execute(() -> {
+            try {
+                callOnModelExecutor(() -> {
+                    change.accept(model);
+                    return null;
+                });
+                saveModifiedData();
+            } catch (CommandException | IOException e) {
+                logger.warning("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * A submitted command queued on the command runner, which is told apart from its other work so that it can be
+     * cancelled.
+     */
+    private class SubmittedCommand implements Runnable {
+        private final String commandText;
+        private final Consumer<CommandResult> onSuccess;
+        private final Consumer<Exception> onFailure;
+
+        SubmittedCommand(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+            this.commandText = commandText;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
         }
 
+        @Override
+        public void run() {
+            runSubmittedCommand(commandText, onSuccess, onFailure);
+        }
+    }
+
+    /**
+     * A part of running a submitted command that is run on the model executor.
+     */
+    @FunctionalInterface
+    private interface ModelTask<T> {
+        T call() throws CommandException;
+    }
+
+    /**
+     * The parts of a model that have not been saved, each of which is null if it has been, and the versions of the
+     * model's parts they were copied at.
+     */
+    private static class UnsavedData {
+        private final ReadOnlyAddressBook addressBook;
+        private final long addressBookVersion;
+        private final ReadOnlyScheduleBoard scheduleBoard;
+        private final long scheduleBoardVersion;
+        private final ReadOnlyUserPrefs userPrefs;
+        private final long userPrefsVersion;
+        private boolean isAddressBookSaved;
+        private boolean isScheduleBoardSaved;
+        private boolean isUserPrefsSaved;
+
+        UnsavedData(ReadOnlyAddressBook addressBook, long addressBookVersion, ReadOnlyScheduleBoard scheduleBoard,
+                long scheduleBoardVersion, ReadOnlyUserPrefs userPrefs, long userPrefsVersion) {
+            this.addressBook = addressBook;
+            this.addressBookVersion = addressBookVersion;
+            this.scheduleBoard = scheduleBoard;
+            this.scheduleBoardVersion = scheduleBoardVersion;
+            this.userPrefs = userPrefs;
+            this.userPrefsVersion = userPrefsVersion;
+        }
+
+        void saveTo(Storage storage) throws IOException {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+                isAddressBookSaved = true;
+            }
+            if (scheduleBoard != null) {
+                storage.saveScheduleBoard(scheduleBoard);
+                isScheduleBoardSaved = true;
+            }
+            if (userPrefs != null) {
+                storage.saveUserPrefs(userPrefs);
+                isUserPrefsSaved = true;
+            }
+        }
+
+        /**
+         * Marks the versions of the parts of {@code model} saved by {@link #saveTo(Storage)} as saved, so that changes
+         * made to them after they were copied are still unsaved.
+         * Must be called on the model executor.
+         */
+        void markSaved(Model model) {
+            if (isAddressBookSaved) {
+                model.markAddressBookSaved(addressBookVersion);
+            }
+            if (isScheduleBoardSaved) {
+                model.markScheduleBoardSaved(scheduleBoardVersion);
+            }
+            if (isUserPrefsSaved) {
+                model.markUserPrefsSaved(userPrefsVersion);
+            }
+        }
     }
 }
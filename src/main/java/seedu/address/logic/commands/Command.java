@@ -17,4 +17,47 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Does the work of this command that neither reads nor changes the model, such as reading files, so that it can be
+     * done on a thread other than the one the model is changed on before the command is executed.
+     * Commands that override this should do the work in {@link #execute(Model)} if this has not been called.
+     *
+     * @throws CommandException If an error occurs while doing the work.
+     */
+    public void prepare() throws CommandException {}
+
+    /**
+     * Copies the parts of the model, other than its snapshot, that executing this command reads, such as its filtered
+     * lists. Called on the thread the model is changed on before a command that {@link #readsOnlySnapshot()} is
+     * executed on another thread.
+     * Commands that override this should read the model itself in {@link #execute(Model)} if this has not been called.
+     */
+    public void copyFromModel(Model model) {}
+
+    /**
+     * Returns true if executing this command may modify the data held by the model.
+     * Read-only commands should override this to return false so that no data is written to disk after they run.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if all data saved so far must be written to disk before this command's result is returned.
+     */
+    public boolean requiresDurableSave() {
+        return false;
+    }
+
+    /**
+     * Returns true if executing this command only reads the model's snapshot, and what it copies from the model in
+     * {@link #copyFromModel(Model)}, and does not change the model, so that it can be executed on a thread other than
+     * the one the model is changed on.
+     *
+     * @see Model#getSnapshot()
+     */
+    public boolean readsOnlySnapshot() {
+        return false;
+    }
+
 }
@@ -11,7 +11,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -106,7 +105,6 @@ public class EditCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Schedule> currentScheduleList = model.getFilteredScheduleList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
@@ -114,7 +112,6 @@ public class EditCommand extends Command {
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
-        List<Schedule> schedulesToEditCandidate = new ArrayList<>();
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
@@ -124,14 +121,8 @@ public class EditCommand extends Command {
             throw new CommandException(JobRole.MESSAGE_EXISTING_CONSTRAINTS);
         }
 
-        for (int i = 0; i < currentScheduleList.size(); i++) {
-            if (personToEdit.getEmail().equals(currentScheduleList.get(i).getCandidateEmail())) {
-                schedulesToEditCandidate.add(currentScheduleList.get(i));
-            }
-        }
-
-        for (int i = 0; i < schedulesToEditCandidate.size(); i++) {
-            model.editCandidateInSchedule(schedulesToEditCandidate.get(i), editedPerson);
+        for (Schedule schedule : model.getSchedulesOfCandidate(personToEdit)) {
+            model.editCandidateInSchedule(schedule, editedPerson);
         }
 
         model.setPerson(personToEdit, editedPerson);
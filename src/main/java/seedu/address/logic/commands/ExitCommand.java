@@ -17,4 +17,14 @@ public class ExitCommand extends Command {
                 null);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresDurableSave() {
+        return true;
+    }
+
 }
@@ -0,0 +1,220 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.LogicManager.FILE_OPS_ERROR_FORMAT;
+import static seedu.address.logic.LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_FILE_EXISTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_OVERWRITE_FILE;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_SAVE_ALL;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.csv.CsvColumn;
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.storage.ManualStorage;
+
+/**
+ * Exports candidates and interview schedules to CSV files.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the candidates and interview schedules shown in the application to CSV files "
+            + "at the paths provided, one row for each of them after a header row. "
+            + "Existing files **will not** be overwritten.\n"
+            + "Parameters: " + PREFIX_CANDIDATES_FILE_PATH + "CANDIDATES_CSV_FILE_PATH"
+            + " " + PREFIX_SCHEDULES_FILE_PATH + "SCHEDULES_CSV_FILE_PATH"
+            + " [" + PREFIX_CANDIDATE_COLUMNS + "CANDIDATE_COLUMNS] [" + PREFIX_SCHEDULE_COLUMNS + "SCHEDULE_COLUMNS]"
+            + " [" + SUFFIX_SAVE_ALL + " (export all)] [" + SUFFIX_OVERWRITE_FILE + " (overwrite file)]\n"
+            + "You should provide at least one out of the two file paths. "
+            + "Columns are given as comma-separated headers, in order.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv "
+            + PREFIX_CANDIDATE_COLUMNS + "name,email,phone";
+    public static final String MESSAGE_EXPORT_CANDIDATES_SUCCESS = "Exported %1$d candidates to file at: '%2$s'";
+    public static final String MESSAGE_EXPORT_SCHEDULES_SUCCESS =
+            "Exported %1$d interview schedules to file at: '%2$s'";
+
+    private final Path candidatesFilePath;
+    private final Path schedulesFilePath;
+    private final List<PersonCsvColumn> candidateColumns;
+    private final List<ScheduleCsvColumn> scheduleColumns;
+    private final boolean shouldExportAllData;
+    private final boolean shouldOverwriteFile;
+
+    private List<Person> shownPersons;
+    private List<Schedule> shownSchedules;
+
+    /**
+     * Creates an {@code ExportCommand}. At least one of {@code candidatesFilePath} and {@code schedulesFilePath} must
+     * not be {@link ManualStorage#EMPTY_PATH}.
+     *
+     * @param candidateColumns Columns to write candidates in, where null columns are left empty.
+     * @param scheduleColumns Columns to write interview schedules in, where null columns are left empty.
+     * @param shouldExportAllData Whether to export all data (instead of exporting filtered ones)
+     * @param shouldOverwriteFile Whether to overwrite existing files
+     */
+    public ExportCommand(Path candidatesFilePath, Path schedulesFilePath, List<PersonCsvColumn> candidateColumns,
+            List<ScheduleCsvColumn> scheduleColumns, boolean shouldExportAllData, boolean shouldOverwriteFile) {
+        requireAllNonNull(candidatesFilePath, schedulesFilePath, candidateColumns, scheduleColumns);
+        assert !candidatesFilePath.equals(ManualStorage.EMPTY_PATH)
+                || !schedulesFilePath.equals(ManualStorage.EMPTY_PATH);
+
+        this.candidatesFilePath = candidatesFilePath;
+        this.schedulesFilePath = schedulesFilePath;
+        this.candidateColumns = candidateColumns;
+        this.scheduleColumns = scheduleColumns;
+        this.shouldExportAllData = shouldExportAllData;
+        this.shouldOverwriteFile = shouldOverwriteFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        boolean hasCandidatesFile = !candidatesFilePath.equals(ManualStorage.EMPTY_PATH);
+        boolean hasSchedulesFile = !schedulesFilePath.equals(ManualStorage.EMPTY_PATH);
+        if (hasCandidatesFile) {
+            checkCanWriteToFile(candidatesFilePath);
+        }
+        if (hasSchedulesFile) {
+            checkCanWriteToFile(schedulesFilePath);
+        }
+
+        List<String> messages = new ArrayList<>();
+        try {
+            if (hasCandidatesFile) {
+                List<Person> persons = shouldExportAllData
+                        ? model.getSnapshot().getAddressBook().getPersonList()
+                        : shownPersons != null ? shownPersons : model.getFilteredPersonList();
+                writeRecords(candidatesFilePath, candidateColumns, persons);
+                messages.add(String.format(MESSAGE_EXPORT_CANDIDATES_SUCCESS, persons.size(),
+                        getFilePathAsString(candidatesFilePath)));
+            }
+            if (hasSchedulesFile) {
+                List<Schedule> schedules = shouldExportAllData
+                        ? model.getSnapshot().getScheduleBoard().getScheduleList()
+                        : shownSchedules != null ? shownSchedules : model.getFilteredScheduleList();
+                writeRecords(schedulesFilePath, scheduleColumns, schedules);
+                messages.add(String.format(MESSAGE_EXPORT_SCHEDULES_SUCCESS, schedules.size(),
+                        getFilePathAsString(schedulesFilePath)));
+            }
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+
+        return new CommandResult(String.join(System.lineSeparator(), messages));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean readsOnlySnapshot() {
+        return true;
+    }
+
+    /**
+     * Copies the candidates and interview schedules shown, if only they are exported, so that they can be written out
+     * on another thread.
+     */
+    @Override
+    public void copyFromModel(Model model) {
+        if (shouldExportAllData) {
+            return;
+        }
+        shownPersons = List.copyOf(model.getFilteredPersonList());
+        shownSchedules = List.copyOf(model.getFilteredScheduleList());
+    }
+
+    private void checkCanWriteToFile(Path filePath) throws CommandException {
+        if (filePath.toFile().exists() && !shouldOverwriteFile) {
+            throw new CommandException(String.format(MESSAGE_FILE_EXISTS, getFilePathAsString(filePath)));
+        }
+    }
+
+    /**
+     * Writes a header row of {@code columns}, then one row for each of {@code records}, to {@code filePath}.
+     * Rows are written out as they are made instead of being built up in memory first.
+     */
+    private static <T> void writeRecords(Path filePath, List<? extends CsvColumn<T>> columns, List<T> records)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, out -> writeRecords(out, columns, records), false);
+    }
+
+    private static <T> void writeRecords(OutputStream out, List<? extends CsvColumn<T>> columns, List<T> records)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        List<String> fields = new ArrayList<>(columns.size());
+        for (CsvColumn<T> column : columns) {
+            fields.add(column == null ? "" : column.getHeader());
+        }
+        writer.write(CsvUtil.toRecord(fields));
+
+        for (T record : records) {
+            fields.clear();
+            for (CsvColumn<T> column : columns) {
+                fields.add(column == null ? "" : column.getValue(record));
+            }
+            writer.write(CsvUtil.toRecord(fields));
+        }
+        // Flushing instead of closing the writer leaves out open, as required of a ContentWriter.
+        writer.flush();
+    }
+
+    private static String getFilePathAsString(Path filePath) {
+        return filePath.toAbsolutePath().normalize().toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ExportCommand otherExportCommand)) {
+            return false;
+        }
+
+        return candidatesFilePath.equals(otherExportCommand.candidatesFilePath)
+                && schedulesFilePath.equals(otherExportCommand.schedulesFilePath)
+                && candidateColumns.equals(otherExportCommand.candidateColumns)
+                && scheduleColumns.equals(otherExportCommand.scheduleColumns)
+                && shouldExportAllData == otherExportCommand.shouldExportAllData
+                && shouldOverwriteFile == otherExportCommand.shouldOverwriteFile;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("candidatesFilePath", candidatesFilePath)
+                .add("schedulesFilePath", schedulesFilePath)
+                .add("candidateColumns", candidateColumns)
+                .add("scheduleColumns", scheduleColumns)
+                .add("shouldExportAllData", shouldExportAllData)
+                .add("shouldOverwriteFile", shouldOverwriteFile)
+                .toString();
+    }
+}
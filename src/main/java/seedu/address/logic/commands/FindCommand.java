@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,19 +11,27 @@ import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ *
+ * Persons whose details contain any of the keywords, as whole words or as part of a word, are looked up in the
+ * address book's search index instead of testing every person against the keywords.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String PARTIAL_MATCH_FLAG = "--partial";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PARTIAL_MATCH_FLAG + ", keywords may match any part of a word.\n"
+            + "Parameters: [" + PARTIAL_MATCH_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PARTIAL_MATCH_FLAG + " ali";
 
     private final Predicate<Person> predicate;
 
@@ -34,14 +43,31 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public FindCommand(PersonDetailsContainPartialKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate instanceof PersonDetailsContainKeywordsPredicate detailsPredicate) {
+            Set<Person> matches = model.findPersons(detailsPredicate.getKeywords());
+            model.updateFilteredPersonList(matches::contains);
+        } else if (predicate instanceof PersonDetailsContainPartialKeywordsPredicate partialPredicate) {
+            Set<Person> matches = model.findPersonsPartially(partialPredicate.getKeywords());
+            model.updateFilteredPersonList(matches::contains);
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
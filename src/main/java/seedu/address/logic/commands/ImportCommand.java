@@ -0,0 +1,405 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_SCHEDULE_TIMING_CLASH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.csv.CsvColumn;
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleIndex;
+import seedu.address.storage.AddressBookEntries;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.ManualStorage;
+
+/**
+ * Imports candidates and interview schedules from CSV files, or candidates from a JSON address book file.
+ *
+ * The rows of each file are read and validated in batches, with the rows of a batch validated in parallel. Rows that
+ * are invalid, or that conflict with existing data, are skipped and reported. All other rows are then added to the
+ * address book and schedule board at once, so that they are saved together.
+ * The files are read and their rows validated by {@link #prepare()}, so that the thread the model is changed on only
+ * checks them against the model and adds them.
+ * The persons of a JSON file are read and validated in the same way, and the job roles in it that are not yet saved
+ * are added along with them.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports candidates and interview schedules from CSV files at the paths provided. "
+            + "The first row of each file is a header row naming the column of each field, unless columns are "
+            + "given, in which case it is skipped. Rows with errors are skipped.\n"
+            + "Candidates can also be imported from a file saved by the save command, ending with .json or .json.gz, "
+            + "along with its job roles.\n"
+            + "Parameters: " + PREFIX_CANDIDATES_FILE_PATH + "CANDIDATES_CSV_FILE_PATH"
+            + " " + PREFIX_SCHEDULES_FILE_PATH + "SCHEDULES_CSV_FILE_PATH"
+            + " [" + PREFIX_CANDIDATE_COLUMNS + "CANDIDATE_COLUMNS] [" + PREFIX_SCHEDULE_COLUMNS + "SCHEDULE_COLUMNS]\n"
+            + "You should provide at least one out of the two file paths. "
+            + "Columns are given as comma-separated headers, in order, with a blank header for each column to skip.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv "
+            + PREFIX_SCHEDULES_FILE_PATH + "schedules.csv";
+    public static final String MESSAGE_IMPORT_CANDIDATES_SUCCESS = "Imported %1$d candidates from file at: '%2$s'";
+    public static final String MESSAGE_IMPORT_SCHEDULES_SUCCESS =
+            "Imported %1$d interview schedules from file at: '%2$s'";
+    public static final String MESSAGE_ROWS_SKIPPED = "Skipped %1$d rows with errors:";
+    public static final String MESSAGE_ROW_ERROR = "%1$s, row %2$d: %3$s";
+    public static final String MESSAGE_ENTRY_ERROR = "%1$s, person %2$d: %3$s";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "... and %1$d more";
+    public static final String MESSAGE_FILE_NOT_FOUND = "No file found at: '%1$s'";
+    public static final String MESSAGE_NO_HEADER_ROW = "File at '%1$s' has no header row";
+    public static final String MESSAGE_MISSING_COLUMNS = "File at '%1$s' is missing required columns: %2$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read data due to the following error: %s";
+    public static final String MESSAGE_UNKNOWN_JOB_ROLE = "Job role not recognised! Use addJ to add it first.";
+    public static final String MESSAGE_UNKNOWN_CANDIDATE = "No candidate with email %1$s in the address book";
+
+    /** Number of rows read from a file before they are validated together. */
+    static final int BATCH_SIZE = 1024;
+
+    /** Number of skipped rows listed in the result, after which only the number of the others is given. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path candidatesFilePath;
+    private final Path schedulesFilePath;
+    private final Optional<List<PersonCsvColumn>> candidateColumns;
+    private final Optional<List<ScheduleCsvColumn>> scheduleColumns;
+
+    private boolean isPrepared;
+    private List<JobRole> fileJobRoles = List.of();
+    private List<Row<Person>> candidateRows;
+    private List<Row<Schedule>> scheduleRows;
+
+    /**
+     * Creates an {@code ImportCommand}. At least one of {@code candidatesFilePath} and {@code schedulesFilePath} must
+     * not be {@link ManualStorage#EMPTY_PATH}.
+     *
+     * @param candidateColumns Columns of the candidates file, where null columns are skipped, or empty to read them
+     *     from its header row. Must be empty if the candidates file is a JSON file.
+     * @param scheduleColumns Columns of the schedules file, where null columns are skipped, or empty to read them
+     *     from its header row.
+     */
+    public ImportCommand(Path candidatesFilePath, Path schedulesFilePath,
+            Optional<List<PersonCsvColumn>> candidateColumns, Optional<List<ScheduleCsvColumn>> scheduleColumns) {
+        requireAllNonNull(candidatesFilePath, schedulesFilePath, candidateColumns, scheduleColumns);
+        assert !candidatesFilePath.equals(ManualStorage.EMPTY_PATH)
+                || !schedulesFilePath.equals(ManualStorage.EMPTY_PATH);
+        assert !FileUtil.isJsonFile(candidatesFilePath) || candidateColumns.isEmpty();
+
+        this.candidatesFilePath = candidatesFilePath;
+        this.schedulesFilePath = schedulesFilePath;
+        this.candidateColumns = candidateColumns;
+        this.scheduleColumns = scheduleColumns;
+    }
+
+    /**
+     * Reads and validates the rows of the files, which does not need the model.
+     */
+    @Override
+    public void prepare() throws CommandException {
+        if (FileUtil.isJsonFile(candidatesFilePath)) {
+            AddressBookEntries entries = readEntries(candidatesFilePath);
+            List<Row<Person>> rows = new ArrayList<>(entries.getPersonCount());
+            for (int i = 0; i < entries.getPersonCount(); i++) {
+                rows.add(new Row<>(i + 1, entries.getPerson(i).orElse(null), entries.getError(i).orElse(null)));
+            }
+            fileJobRoles = entries.getJobRoles();
+            candidateRows = rows;
+        } else if (!candidatesFilePath.equals(ManualStorage.EMPTY_PATH)) {
+            candidateRows = readRows(candidatesFilePath, candidateColumns, PersonCsvColumn.class,
+                    PersonCsvColumn::toPerson);
+        }
+
+        if (!schedulesFilePath.equals(ManualStorage.EMPTY_PATH)) {
+            scheduleRows = readRows(schedulesFilePath, scheduleColumns, ScheduleCsvColumn.class,
+                    ScheduleCsvColumn::toSchedule);
+        }
+        isPrepared = true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        // Both files are read before the model is changed, so that it is left as it is if either cannot be read.
+        if (!isPrepared) {
+            prepare();
+        }
+        List<String> messages = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        List<JobRole> jobRolesToAdd = new ArrayList<>();
+        fileJobRoles.stream().filter(jobRole -> !model.hasJobRole(jobRole)).forEach(jobRolesToAdd::add);
+        List<Person> personsToAdd = new ArrayList<>();
+        if (candidateRows != null) {
+            String errorFormat = FileUtil.isJsonFile(candidatesFilePath) ? MESSAGE_ENTRY_ERROR : MESSAGE_ROW_ERROR;
+            personsToAdd = acceptPersons(model, jobRolesToAdd, candidateRows, errorFormat, errors);
+            messages.add(String.format(MESSAGE_IMPORT_CANDIDATES_SUCCESS, personsToAdd.size(),
+                    getFilePathAsString(candidatesFilePath)));
+        }
+
+        List<Schedule> schedulesToAdd = new ArrayList<>();
+        if (scheduleRows != null) {
+            schedulesToAdd = acceptSchedules(model, personsToAdd, scheduleRows, errors);
+            messages.add(String.format(MESSAGE_IMPORT_SCHEDULES_SUCCESS, schedulesToAdd.size(),
+                    getFilePathAsString(schedulesFilePath)));
+        }
+
+        jobRolesToAdd.forEach(model::addJobRole);
+        if (!personsToAdd.isEmpty()) {
+            model.addPersons(personsToAdd);
+        }
+        if (!schedulesToAdd.isEmpty()) {
+            model.addSchedules(schedulesToAdd);
+        }
+
+        if (!errors.isEmpty()) {
+            messages.add(String.format(MESSAGE_ROWS_SKIPPED, errors.size()));
+            messages.addAll(errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+            if (errors.size() > MAX_REPORTED_ERRORS) {
+                messages.add(String.format(MESSAGE_MORE_ROWS_SKIPPED, errors.size() - MAX_REPORTED_ERRORS));
+            }
+        }
+        return new CommandResult(String.join(System.lineSeparator(), messages));
+    }
+
+    /**
+     * Reads the rows of the CSV file at {@code filePath} into records using {@code parser}, or into the errors of the
+     * rows that cannot be parsed.
+     *
+     * @param columns Columns of the file, or empty to read them from its header row.
+     * @throws CommandException if the file cannot be read, or does not have all required columns.
+     */
+    private static <C extends Enum<C> & CsvColumn<T>, T> List<Row<T>> readRows(Path filePath,
+            Optional<List<C>> columns, Class<C> columnType, RecordParser<C, T> parser) throws CommandException {
+        List<Row<T>> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(FileUtil.newInputStream(filePath), StandardCharsets.UTF_8))) {
+            List<String> header = CsvUtil.readRecord(reader);
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_NO_HEADER_ROW, getFilePathAsString(filePath)));
+            }
+            List<C> fileColumns = columns.isPresent() ? columns.get() : parseHeader(header, columnType);
+            checkRequiredColumns(filePath, fileColumns, columnType);
+
+            // The header is the first row, as numbered in spreadsheets.
+            int rowNumber = 1;
+            List<Row<List<String>>> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> fields;
+            while ((fields = CsvUtil.readRecord(reader)) != null) {
+                rowNumber++;
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                batch.add(new Row<>(rowNumber, fields, null));
+                if (batch.size() == BATCH_SIZE) {
+                    parseBatch(batch, fileColumns, parser, rows);
+                    batch.clear();
+                }
+            }
+            parseBatch(batch, fileColumns, parser, rows);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, getFilePathAsString(filePath)), e);
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, ioe.getMessage()), ioe);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the job roles and persons of the JSON address book file at {@code filePath}.
+     *
+     * @throws CommandException if the file cannot be read, or a job role in it is invalid.
+     */
+    private static AddressBookEntries readEntries(Path filePath) throws CommandException {
+        try {
+            return new JsonAddressBookStorage(filePath).readAddressBookEntries(filePath)
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_FILE_NOT_FOUND,
+                            getFilePathAsString(filePath))));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, e.getCause().getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses the rows of {@code batch} in parallel, then adds them to {@code rows} in order.
+     */
+    private static <C, T> void parseBatch(List<Row<List<String>>> batch, List<C> columns, RecordParser<C, T> parser,
+            List<Row<T>> rows) {
+        List<Row<T>> parsedRows = new ArrayList<>(Collections.nCopies(batch.size(), null));
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            Row<List<String>> row = batch.get(i);
+            try {
+                parsedRows.set(i, new Row<>(row.number, parser.parse(columns, row.value), null));
+            } catch (ParseException | IllegalArgumentException e) {
+                parsedRows.set(i, new Row<>(row.number, null, e.getMessage()));
+            }
+        });
+        rows.addAll(parsedRows);
+    }
+
+    private static <C extends Enum<C> & CsvColumn<?>> List<C> parseHeader(List<String> header, Class<C> columnType)
+            throws CommandException {
+        try {
+            return ParserUtil.parseCsvColumns(header, columnType);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+    }
+
+    private static <C extends Enum<C> & CsvColumn<?>> void checkRequiredColumns(Path filePath, List<C> columns,
+            Class<C> columnType) throws CommandException {
+        String missingColumns = Arrays.stream(columnType.getEnumConstants())
+                .filter(column -> column.isRequired() && !columns.contains(column))
+                .map(CsvColumn::getHeader)
+                .collect(Collectors.joining(", "));
+        if (!missingColumns.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, getFilePathAsString(filePath),
+                    missingColumns));
+        }
+    }
+
+    /**
+     * Returns the persons of {@code rows} that can be added to the model once {@code jobRolesToAdd} are, adding the
+     * errors of the other rows to {@code errors} in {@code errorFormat}.
+     * Duplicates are found by hashing names, so each row is checked in constant time.
+     */
+    private List<Person> acceptPersons(Model model, List<JobRole> jobRolesToAdd, List<Row<Person>> rows,
+            String errorFormat, List<String> errors) {
+        String fileName = candidatesFilePath.getFileName().toString();
+        Set<JobRole> jobRoles = new HashSet<>(model.getFilteredJobRolesList());
+        jobRoles.addAll(jobRolesToAdd);
+        Set<Name> names = new HashSet<>();
+        List<Person> acceptedPersons = new ArrayList<>();
+
+        for (Row<Person> row : rows) {
+            Person person = row.value;
+            if (row.error != null) {
+                errors.add(String.format(errorFormat, fileName, row.number, row.error));
+            } else if (!jobRoles.containsAll(person.getJobRoles())) {
+                errors.add(String.format(errorFormat, fileName, row.number, MESSAGE_UNKNOWN_JOB_ROLE));
+            } else if (model.hasPerson(person) || !names.add(person.getName())) {
+                errors.add(String.format(errorFormat, fileName, row.number, AddCommand.MESSAGE_DUPLICATE_PERSON));
+            } else {
+                acceptedPersons.add(person);
+            }
+        }
+        return acceptedPersons;
+    }
+
+    /**
+     * Returns the schedules of {@code rows} that can be added to the model once {@code personsToAdd} are, adding the
+     * errors of the other rows to {@code errors}.
+     */
+    private List<Schedule> acceptSchedules(Model model, List<Person> personsToAdd, List<Row<Schedule>> rows,
+            List<String> errors) {
+        String fileName = schedulesFilePath.getFileName().toString();
+        Set<Email> candidateEmails = new HashSet<>();
+        model.getAddressBook().getPersonList().forEach(person -> candidateEmails.add(person.getEmail()));
+        personsToAdd.forEach(person -> candidateEmails.add(person.getEmail()));
+        ScheduleIndex acceptedScheduleIndex = new ScheduleIndex();
+        List<Schedule> acceptedSchedules = new ArrayList<>();
+
+        for (Row<Schedule> row : rows) {
+            Schedule schedule = row.value;
+            if (row.error != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, fileName, row.number, row.error));
+            } else if (!candidateEmails.contains(schedule.getCandidateEmail())) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, fileName, row.number,
+                        String.format(MESSAGE_UNKNOWN_CANDIDATE, schedule.getCandidateEmail())));
+            } else if (model.hasSameDateTime(schedule) || acceptedScheduleIndex.hasClash(schedule, null)
+                    || !acceptedScheduleIndex.add(schedule)) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, fileName, row.number, MESSAGE_SCHEDULE_TIMING_CLASH));
+            } else {
+                acceptedSchedules.add(schedule);
+            }
+        }
+        return acceptedSchedules;
+    }
+
+    private static String getFilePathAsString(Path filePath) {
+        return filePath.toAbsolutePath().normalize().toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return candidatesFilePath.equals(otherImportCommand.candidatesFilePath)
+                && schedulesFilePath.equals(otherImportCommand.schedulesFilePath)
+                && candidateColumns.equals(otherImportCommand.candidateColumns)
+                && scheduleColumns.equals(otherImportCommand.scheduleColumns);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("candidatesFilePath", candidatesFilePath)
+                .add("schedulesFilePath", schedulesFilePath)
+                .add("candidateColumns", candidateColumns)
+                .add("scheduleColumns", scheduleColumns)
+                .toString();
+    }
+
+    /**
+     * A record read from a row of a CSV file or an entry of a JSON file, or the error that it could not be read due to.
+     */
+    private static class Row<T> {
+        private final int number;
+        private final T value;
+        private final String error;
+
+        Row(int number, T value, String error) {
+            this.number = number;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Parses the fields of a CSV record in the given columns into a record.
+     */
+    @FunctionalInterface
+    private interface RecordParser<C, T> {
+        T parse(List<C> columns, List<String> fields) throws ParseException;
+    }
+}
@@ -23,4 +23,9 @@ public class ListJCommand extends Command {
         }
         return new CommandResult(String.format(MESSAGE_SUCCESS, rolesDisplay));
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
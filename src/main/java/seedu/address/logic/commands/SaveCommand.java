@@ -15,10 +15,13 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookView;
 import seedu.address.model.Model;
-import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoardView;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonScheduleBoardStorage;
@@ -47,6 +50,9 @@ public class SaveCommand extends Command {
     private final boolean shouldSaveAllData;
     private final boolean shouldOverwriteFile;
 
+    private ReadOnlyAddressBook shownAddressBook;
+    private ReadOnlyScheduleBoard shownScheduleBoard;
+
     /**
      * Constructor for {@code SaveCommand}. At least one of {@code candidateDetailsFilePath}
      * and {@code schedulesFilePath} must not be {@link ManualStorage#EMPTY_PATH}
@@ -90,6 +96,36 @@ public class SaveCommand extends Command {
         return new CommandResult(successMessage.toString());
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresDurableSave() {
+        return true;
+    }
+
+    @Override
+    public boolean readsOnlySnapshot() {
+        return true;
+    }
+
+    /**
+     * Copies the candidates and interview schedules shown, if only they are saved, so that they can be written out on
+     * another thread.
+     */
+    @Override
+    public void copyFromModel(Model model) {
+        if (shouldSaveAllData) {
+            return;
+        }
+        shownAddressBook = new AddressBookView(
+                FXCollections.observableArrayList(model.getAddressBook().getJobRoleList()),
+                FXCollections.observableArrayList(model.getFilteredPersonList()));
+        shownScheduleBoard = new ScheduleBoardView(FXCollections.observableArrayList(model.getFilteredScheduleList()));
+    }
+
     /**
      * Defensive programming: Asserts to ensure file paths provided are valid
      *
@@ -123,7 +159,7 @@ public class SaveCommand extends Command {
 
     private String saveAddressBookAndGetMessage(Model model) throws CommandException, IOException {
         if (canSaveAddressBook()) {
-            AddressBook addressBookToSave = this.getAddressBookToSave(model);
+            ReadOnlyAddressBook addressBookToSave = this.getAddressBookToSave(model);
             this.storage.saveAddressBook(addressBookToSave);
             return generateSuccessMessage(MESSAGE_SAVE_CANDIDATES_FILE_SUCCESS, this.getAddressBookFilePath());
         } else {
@@ -133,7 +169,7 @@ public class SaveCommand extends Command {
 
     private String saveScheduleBoardAndGetMessage(Model model) throws CommandException, IOException {
         if (canSaveScheduleBoard()) {
-            ScheduleBoard scheduleBoardToSave = this.getScheduleBoardToSave(model);
+            ReadOnlyScheduleBoard scheduleBoardToSave = this.getScheduleBoardToSave(model);
             this.storage.saveScheduleBoard(scheduleBoardToSave);
             return generateSuccessMessage(MESSAGE_SAVE_SCHEDULES_FILE_SUCCESS, this.getScheduleBoardFilePath());
         } else {
@@ -162,20 +198,31 @@ public class SaveCommand extends Command {
         return true;
     }
 
-    private AddressBook getAddressBookToSave(Model model) {
-        AddressBook addressBookToSave = new AddressBook(model.getAddressBook());
-        if (!shouldSaveAllData) {
-            addressBookToSave.setPersons(model.getFilteredPersonList());
+    /**
+     * Returns the data of candidates to save, which is the model's snapshot if all data is saved, or otherwise a view
+     * of the shown candidates that is written out as it is, without copying them into a new address book.
+     */
+    private ReadOnlyAddressBook getAddressBookToSave(Model model) {
+        if (shouldSaveAllData) {
+            return model.getSnapshot().getAddressBook();
+        } else if (shownAddressBook != null) {
+            return shownAddressBook;
         }
-        return addressBookToSave;
+        return new AddressBookView(model.getAddressBook().getJobRoleList(), model.getFilteredPersonList());
     }
 
-    private ScheduleBoard getScheduleBoardToSave(Model model) {
-        ScheduleBoard scheduleBoardToSave = new ScheduleBoard(model.getScheduleBoard());
-        if (!shouldSaveAllData) {
-            scheduleBoardToSave.setSchedules(model.getFilteredScheduleList());
+    /**
+     * Returns the interview schedules to save, which are the model's snapshot if all data is saved, or otherwise a view
+     * of the shown schedules that is written out as it is, without copying them into a new schedule board.
+     * The filtered schedules are already in the order of the schedule board.
+     */
+    private ReadOnlyScheduleBoard getScheduleBoardToSave(Model model) {
+        if (shouldSaveAllData) {
+            return model.getSnapshot().getScheduleBoard();
+        } else if (shownScheduleBoard != null) {
+            return shownScheduleBoard;
         }
-        return scheduleBoardToSave;
+        return new ScheduleBoardView(model.getFilteredScheduleList());
     }
 
     private String getFilePathAsString(Path filePath) {
@@ -43,6 +43,11 @@ public class ViewCommand extends Command {
         return result;
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
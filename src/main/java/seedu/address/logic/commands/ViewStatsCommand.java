@@ -18,7 +18,7 @@ public class ViewStatsCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        Map<JobRole, Long> stats = model.getAddressBook().getJobApplicantStatistics();
+        Map<JobRole, Long> stats = model.getSnapshot().getAddressBook().getJobApplicantStatistics();
         StringBuilder sb = new StringBuilder();
         if (stats.isEmpty()) {
             sb.append("(No existing applications at the moment)");
@@ -39,4 +39,14 @@ public class ViewStatsCommand extends Command {
                 stats
         );
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean readsOnlySnapshot() {
+        return true;
+    }
 }
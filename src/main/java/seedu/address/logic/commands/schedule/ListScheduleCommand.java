@@ -26,4 +26,9 @@ public class ListScheduleCommand extends Command {
         model.updateFilteredScheduleList(Model.PREDICATE_SHOW_ALL_SCHEDULES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,24 @@
+package seedu.address.logic.csv;
+
+/**
+ * A column of a CSV file of records of type {@code T}, each column holding one of their fields.
+ */
+public interface CsvColumn<T> {
+
+    String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    /**
+     * Returns the name of this column in the header of a CSV file.
+     */
+    String getHeader();
+
+    /**
+     * Returns true if records cannot be imported from a CSV file without this column.
+     */
+    boolean isRequired();
+
+    /**
+     * Returns the value of this column for {@code record}.
+     */
+    String getValue(T record);
+}
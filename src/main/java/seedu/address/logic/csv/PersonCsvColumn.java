@@ -0,0 +1,130 @@
+package seedu.address.logic.csv;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Label;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A column of a CSV file of candidates.
+ */
+public enum PersonCsvColumn implements CsvColumn<Person> {
+    NAME("name", true),
+    PHONE("phone", true),
+    EMAIL("email", true),
+    ADDRESS("address", true),
+    JOB_ROLES("jobRoles", true),
+    LABEL("label", true),
+    REMARK("remark", false),
+    TAGS("tags", false);
+
+    /** Columns of a CSV file of candidates when no other columns are given. */
+    public static final List<PersonCsvColumn> DEFAULT_COLUMNS = List.of(values());
+
+    /** Separates the values of fields that hold several values, such as job roles and tags. */
+    public static final String VALUE_SEPARATOR = ";";
+
+    private final String header;
+    private final boolean isRequired;
+
+    PersonCsvColumn(String header, boolean isRequired) {
+        this.header = header;
+        this.isRequired = isRequired;
+    }
+
+    @Override
+    public String getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean isRequired() {
+        return isRequired;
+    }
+
+    @Override
+    public String getValue(Person person) {
+        switch (this) {
+        case NAME:
+            return person.getName().fullName;
+        case PHONE:
+            return person.getPhone().value;
+        case EMAIL:
+            return person.getEmail().value;
+        case ADDRESS:
+            return person.getAddress().value;
+        case JOB_ROLES:
+            return person.getJobRoles().stream().map(JobRole::getValue).sorted()
+                    .collect(Collectors.joining(VALUE_SEPARATOR));
+        case LABEL:
+            return person.getLabel().toString();
+        case REMARK:
+            return person.getRemark().value;
+        case TAGS:
+            return person.getTags().stream().map(tag -> tag.tagName).sorted()
+                    .collect(Collectors.joining(VALUE_SEPARATOR));
+        default:
+            throw new AssertionError("Unknown column " + this);
+        }
+    }
+
+    /**
+     * Parses the {@code fields} of a CSV record into a {@code Person}, using {@code ParserUtil} to parse the field in
+     * each of {@code columns}. Fields in null columns are ignored.
+     * {@code columns} must include all required columns.
+     *
+     * @throws ParseException if the record does not have one field for each column, or a field is invalid.
+     */
+    public static Person toPerson(List<PersonCsvColumn> columns, List<String> fields) throws ParseException {
+        requireAllNonNull(columns, fields);
+        if (fields.size() != columns.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columns.size(), fields.size()));
+        }
+
+        Map<PersonCsvColumn, String> values = new EnumMap<>(PersonCsvColumn.class);
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i) != null) {
+                values.put(columns.get(i), fields.get(i));
+            }
+        }
+
+        Name name = ParserUtil.parseName(values.get(NAME));
+        Phone phone = ParserUtil.parsePhone(values.get(PHONE));
+        Email email = ParserUtil.parseEmail(values.get(EMAIL));
+        Address address = ParserUtil.parseAddress(values.get(ADDRESS));
+        Label label = ParserUtil.parseLabel(values.get(LABEL));
+        Remark remark = ParserUtil.parseRemark(values.getOrDefault(REMARK, ""));
+        List<String> jobRoleValues = splitValues(values.get(JOB_ROLES));
+        if (jobRoleValues.isEmpty()) {
+            throw new ParseException(JobRole.MESSAGE_NEW_CONSTRAINTS);
+        }
+        Set<JobRole> jobRoles = ParserUtil.parseJobRoles(jobRoleValues);
+        Set<Tag> tags = ParserUtil.parseTags(splitValues(values.getOrDefault(TAGS, "")));
+
+        return new Person(name, phone, email, address, label, remark, jobRoles, tags);
+    }
+
+    private static List<String> splitValues(String field) {
+        if (field.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(field.split(VALUE_SEPARATOR));
+    }
+}
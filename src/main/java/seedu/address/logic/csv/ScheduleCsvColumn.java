@@ -0,0 +1,99 @@
+package seedu.address.logic.csv;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A column of a CSV file of interview schedules.
+ */
+public enum ScheduleCsvColumn implements CsvColumn<Schedule> {
+    DATE("date"),
+    START_TIME("startTime"),
+    END_TIME("endTime"),
+    MODE("mode"),
+    CANDIDATE_NAME("candidateName"),
+    CANDIDATE_EMAIL("candidateEmail");
+
+    /** Columns of a CSV file of interview schedules when no other columns are given. */
+    public static final List<ScheduleCsvColumn> DEFAULT_COLUMNS = List.of(values());
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final String header;
+
+    ScheduleCsvColumn(String header) {
+        this.header = header;
+    }
+
+    @Override
+    public String getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean isRequired() {
+        return true;
+    }
+
+    @Override
+    public String getValue(Schedule schedule) {
+        switch (this) {
+        case DATE:
+            return schedule.getDate().toString();
+        case START_TIME:
+            return schedule.getStartTime().format(TIME_FORMATTER);
+        case END_TIME:
+            return schedule.getEndTime().format(TIME_FORMATTER);
+        case MODE:
+            return schedule.getMode().name().toLowerCase();
+        case CANDIDATE_NAME:
+            return schedule.getCandidateName().fullName;
+        case CANDIDATE_EMAIL:
+            return schedule.getCandidateEmail().value;
+        default:
+            throw new AssertionError("Unknown column " + this);
+        }
+    }
+
+    /**
+     * Parses the {@code fields} of a CSV record into a {@code Schedule}, using {@code ParserUtil} to parse the field
+     * in each of {@code columns}. Fields in null columns are ignored.
+     * {@code columns} must include all columns.
+     *
+     * @throws ParseException if the record does not have one field for each column, or a field is invalid.
+     */
+    public static Schedule toSchedule(List<ScheduleCsvColumn> columns, List<String> fields) throws ParseException {
+        requireAllNonNull(columns, fields);
+        if (fields.size() != columns.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columns.size(), fields.size()));
+        }
+
+        Map<ScheduleCsvColumn, String> values = new EnumMap<>(ScheduleCsvColumn.class);
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i) != null) {
+                values.put(columns.get(i), fields.get(i));
+            }
+        }
+
+        LocalDate date = ParserUtil.parseDate(values.get(DATE));
+        List<LocalTime> startEndTime = ParserUtil.parseStartEndTime(values.get(START_TIME), values.get(END_TIME));
+        Mode mode = ParserUtil.parseMode(values.get(MODE));
+        Name candidateName = ParserUtil.parseName(values.get(CANDIDATE_NAME));
+        Email candidateEmail = ParserUtil.parseEmail(values.get(CANDIDATE_EMAIL));
+
+        return new Schedule(date, startEndTime.get(0), startEndTime.get(1), mode, candidateName, candidateEmail);
+    }
+}
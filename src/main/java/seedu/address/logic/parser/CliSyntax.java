@@ -24,4 +24,8 @@ public class CliSyntax {
     public static final Prefix SUFFIX_SAVE_ALL = new Prefix("/a", "");
     public static final Prefix SUFFIX_OVERWRITE_FILE = new Prefix("/f", "");
 
+    /* Prefix definitions - specific to export and import commands */
+    public static final Prefix PREFIX_CANDIDATE_COLUMNS = new Prefix("cc/", "CandidateColumns");
+    public static final Prefix PREFIX_SCHEDULE_COLUMNS = new Prefix("sc/", "ScheduleColumns");
+
 }
@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_OVERWRITE_FILE;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_SAVE_ALL;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.csv.CsvColumn;
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ManualStorage;
+
+/**
+ * Parses input arguments and creates a new {@code ExportCommand} object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_CANDIDATES_FILE_PATH, PREFIX_SCHEDULES_FILE_PATH, PREFIX_CANDIDATE_COLUMNS,
+                PREFIX_SCHEDULE_COLUMNS, SUFFIX_SAVE_ALL, SUFFIX_OVERWRITE_FILE);
+
+        Path candidatesFilePath = getFilePath(argMultimap, PREFIX_CANDIDATES_FILE_PATH);
+        Path schedulesFilePath = getFilePath(argMultimap, PREFIX_SCHEDULES_FILE_PATH);
+        validateArgumentFormat(argMultimap, candidatesFilePath, schedulesFilePath, ExportCommand.MESSAGE_USAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CANDIDATES_FILE_PATH, PREFIX_SCHEDULES_FILE_PATH,
+                PREFIX_CANDIDATE_COLUMNS, PREFIX_SCHEDULE_COLUMNS, SUFFIX_SAVE_ALL, SUFFIX_OVERWRITE_FILE);
+
+        List<PersonCsvColumn> candidateColumns = getColumns(argMultimap, PREFIX_CANDIDATE_COLUMNS,
+                PersonCsvColumn.class).orElse(PersonCsvColumn.DEFAULT_COLUMNS);
+        List<ScheduleCsvColumn> scheduleColumns = getColumns(argMultimap, PREFIX_SCHEDULE_COLUMNS,
+                ScheduleCsvColumn.class).orElse(ScheduleCsvColumn.DEFAULT_COLUMNS);
+        boolean shouldExportAllData = validateBooleanFlag(argMultimap, SUFFIX_SAVE_ALL);
+        boolean shouldOverwriteFile = validateBooleanFlag(argMultimap, SUFFIX_OVERWRITE_FILE);
+
+        return new ExportCommand(candidatesFilePath, schedulesFilePath, candidateColumns, scheduleColumns,
+                shouldExportAllData, shouldOverwriteFile);
+    }
+
+    /**
+     * Returns the path of the CSV file given for {@code prefix}, or {@link ManualStorage#EMPTY_PATH} if none is given.
+     */
+    static Path getFilePath(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        Optional<String> path = argMultimap.getValue(prefix);
+        if (path.isEmpty()) {
+            return ManualStorage.EMPTY_PATH;
+        } else {
+            return ParserUtil.parseCsvPath(path.get());
+        }
+    }
+
+    /**
+     * Returns the columns given for {@code prefix}, if any.
+     */
+    static <C extends Enum<C> & CsvColumn<?>> Optional<List<C>> getColumns(ArgumentMultimap argMultimap,
+            Prefix prefix, Class<C> columnType) throws ParseException {
+        Optional<String> columns = argMultimap.getValue(prefix);
+        if (columns.isEmpty()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(ParserUtil.parseCsvColumns(columns.get(), columnType));
+        }
+    }
+
+    /**
+     * Checks that at least one file path is given, and that columns are only given for files that are.
+     */
+    static void validateArgumentFormat(ArgumentMultimap argMultimap, Path candidatesFilePath,
+            Path schedulesFilePath, String messageUsage) throws ParseException {
+        boolean hasCandidatesFilePath = !candidatesFilePath.equals(ManualStorage.EMPTY_PATH);
+        boolean hasSchedulesFilePath = !schedulesFilePath.equals(ManualStorage.EMPTY_PATH);
+        boolean hasNoFilePaths = !hasCandidatesFilePath && !hasSchedulesFilePath;
+        boolean hasUnusedCandidateColumns = !hasCandidatesFilePath
+                && argMultimap.getValue(PREFIX_CANDIDATE_COLUMNS).isPresent();
+        boolean hasUnusedScheduleColumns = !hasSchedulesFilePath
+                && argMultimap.getValue(PREFIX_SCHEDULE_COLUMNS).isPresent();
+        boolean hasArgumentPreamble = !argMultimap.getPreamble().isEmpty();
+
+        if (hasNoFilePaths || hasUnusedCandidateColumns || hasUnusedScheduleColumns || hasArgumentPreamble) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+    }
+
+    private static boolean validateBooleanFlag(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        Optional<String> booleanFlagValue = argMultimap.getValue(prefix);
+
+        if (booleanFlagValue.isEmpty()) {
+            return false;
+        }
+
+        if (!booleanFlagValue.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        return true;
+    }
+}
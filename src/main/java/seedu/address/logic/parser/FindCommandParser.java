@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +27,17 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (!keywords.get(0).equals(FindCommand.PARTIAL_MATCH_FLAG)) {
+            return new FindCommand(new PersonDetailsContainKeywordsPredicate(keywords));
+        }
 
-        return new FindCommand(new PersonDetailsContainKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<String> partialKeywords = keywords.subList(1, keywords.size());
+        if (partialKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new PersonDetailsContainPartialKeywordsPredicate(partialKeywords));
     }
 
 }
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_GZIP;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_JSON;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+import static seedu.address.logic.parser.ExportCommandParser.getColumns;
+import static seedu.address.logic.parser.ExportCommandParser.getFilePath;
+import static seedu.address.logic.parser.ExportCommandParser.validateArgumentFormat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ImportCommand} object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_CANDIDATES_FILE_PATH, PREFIX_SCHEDULES_FILE_PATH, PREFIX_CANDIDATE_COLUMNS,
+                PREFIX_SCHEDULE_COLUMNS);
+
+        Path candidatesFilePath = getCandidatesFilePath(argMultimap);
+        Path schedulesFilePath = getFilePath(argMultimap, PREFIX_SCHEDULES_FILE_PATH);
+        validateArgumentFormat(argMultimap, candidatesFilePath, schedulesFilePath, ImportCommand.MESSAGE_USAGE);
+        if (FileUtil.isJsonFile(candidatesFilePath) && argMultimap.getValue(PREFIX_CANDIDATE_COLUMNS).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CANDIDATES_FILE_PATH, PREFIX_SCHEDULES_FILE_PATH,
+                PREFIX_CANDIDATE_COLUMNS, PREFIX_SCHEDULE_COLUMNS);
+
+        Optional<List<PersonCsvColumn>> candidateColumns = getColumns(argMultimap, PREFIX_CANDIDATE_COLUMNS,
+                PersonCsvColumn.class);
+        Optional<List<ScheduleCsvColumn>> scheduleColumns = getColumns(argMultimap, PREFIX_SCHEDULE_COLUMNS,
+                ScheduleCsvColumn.class);
+
+        return new ImportCommand(candidatesFilePath, schedulesFilePath, candidateColumns, scheduleColumns);
+    }
+
+    /**
+     * Returns the path of the candidates file given, which is taken to be a CSV file unless it is named as a JSON
+     * file, or {@link seedu.address.storage.ManualStorage#EMPTY_PATH} if none is given.
+     */
+    private static Path getCandidatesFilePath(ArgumentMultimap argMultimap) throws ParseException {
+        String path = argMultimap.getValue(PREFIX_CANDIDATES_FILE_PATH).map(String::trim).orElse("");
+        if (path.endsWith(FILE_EXTENSION_JSON) || path.endsWith(FILE_EXTENSION_JSON + FILE_EXTENSION_GZIP)) {
+            return ParserUtil.parsePath(path);
+        }
+        return getFilePath(argMultimap, PREFIX_CANDIDATES_FILE_PATH);
+    }
+}
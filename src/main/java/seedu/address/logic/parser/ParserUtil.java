@@ -1,6 +1,9 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_CSV;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_GZIP;
 import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_JSON;
 import static seedu.address.commons.util.ScheduleUtil.checkStartEndDateTime;
 import static seedu.address.commons.util.ScheduleUtil.isValidDuration;
@@ -15,15 +18,20 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Theme;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.csv.CsvColumn;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -43,6 +51,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_FILE_PATH = "File path provided is invalid.";
+    public static final String MESSAGE_UNKNOWN_CSV_COLUMN = "Unknown column '%1$s'! Columns should be one of: %2$s";
+    public static final String MESSAGE_DUPLICATE_CSV_COLUMN = "Column '%1$s' is given more than once.";
     public static final String MESSAGE_INVALID_DATE =
             "Invalid date or incorrect format of date. Format of date supported is yyyy-MM-dd (e.g. 2025-02-03)";
     public static final String MESSAGE_INVALID_TIME =
@@ -201,20 +211,32 @@ public class ParserUtil {
             throw new ParseException(Schedule.MESSAGE_DATE_TIME_CONSTRAINTS);
         }
 
-        LocalTime startTime = ParserUtil.parseTime(args[1]);
-        LocalTime endTime = ParserUtil.parseTime(args[2]);
+        return parseStartEndTime(args[1], args[2]);
+    }
 
-        if (!checkStartEndDateTime(startTime, endTime)) {
+    /**
+     * Parses {@code String startTime} and {@code String endTime} into the start and end times of an interview
+     * schedule, as a {@code ArrayList<LocalTime>}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if either time is invalid, or the end time is not a valid duration after the start time.
+     */
+    public static ArrayList<LocalTime> parseStartEndTime(String startTime, String endTime) throws ParseException {
+        requireAllNonNull(startTime, endTime);
+        LocalTime parsedStartTime = parseTime(startTime);
+        LocalTime parsedEndTime = parseTime(endTime);
+
+        if (!checkStartEndDateTime(parsedStartTime, parsedEndTime)) {
             throw new ParseException(MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME);
         }
 
-        if (!isValidDuration(startTime, endTime)) {
+        if (!isValidDuration(parsedStartTime, parsedEndTime)) {
             throw new ParseException(MESSAGE_SCHEDULE_INVALID_DURATION);
         }
 
         ArrayList<LocalTime> starEndTimeList = new ArrayList<>();
-        starEndTimeList.add(startTime);
-        starEndTimeList.add(endTime);
+        starEndTimeList.add(parsedStartTime);
+        starEndTimeList.add(parsedEndTime);
         return starEndTimeList;
     }
 
@@ -266,6 +288,7 @@ public class ParserUtil {
     /**
      * Parses a {@code String path} into a {@link Path}.
      * Leading and trailing whitespaces will be trimmed.
+     * The JSON file extension is appended to paths that do not end with it or with the compressed JSON file extension.
      *
      * @throws ParseException
      */
@@ -273,7 +296,8 @@ public class ParserUtil {
         requireNonNull(path);
         String trimmedPath = path.trim();
 
-        if (!trimmedPath.isEmpty() && !trimmedPath.endsWith(".json")) {
+        if (!trimmedPath.isEmpty() && !trimmedPath.endsWith(FILE_EXTENSION_JSON)
+                && !trimmedPath.endsWith(FILE_EXTENSION_JSON + FILE_EXTENSION_GZIP)) {
             trimmedPath += FILE_EXTENSION_JSON;
         }
 
@@ -284,6 +308,78 @@ public class ParserUtil {
         return Paths.get(trimmedPath);
     }
 
+    /**
+     * Parses a {@code String path} into the {@link Path} of a CSV file.
+     * Leading and trailing whitespaces will be trimmed.
+     * The CSV file extension is appended to paths that do not end with it.
+     *
+     * @throws ParseException if the given {@code path} is invalid.
+     */
+    public static Path parseCsvPath(String path) throws ParseException {
+        requireNonNull(path);
+        String trimmedPath = path.trim();
+
+        if (!trimmedPath.isEmpty() && !trimmedPath.endsWith(FILE_EXTENSION_CSV)) {
+            trimmedPath += FILE_EXTENSION_CSV;
+        }
+
+        if (!FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        return Paths.get(trimmedPath);
+    }
+
+    /**
+     * Parses {@code String columns}, the comma-separated headers of the columns of a CSV file in order, into the
+     * {@code CsvColumn}s of {@code columnType}.
+     *
+     * @throws ParseException if the given {@code columns} are invalid.
+     * @see #parseCsvColumns(List, Class)
+     */
+    public static <C extends Enum<C> & CsvColumn<?>> List<C> parseCsvColumns(String columns, Class<C> columnType)
+            throws ParseException {
+        requireAllNonNull(columns, columnType);
+        return parseCsvColumns(Arrays.asList(columns.split(",", -1)), columnType);
+    }
+
+    /**
+     * Parses {@code headers}, the headers of the columns of a CSV file in order, into the {@code CsvColumn}s of
+     * {@code columnType} with those headers, ignoring case. A blank header is parsed into null, for a column that
+     * holds none of the fields.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if a header is not that of any column of {@code columnType}, or is given more than once.
+     */
+    public static <C extends Enum<C> & CsvColumn<?>> List<C> parseCsvColumns(List<String> headers,
+            Class<C> columnType) throws ParseException {
+        requireAllNonNull(headers, columnType);
+        C[] knownColumns = columnType.getEnumConstants();
+        Set<C> parsedColumns = EnumSet.noneOf(columnType);
+        List<C> columns = new ArrayList<>();
+
+        for (String header : headers) {
+            String trimmedHeader = header.trim();
+            if (trimmedHeader.isEmpty()) {
+                columns.add(null);
+                continue;
+            }
+
+            C column = Arrays.stream(knownColumns)
+                    .filter(knownColumn -> knownColumn.getHeader().equalsIgnoreCase(trimmedHeader))
+                    .findFirst()
+                    .orElseThrow(() -> new ParseException(String.format(MESSAGE_UNKNOWN_CSV_COLUMN, trimmedHeader,
+                            Arrays.stream(knownColumns).map(CsvColumn::getHeader)
+                                    .collect(Collectors.joining(", ")))));
+            if (!parsedColumns.add(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_CSV_COLUMN, trimmedHeader));
+            }
+            columns.add(column);
+        }
+
+        return columns;
+    }
+
     /**
      * Parses a {@code String date} into a {@code LocalDate}.
      * The format of the LocalDate will be in the format yyyy-MM-dd.
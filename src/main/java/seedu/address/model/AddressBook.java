@@ -3,9 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -23,6 +21,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueJobRoleList jobRoles;
 
+    /** Number of modifications made to this address book, used to detect unsaved changes. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -53,6 +54,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -61,6 +63,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setJobRoles(List<JobRole> jobRoles) {
         this.jobRoles.setJobRoles(jobRoles);
+        version++;
     }
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
@@ -82,12 +85,49 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons in the address book with any of {@code keywords} as a whole word in their details,
+     * ignoring case.
+     */
+    public Set<Person> findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findPersons(keywords);
+    }
+
+    /**
+     * Returns the persons in the address book with any of {@code keywords} as part of a word in their details,
+     * ignoring case.
+     */
+    public Set<Person> findPersonsPartially(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findPersonsPartially(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words in the details of persons in the address book that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.getDetailWordsStartingWith(prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book at once, so that listeners of the person list are notified once.
+     * None of the persons may already exist in the address book, or be the same person as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        version++;
     }
 
     /**
@@ -99,6 +139,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -107,6 +148,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     // JobRole level operations
@@ -133,6 +175,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addJobRole(JobRole j) {
         jobRoles.add(j);
+        version++;
     }
 
     /**
@@ -141,15 +184,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeJobRole(JobRole key) {
         jobRoles.remove(key);
+        version++;
     }
 
     /**
-     * Returns a mapping of each job role to applicants.
+     * Returns the number of modifications made to this address book since it was created.
+     * The value only ever increases, so two equal readings imply no modification in between.
      */
-    public Map<JobRole, Long> getJobApplicantStatistics() {
-        return getPersonList().stream()
-                .flatMap(person -> person.getJobRoles().stream())
-                .collect(Collectors.groupingBy(jobRole -> jobRole, Collectors.counting()));
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
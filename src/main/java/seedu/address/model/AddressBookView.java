@@ -0,0 +1,38 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable view of an address book made of existing lists of job roles and persons, such as the filtered
+ * persons of a model, without copying them.
+ * The lists are not checked for duplicates, so they should come from an address book that has none.
+ */
+public class AddressBookView implements ReadOnlyAddressBook {
+
+    private final ObservableList<JobRole> jobRoles;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a view of {@code jobRoles} and {@code persons}, which later changes to them are reflected in.
+     */
+    public AddressBookView(ObservableList<JobRole> jobRoles, ObservableList<Person> persons) {
+        requireAllNonNull(jobRoles, persons);
+        this.jobRoles = jobRoles;
+        this.persons = persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<JobRole> getJobRoleList() {
+        return jobRoles;
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -11,6 +13,7 @@ import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.TimeSlot;
 
 /**
  * The API of the Model component.
@@ -67,6 +70,24 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book with any of {@code keywords} as a whole word in any of their details,
+     * ignoring case. The returned set compares persons by identity.
+     */
+    Set<Person> findPersons(List<String> keywords);
+
+    /**
+     * Returns the persons in the address book with any of {@code keywords} as part of a word in any of their
+     * details, ignoring case. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsPartially(List<String> keywords);
+
+    /**
+     * Returns up to {@code limit} of the words in the details of persons in the address book that start with
+     * {@code prefix}, ignoring case, in alphabetical order. The words are in lower case.
+     */
+    List<String> getDetailWordsStartingWith(String prefix, int limit);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -79,6 +100,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons at once, after the existing persons.
+     * None of {@code persons} may already exist in the address book, or have the same identity as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -116,6 +143,12 @@ public interface Model {
      */
     void addSchedule(Schedule schedule);
 
+    /**
+     * Adds all of the given schedules at once.
+     * None of {@code schedules} may already exist in schedule board, or clash with another schedule.
+     */
+    void addSchedules(List<Schedule> schedules);
+
     /**
      * Deletes the given schedule.
      * The schedule must exist in schedule board.
@@ -155,6 +188,21 @@ public interface Model {
      */
     boolean hasSameDateTimeEdit(Schedule editedSchedule, Schedule scheduleToEdit);
 
+    /**
+     * Returns the schedules on {@code date}, sorted by start time.
+     */
+    List<Schedule> getSchedulesOn(LocalDate date);
+
+    /**
+     * Returns the periods of {@code date} that no schedule takes up, sorted by start time.
+     */
+    List<TimeSlot> getFreeSlotsOn(LocalDate date);
+
+    /**
+     * Returns the schedules of {@code candidate}, who is matched to schedules by email.
+     */
+    List<Schedule> getSchedulesOfCandidate(Person candidate);
+
 
     /** Returns the Schedule Board */
     ReadOnlyScheduleBoard getScheduleBoard();
@@ -188,4 +236,106 @@ public interface Model {
     Theme getTheme();
 
     void setTheme(Theme theme);
+
+    //============ Loading =========================================================================================
+
+    /**
+     * Adds the persons that were still being read from storage when this model was created to the address book,
+     * waiting for them to be read if necessary. Does nothing if there are no such persons.
+     */
+    void addPendingPersons();
+
+    /**
+     * Waits for the persons still being read from storage to be read, without adding them to the address book.
+     * Unlike {@link #addPendingPersons()}, this may be called on any thread, so that the thread that owns the model
+     * does not have to wait for them.
+     */
+    void awaitPendingPersons() throws InterruptedException;
+
+    //============ Change tracking =================================================================================
+
+    /**
+     * Returns true if the address book has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedAddressBookChanges();
+
+    /**
+     * Returns true if the schedule board has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedScheduleBoardChanges();
+
+    /**
+     * Returns true if the user prefs have been modified since they were last marked as saved.
+     */
+    boolean hasUnsavedUserPrefsChanges();
+
+    /**
+     * Returns the number of modifications made to the address book, which identifies its current state.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the number of modifications made to the schedule board, which identifies its current state.
+     */
+    long getScheduleBoardVersion();
+
+    /**
+     * Returns the number of modifications made to the user prefs, which identifies their current state.
+     */
+    long getUserPrefsVersion();
+
+    /**
+     * Marks the state of the address book at {@code version} as persisted to storage, so that it has unsaved changes
+     * only if it has been modified since that version.
+     */
+    void markAddressBookSaved(long version);
+
+    /**
+     * Marks the state of the schedule board at {@code version} as persisted to storage, so that it has unsaved changes
+     * only if it has been modified since that version.
+     */
+    void markScheduleBoardSaved(long version);
+
+    /**
+     * Marks the state of the user prefs at {@code version} as persisted to storage, so that they have unsaved changes
+     * only if they have been modified since that version.
+     */
+    void markUserPrefsSaved(long version);
+
+    //============ Undo and redo ===================================================================================
+
+    /**
+     * Groups the changes made to the address book and schedule board since this was last called into one step that
+     * can be undone. Does nothing if there are no such changes.
+     */
+    void commitChanges();
+
+    /**
+     * Returns true if there are changes that can be undone.
+     */
+    boolean canUndoChanges();
+
+    /**
+     * Reverses the changes of the latest step, committing any uncommitted changes first.
+     * There must be changes that can be undone.
+     */
+    void undoChanges();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedoChanges();
+
+    /**
+     * Makes the changes of the latest undone step again. There must be a step that can be redone.
+     */
+    void redoChanges();
+
+    //============ Snapshots =======================================================================================
+
+    /**
+     * Returns an immutable copy of the address book and schedule board as they were when changes were last
+     * committed by {@link #commitChanges()}, which can be read while the model is being changed.
+     */
+    ModelSnapshot getSnapshot();
 }
@@ -0,0 +1,241 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+
+/**
+ * Represents a single modification made to the address book or schedule board through the {@code Model}.
+ * A change can be applied again to a copy of the data to reproduce the modification.
+ */
+public class ModelChange {
+
+    /**
+     * Kinds of modifications that can be made to the model's data.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, ADD_JOB_ROLE, DELETE_JOB_ROLE, RESET_ADDRESS_BOOK,
+        ADD_SCHEDULE, SET_SCHEDULE, DELETE_SCHEDULE, EDIT_CANDIDATE_IN_SCHEDULE, RESET_SCHEDULE_BOARD
+    }
+
+    private final Type type;
+    private final Person person;
+    private final Person editedPerson;
+    private final JobRole jobRole;
+    private final Schedule schedule;
+    private final Schedule editedSchedule;
+
+    /**
+     * Constructs a {@code ModelChange}. Fields that are not relevant to {@code type} should be null.
+     */
+    public ModelChange(Type type, Person person, Person editedPerson, JobRole jobRole, Schedule schedule,
+            Schedule editedSchedule) {
+        requireNonNull(type);
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.jobRole = jobRole;
+        this.schedule = schedule;
+        this.editedSchedule = editedSchedule;
+    }
+
+    public static ModelChange addPerson(Person person) {
+        requireNonNull(person);
+        return new ModelChange(Type.ADD_PERSON, person, null, null, null, null);
+    }
+
+    public static ModelChange setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new ModelChange(Type.SET_PERSON, target, editedPerson, null, null, null);
+    }
+
+    public static ModelChange deletePerson(Person target) {
+        requireNonNull(target);
+        return new ModelChange(Type.DELETE_PERSON, target, null, null, null, null);
+    }
+
+    public static ModelChange addJobRole(JobRole jobRole) {
+        requireNonNull(jobRole);
+        return new ModelChange(Type.ADD_JOB_ROLE, null, null, jobRole, null, null);
+    }
+
+    public static ModelChange deleteJobRole(JobRole jobRole) {
+        requireNonNull(jobRole);
+        return new ModelChange(Type.DELETE_JOB_ROLE, null, null, jobRole, null, null);
+    }
+
+    public static ModelChange resetAddressBook() {
+        return new ModelChange(Type.RESET_ADDRESS_BOOK, null, null, null, null, null);
+    }
+
+    public static ModelChange addSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        return new ModelChange(Type.ADD_SCHEDULE, null, null, null, schedule, null);
+    }
+
+    public static ModelChange setSchedule(Schedule target, Schedule editedSchedule) {
+        requireAllNonNull(target, editedSchedule);
+        return new ModelChange(Type.SET_SCHEDULE, null, null, null, target, editedSchedule);
+    }
+
+    public static ModelChange deleteSchedule(Schedule target) {
+        requireNonNull(target);
+        return new ModelChange(Type.DELETE_SCHEDULE, null, null, null, target, null);
+    }
+
+    public static ModelChange editCandidateInSchedule(Schedule target, Person editedCandidate) {
+        requireAllNonNull(target, editedCandidate);
+        return new ModelChange(Type.EDIT_CANDIDATE_IN_SCHEDULE, null, editedCandidate, null, target, null);
+    }
+
+    public static ModelChange resetScheduleBoard() {
+        return new ModelChange(Type.RESET_SCHEDULE_BOARD, null, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    public JobRole getJobRole() {
+        return jobRole;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public Schedule getEditedSchedule() {
+        return editedSchedule;
+    }
+
+    /**
+     * Returns true if this change modifies the address book, and false if it modifies the schedule board.
+     */
+    public boolean isAddressBookChange() {
+        switch (type) {
+        case ADD_PERSON:
+        case SET_PERSON:
+        case DELETE_PERSON:
+        case ADD_JOB_ROLE:
+        case DELETE_JOB_ROLE:
+        case RESET_ADDRESS_BOOK:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if this change replaces all existing data, so that it cannot be recorded incrementally.
+     */
+    public boolean isReset() {
+        return type == Type.RESET_ADDRESS_BOOK || type == Type.RESET_SCHEDULE_BOARD;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     * This change must be an address book change that is not a reset.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        assert isAddressBookChange();
+
+        switch (type) {
+        case ADD_PERSON:
+            addressBook.addPerson(person);
+            break;
+        case SET_PERSON:
+            addressBook.setPerson(person, editedPerson);
+            break;
+        case DELETE_PERSON:
+            addressBook.removePerson(person);
+            break;
+        case ADD_JOB_ROLE:
+            addressBook.addJobRole(jobRole);
+            break;
+        case DELETE_JOB_ROLE:
+            addressBook.removeJobRole(jobRole);
+            break;
+        default:
+            throw new UnsupportedOperationException("A reset of the address book cannot be applied again");
+        }
+    }
+
+    /**
+     * Applies this change to {@code scheduleBoard}.
+     * This change must be a schedule board change that is not a reset.
+     */
+    public void applyTo(ScheduleBoard scheduleBoard) {
+        requireNonNull(scheduleBoard);
+        assert !isAddressBookChange();
+
+        switch (type) {
+        case ADD_SCHEDULE:
+            scheduleBoard.addSchedule(schedule);
+            break;
+        case SET_SCHEDULE:
+            scheduleBoard.setSchedule(schedule, editedSchedule);
+            break;
+        case DELETE_SCHEDULE:
+            scheduleBoard.removeSchedule(schedule);
+            break;
+        case EDIT_CANDIDATE_IN_SCHEDULE:
+            scheduleBoard.editCandidateInSchedule(schedule, editedPerson);
+            break;
+        default:
+            throw new UnsupportedOperationException("A reset of the schedule board cannot be applied again");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+
+        ModelChange otherChange = (ModelChange) other;
+        return type == otherChange.type
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(editedPerson, otherChange.editedPerson)
+                && Objects.equals(jobRole, otherChange.jobRole)
+                && Objects.equals(schedule, otherChange.schedule)
+                && Objects.equals(editedSchedule, otherChange.editedSchedule);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, editedPerson, jobRole, schedule, editedSchedule);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .add("jobRole", jobRole)
+                .add("schedule", schedule)
+                .add("editedSchedule", editedSchedule)
+                .toString();
+    }
+}
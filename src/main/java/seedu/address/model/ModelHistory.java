@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The changes made to a model by recent commands, so that they can be undone and redone.
+ *
+ * Each change is kept as a pair of operations that reverse and repeat it on the model, instead of as a copy of the
+ * data, so that recording a change costs about as much as making it. Changes are grouped into one step for each
+ * command by {@link #commit()}, and at most a fixed number of steps are kept, the oldest being discarded first.
+ */
+class ModelHistory {
+
+    private final int maxSteps;
+    private final Deque<List<Edit>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoSteps = new ArrayDeque<>();
+    private final List<Edit> uncommittedEdits = new ArrayList<>();
+    private boolean isReplaying;
+
+    /**
+     * Creates an empty history that keeps at most {@code maxSteps} steps, which must be positive.
+     */
+    ModelHistory(int maxSteps) {
+        checkArgument(maxSteps > 0, "The history must keep at least one step");
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Records a change made to the model as the operations that reverse and repeat it, unless the change is being
+     * made by undoing or redoing a step.
+     */
+    void record(Consumer<Model> undo, Consumer<Model> redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        if (!isReplaying) {
+            uncommittedEdits.add(new Edit(undo, redo));
+        }
+    }
+
+    /**
+     * Discards all steps and uncommitted changes, so that no change made before this can be undone.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        uncommittedEdits.clear();
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into a step that can be undone, discarding the steps that
+     * could be redone. Does nothing if no changes were recorded.
+     */
+    void commit() {
+        if (uncommittedEdits.isEmpty()) {
+            return;
+        }
+
+        undoSteps.push(new ArrayList<>(uncommittedEdits));
+        uncommittedEdits.clear();
+        redoSteps.clear();
+        if (undoSteps.size() > maxSteps) {
+            undoSteps.removeLast();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !uncommittedEdits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty() && uncommittedEdits.isEmpty();
+    }
+
+    /**
+     * Reverses the changes of the latest step on {@code model}, committing any uncommitted changes as a step first.
+     * There must be a step to undo.
+     */
+    void undo(Model model) {
+        requireNonNull(model);
+        assert canUndo();
+        commit();
+
+        List<Edit> step = undoSteps.pop();
+        replay(() -> {
+            for (int i = step.size() - 1; i >= 0; i--) {
+                step.get(i).undo.accept(model);
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Repeats the changes of the latest step undone on {@code model}. There must be a step to redo.
+     */
+    void redo(Model model) {
+        requireNonNull(model);
+        assert canRedo();
+
+        List<Edit> step = redoSteps.pop();
+        replay(() -> step.forEach(edit -> edit.redo.accept(model)));
+        undoSteps.push(step);
+    }
+
+    private void replay(Runnable changes) {
+        isReplaying = true;
+        try {
+            changes.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * The operations that reverse and repeat a change.
+     */
+    private static class Edit {
+        private final Consumer<Model> undo;
+        private final Consumer<Model> redo;
+
+        Edit(Consumer<Model> undo, Consumer<Model> redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
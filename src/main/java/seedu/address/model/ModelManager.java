@@ -4,7 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -18,11 +25,15 @@ import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.schedule.TimeSlot;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** Number of commands whose changes can be undone. */
+    public static final int UNDO_HISTORY_DEPTH = 50;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
@@ -31,6 +42,16 @@ public class ModelManager implements Model {
     private final ScheduleBoard scheduleBoard;
     private final FilteredList<Schedule> filteredSchedules;
 
+    private long savedAddressBookVersion;
+    private long savedScheduleBoardVersion;
+    private long savedUserPrefsVersion;
+
+    private final List<Consumer<ModelChange>> changeListeners = new ArrayList<>();
+    private final ModelHistory history = new ModelHistory(UNDO_HISTORY_DEPTH);
+
+    private volatile Future<ReadOnlyAddressBook> pendingAddressBook;
+    private volatile ModelSnapshot snapshot;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -46,6 +67,11 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.scheduleBoard = new ScheduleBoard(scheduleBoard);
         filteredSchedules = new FilteredList<>(this.scheduleBoard.getScheduleList());
+
+        markAddressBookSaved(getAddressBookVersion());
+        markScheduleBoardSaved(getScheduleBoardVersion());
+        markUserPrefsSaved(getUserPrefsVersion());
+        snapshot = ModelSnapshot.of(this.addressBook, this.scheduleBoard);
     }
 
     public ModelManager() {
@@ -91,7 +117,13 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        // Replacing all of the data cannot be reversed change by change, so it is undone from a copy of the data.
+        AddressBook previousAddressBook = new AddressBook(this.addressBook);
         this.addressBook.resetData(addressBook);
+        AddressBook nextAddressBook = new AddressBook(this.addressBook);
+        history.record(model -> model.setAddressBook(previousAddressBook),
+                model -> model.setAddressBook(nextAddressBook));
+        notifyChangeListeners(ModelChange.resetAddressBook());
     }
 
     @Override
@@ -105,14 +137,46 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Set<Person> findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersons(keywords);
+    }
+
+    @Override
+    public Set<Person> findPersonsPartially(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsPartially(keywords);
+    }
+
+    @Override
+    public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getDetailWordsStartingWith(prefix, limit);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        history.record(model -> model.addPerson(target), model -> model.deletePerson(target));
+        notifyChangeListeners(ModelChange.deletePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        history.record(model -> model.deletePerson(person), model -> model.addPerson(person));
+        notifyChangeListeners(ModelChange.addPerson(person));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.addPersons(persons);
+        List<Person> addedPersons = List.copyOf(persons);
+        history.record(model -> addedPersons.forEach(model::deletePerson), model -> model.addPersons(addedPersons));
+        persons.forEach(person -> notifyChangeListeners(ModelChange.addPerson(person)));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -121,6 +185,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.record(model -> model.setPerson(editedPerson, target), model -> model.setPerson(target, editedPerson));
+        notifyChangeListeners(ModelChange.setPerson(target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -158,22 +224,43 @@ public class ModelManager implements Model {
     @Override
     public void addSchedule(Schedule schedule) {
         scheduleBoard.addSchedule(schedule);
+        history.record(model -> model.deleteSchedule(schedule), model -> model.addSchedule(schedule));
+        notifyChangeListeners(ModelChange.addSchedule(schedule));
+    }
+
+    @Override
+    public void addSchedules(List<Schedule> schedules) {
+        requireAllNonNull(schedules);
+        scheduleBoard.addSchedules(schedules);
+        List<Schedule> addedSchedules = List.copyOf(schedules);
+        history.record(model -> addedSchedules.forEach(model::deleteSchedule),
+                model -> model.addSchedules(addedSchedules));
+        schedules.forEach(schedule -> notifyChangeListeners(ModelChange.addSchedule(schedule)));
     }
 
     @Override
     public void deleteSchedule(Schedule target) {
         scheduleBoard.removeSchedule(target);
+        history.record(model -> model.addSchedule(target), model -> model.deleteSchedule(target));
+        notifyChangeListeners(ModelChange.deleteSchedule(target));
     }
 
     @Override
     public void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule) {
         requireAllNonNull(scheduleToEdit, editedSchedule);
         scheduleBoard.setSchedule(scheduleToEdit, editedSchedule);
+        history.record(model -> model.setSchedule(editedSchedule, scheduleToEdit),
+                model -> model.setSchedule(scheduleToEdit, editedSchedule));
+        notifyChangeListeners(ModelChange.setSchedule(scheduleToEdit, editedSchedule));
     }
 
     @Override
     public void editCandidateInSchedule(Schedule schedule, Person editedCandidate) {
-        scheduleBoard.editCandidateInSchedule(schedule, editedCandidate);
+        Schedule previousSchedule = scheduleBoard.editCandidateInSchedule(schedule, editedCandidate);
+        // The edited schedule has the same date and time as the previous one, so it is found by the same target.
+        history.record(model -> model.setSchedule(schedule, previousSchedule),
+                model -> model.editCandidateInSchedule(schedule, editedCandidate));
+        notifyChangeListeners(ModelChange.editCandidateInSchedule(schedule, editedCandidate));
     }
 
     @Override
@@ -200,6 +287,24 @@ public class ModelManager implements Model {
         return scheduleBoard.hasSameDateTimeEdit(schedule, scheduleToEdit);
     }
 
+    @Override
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        requireNonNull(date);
+        return scheduleBoard.getSchedulesOn(date);
+    }
+
+    @Override
+    public List<TimeSlot> getFreeSlotsOn(LocalDate date) {
+        requireNonNull(date);
+        return scheduleBoard.getFreeSlots(date, LocalTime.MIN, LocalTime.MAX);
+    }
+
+    @Override
+    public List<Schedule> getSchedulesOfCandidate(Person candidate) {
+        requireNonNull(candidate);
+        return scheduleBoard.getSchedulesOfCandidate(candidate.getEmail());
+    }
+
     @Override
     public ReadOnlyScheduleBoard getScheduleBoard() {
         return scheduleBoard;
@@ -207,7 +312,12 @@ public class ModelManager implements Model {
 
     @Override
     public void setScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) {
+        ScheduleBoard previousScheduleBoard = new ScheduleBoard(this.scheduleBoard);
         this.scheduleBoard.resetData(scheduleBoard);
+        ScheduleBoard nextScheduleBoard = new ScheduleBoard(this.scheduleBoard);
+        history.record(model -> model.setScheduleBoard(previousScheduleBoard),
+                model -> model.setScheduleBoard(nextScheduleBoard));
+        notifyChangeListeners(ModelChange.resetScheduleBoard());
     }
 
     @Override
@@ -227,7 +337,170 @@ public class ModelManager implements Model {
 
     @Override
     public void setTheme(Theme theme) {
-        this.getGuiSettings().setTheme(theme);
+        userPrefs.setTheme(theme);
+    }
+
+    //=========== Loading ====================================================================================
+
+    /**
+     * Sets the whole address book still being read from storage, which is to replace the first persons that this
+     * model was created with once it has been read, by {@link #addPendingPersons()}.
+     * The address book must not be changed before then.
+     */
+    public void setPendingAddressBook(Future<ReadOnlyAddressBook> pendingAddressBook) {
+        requireNonNull(pendingAddressBook);
+        this.pendingAddressBook = pendingAddressBook;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons are not treated as unsaved changes, as they were read from storage. If the address book could not be
+     * read, an empty address book is used instead, as when the data files cannot be loaded at startup, so that the
+     * first persons alone are never saved in place of the whole address book.
+     */
+    @Override
+    public void addPendingPersons() {
+        Future<ReadOnlyAddressBook> pending = pendingAddressBook;
+        if (pending == null) {
+            return;
+        }
+
+        ReadOnlyAddressBook wholeAddressBook;
+        try {
+            wholeAddressBook = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            logger.warning("Data files could not be loaded. Will be starting with an empty data: " + e.getCause());
+            wholeAddressBook = new AddressBook();
+        }
+        pendingAddressBook = null;
+
+        boolean isSaved = !hasUnsavedAddressBookChanges();
+        addressBook.resetData(wholeAddressBook);
+        if (isSaved) {
+            markAddressBookSaved(getAddressBookVersion());
+        }
+        // Background readers should see the whole address book, as commands do.
+        publishSnapshot();
+        logger.info("Loaded all " + addressBook.getPersonList().size() + " candidates");
+    }
+
+    @Override
+    public void awaitPendingPersons() throws InterruptedException {
+        Future<ReadOnlyAddressBook> pending = pendingAddressBook;
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            pending.get();
+        } catch (ExecutionException e) {
+            // The failure is handled when the persons are added.
+        }
+    }
+
+    //=========== Change tracking ============================================================================
+
+    @Override
+    public boolean hasUnsavedAddressBookChanges() {
+        return addressBook.getVersion() != savedAddressBookVersion;
+    }
+
+    @Override
+    public boolean hasUnsavedScheduleBoardChanges() {
+        return scheduleBoard.getVersion() != savedScheduleBoardVersion;
+    }
+
+    @Override
+    public boolean hasUnsavedUserPrefsChanges() {
+        return userPrefs.getVersion() != savedUserPrefsVersion;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public long getScheduleBoardVersion() {
+        return scheduleBoard.getVersion();
+    }
+
+    @Override
+    public long getUserPrefsVersion() {
+        return userPrefs.getVersion();
+    }
+
+    @Override
+    public void markAddressBookSaved(long version) {
+        savedAddressBookVersion = version;
+    }
+
+    @Override
+    public void markScheduleBoardSaved(long version) {
+        savedScheduleBoardVersion = version;
+    }
+
+    @Override
+    public void markUserPrefsSaved(long version) {
+        savedUserPrefsVersion = version;
+    }
+
+    //=========== Undo and redo ==============================================================================
+
+    @Override
+    public void commitChanges() {
+        history.commit();
+        publishSnapshot();
+    }
+
+    @Override
+    public boolean canUndoChanges() {
+        return history.canUndo();
+    }
+
+    @Override
+    public void undoChanges() {
+        history.undo(this);
+    }
+
+    @Override
+    public boolean canRedoChanges() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void redoChanges() {
+        history.redo(this);
+    }
+
+    /**
+     * Registers a listener that is notified of every change made to the address book or schedule board.
+     */
+    public void addChangeListener(Consumer<ModelChange> listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    private void notifyChangeListeners(ModelChange change) {
+        changeListeners.forEach(listener -> listener.accept(change));
+    }
+
+    //=========== Snapshots ==================================================================================
+
+    /**
+     * {@inheritDoc}
+     * The snapshot can be read from any thread.
+     */
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        snapshot = snapshot.next(addressBook, scheduleBoard);
     }
 
     //=========== JobRoleList Accessors =============================================================
@@ -247,11 +520,15 @@ public class ModelManager implements Model {
     @Override
     public void deleteJobRoles(JobRole target) {
         addressBook.removeJobRole(target);
+        history.record(model -> model.addJobRole(target), model -> model.deleteJobRoles(target));
+        notifyChangeListeners(ModelChange.deleteJobRole(target));
     }
 
     @Override
     public void addJobRole(JobRole jobRole) {
         addressBook.addJobRole(jobRole);
+        history.record(model -> model.deleteJobRoles(jobRole), model -> model.addJobRole(jobRole));
+        notifyChangeListeners(ModelChange.addJobRole(jobRole));
     }
 
     @Override
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+
+/**
+ * An immutable copy of the address book and schedule board of a model, as they were after a command.
+ *
+ * The data in a snapshot is never changed, so it can be read from any thread without locking, such as by saves,
+ * exports and statistics. Persons, job roles and schedules are themselves never changed in place, so a snapshot copies
+ * only the lists holding them, and a part that has not changed since the previous snapshot is shared with it.
+ */
+public final class ModelSnapshot {
+
+    private final long version;
+    private final long addressBookVersion;
+    private final long scheduleBoardVersion;
+    private final ReadOnlyAddressBook addressBook;
+    private final ReadOnlyScheduleBoard scheduleBoard;
+
+    private ModelSnapshot(long version, long addressBookVersion, long scheduleBoardVersion,
+            ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) {
+        this.version = version;
+        this.addressBookVersion = addressBookVersion;
+        this.scheduleBoardVersion = scheduleBoardVersion;
+        this.addressBook = addressBook;
+        this.scheduleBoard = scheduleBoard;
+    }
+
+    /**
+     * Takes the first snapshot of {@code addressBook} and {@code scheduleBoard}.
+     */
+    static ModelSnapshot of(AddressBook addressBook, ScheduleBoard scheduleBoard) {
+        requireAllNonNull(addressBook, scheduleBoard);
+        return new ModelSnapshot(0, addressBook.getVersion(), scheduleBoard.getVersion(),
+                copyOf(addressBook), copyOf(scheduleBoard));
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} and {@code scheduleBoard} that follows this one, or this snapshot if
+     * neither of them has changed since it was taken.
+     */
+    ModelSnapshot next(AddressBook addressBook, ScheduleBoard scheduleBoard) {
+        requireAllNonNull(addressBook, scheduleBoard);
+        boolean isAddressBookChanged = addressBook.getVersion() != addressBookVersion;
+        boolean isScheduleBoardChanged = scheduleBoard.getVersion() != scheduleBoardVersion;
+        if (!isAddressBookChanged && !isScheduleBoardChanged) {
+            return this;
+        }
+
+        return new ModelSnapshot(version + 1, addressBook.getVersion(), scheduleBoard.getVersion(),
+                isAddressBookChanged ? copyOf(addressBook) : this.addressBook,
+                isScheduleBoardChanged ? copyOf(scheduleBoard) : this.scheduleBoard);
+    }
+
+    /**
+     * Returns the number of snapshots taken of the model before this one.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public ReadOnlyScheduleBoard getScheduleBoard() {
+        return scheduleBoard;
+    }
+
+    /**
+     * Returns an immutable copy of {@code addressBook}, or {@code addressBook} itself if it is already one.
+     */
+    public static ReadOnlyAddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof ImmutableAddressBook) {
+            return addressBook;
+        }
+        return new ImmutableAddressBook(addressBook);
+    }
+
+    /**
+     * Returns an immutable copy of {@code scheduleBoard}, or {@code scheduleBoard} itself if it is already one.
+     */
+    public static ReadOnlyScheduleBoard copyOf(ReadOnlyScheduleBoard scheduleBoard) {
+        if (scheduleBoard instanceof ImmutableScheduleBoard) {
+            return scheduleBoard;
+        }
+        return new ImmutableScheduleBoard(scheduleBoard);
+    }
+
+    /**
+     * An address book whose lists are unmodifiable copies.
+     */
+    private static class ImmutableAddressBook extends AddressBookView {
+        ImmutableAddressBook(ReadOnlyAddressBook source) {
+            super(unmodifiableCopyOf(source.getJobRoleList()), unmodifiableCopyOf(source.getPersonList()));
+        }
+
+        private static <T> ObservableList<T> unmodifiableCopyOf(ObservableList<T> list) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+        }
+    }
+
+    /**
+     * A schedule board whose list is an unmodifiable copy.
+     */
+    private static class ImmutableScheduleBoard implements ReadOnlyScheduleBoard {
+        private final List<Schedule> schedules;
+
+        ImmutableScheduleBoard(ReadOnlyScheduleBoard source) {
+            schedules = List.copyOf(source.getScheduleList());
+        }
+
+        @Override
+        public List<Schedule> getScheduleList() {
+            return schedules;
+        }
+    }
+}
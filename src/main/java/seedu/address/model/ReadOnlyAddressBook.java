@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.JobRole;
@@ -23,5 +24,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<JobRole> getJobRoleList();
 
-    Map<JobRole, Long> getJobApplicantStatistics();
+    /**
+     * Returns a mapping of each job role to the number of persons applying for it.
+     */
+    default Map<JobRole, Long> getJobApplicantStatistics() {
+        return getPersonList().stream()
+                .flatMap(person -> person.getJobRoles().stream())
+                .collect(Collectors.groupingBy(jobRole -> jobRole, Collectors.counting()));
+    }
 }
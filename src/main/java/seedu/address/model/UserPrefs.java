@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Theme;
 
 /**
  * Represents User's preferences.
@@ -17,6 +18,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path addressBookFilePath = Paths.get("data" , "candidatelist.json");
     private Path scheduleBoardFilePath = Paths.get("data" , "scheduleboard.json");
 
+    /** Number of modifications made to these preferences, used to detect unsaved changes. */
+    private long version;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -35,8 +39,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
      */
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
-        setGuiSettings(newUserPrefs.getGuiSettings());
+        // The GUI settings are copied, as their theme can be changed in place.
+        setGuiSettings(new GuiSettings(newUserPrefs.getGuiSettings()));
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setScheduleBoardFilePath(newUserPrefs.getScheduleBoardFilePath());
     }
 
     public GuiSettings getGuiSettings() {
@@ -46,6 +52,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        version++;
+    }
+
+    /**
+     * Sets the theme in the GUI settings.
+     */
+    public void setTheme(Theme theme) {
+        requireNonNull(theme);
+        guiSettings.setTheme(theme);
+        version++;
     }
 
     public Path getAddressBookFilePath() {
@@ -55,6 +71,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         this.addressBookFilePath = addressBookFilePath;
+        version++;
     }
 
     public Path getScheduleBoardFilePath() {
@@ -64,6 +81,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setScheduleBoardFilePath(Path scheduleBoardFilePath) {
         requireNonNull(scheduleBoardFilePath);
         this.scheduleBoardFilePath = scheduleBoardFilePath;
+        version++;
+    }
+
+    /**
+     * Returns the number of modifications made to these preferences since they were created.
+     */
+    public long getVersion() {
+        return version;
     }
 
 
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's job role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobRole(String)}
@@ -73,7 +75,8 @@ public class JobRole {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // Consistent with equals, which ignores case.
+        return value.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
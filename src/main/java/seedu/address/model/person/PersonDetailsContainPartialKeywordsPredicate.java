@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s details (i.e., any of its attributes) contain any of the keywords given as part of a
+ * word.
+ */
+public class PersonDetailsContainPartialKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public PersonDetailsContainPartialKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return keywords.stream()
+                .anyMatch(keyword -> personDetailsContainPartialKeyword(person, keyword));
+    }
+
+    private boolean personDetailsContainPartialKeyword(Person person, String keyword) {
+        return StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword)
+                || StringUtil.containsPartialWordIgnoreCase(person.getPhone().value, keyword)
+                || StringUtil.containsPartialWordIgnoreCase(person.getAddress().value, keyword)
+                || StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword)
+                || person.getJobRoles().stream()
+                    .anyMatch(jobRole -> StringUtil.containsPartialWordIgnoreCase(jobRole.value, keyword))
+                || StringUtil.containsPartialWordIgnoreCase(person.getLabel().value, keyword)
+                || StringUtil.containsPartialWordIgnoreCase(person.getRemark().value, keyword)
+                || person.getTags().stream()
+                    .anyMatch(tag -> StringUtil.containsPartialWordIgnoreCase(tag.tagName, keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonDetailsContainPartialKeywordsPredicate)) {
+            return false;
+        }
+
+        PersonDetailsContainPartialKeywordsPredicate otherPredicate =
+                (PersonDetailsContainPartialKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the details of persons to the persons with those details.
+ *
+ * A word is any run of non-whitespace characters in a person's name, phone, email, address, job roles, label, remark
+ * or tags, and is matched ignoring case, as {@link PersonDetailsContainKeywordsPredicate} does.
+ * Persons are held by identity, so the same {@code Person} instance must be given when it is removed.
+ *
+ * The words themselves are kept sorted, so that words with a given prefix can be listed, and are indexed by each of
+ * their substrings of up to {@value #GRAM_LENGTH} characters, so that words containing a keyword can be found without
+ * checking every word.
+ */
+public class PersonSearchIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** Length of the longest substrings of words that words are indexed by. */
+    private static final int GRAM_LENGTH = 3;
+
+    private final NavigableMap<String, Set<Person>> personsByWord = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index under each word in its details.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = newIdentitySet();
+                personsByWord.put(word, persons);
+                for (String gram : gramsOf(word)) {
+                    wordsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+
+            personsByWord.remove(word);
+            for (String gram : gramsOf(word)) {
+                Set<String> words = wordsByGram.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        personsByWord.clear();
+        wordsByGram.clear();
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as a whole word in their details, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            Set<Person> persons = personsByWord.get(keyword.toLowerCase(Locale.ROOT));
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as part of a word in their details, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPartial(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            if (preppedKeyword.isEmpty()) {
+                continue;
+            }
+            for (String word : wordsContaining(preppedKeyword)) {
+                matches.addAll(personsByWord.get(word));
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words in the index that start with {@code prefix}, ignoring case, in
+     * alphabetical order. The words are in lower case.
+     */
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        String preppedPrefix = prefix.toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : personsByWord.tailMap(preppedPrefix, true).keySet()) {
+            if (words.size() >= limit || !word.startsWith(preppedPrefix)) {
+                break;
+            }
+            words.add(word);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the words in the index that contain {@code part}, which must be in lower case.
+     */
+    private Collection<String> wordsContaining(String part) {
+        if (part.length() <= GRAM_LENGTH) {
+            return wordsByGram.getOrDefault(part, Collections.emptySet());
+        }
+
+        // A word containing part contains every gram of part, so only the words with its rarest gram are checked.
+        Set<String> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= part.length(); i++) {
+            Set<String> words = wordsByGram.get(part.substring(i, i + GRAM_LENGTH));
+            if (words == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || words.size() < candidates.size()) {
+                candidates = words;
+            }
+        }
+
+        List<String> words = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (candidate.contains(part)) {
+                words.add(candidate);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        addWords(words, person.getName().fullName);
+        addWords(words, person.getPhone().value);
+        addWords(words, person.getEmail().value);
+        addWords(words, person.getAddress().value);
+        for (JobRole jobRole : person.getJobRoles()) {
+            addWords(words, jobRole.value);
+        }
+        addWords(words, person.getLabel().value);
+        addWords(words, person.getRemark().value);
+        for (Tag tag : person.getTags()) {
+            addWords(words, tag.tagName);
+        }
+        return words;
+    }
+
+    private static void addWords(Set<String> words, String text) {
+        for (String word : WHITESPACE.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct substrings of {@code word} that are at most {@value #GRAM_LENGTH} characters long.
+     */
+    private static Set<String> gramsOf(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < word.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, word.length()); end++) {
+                grams.add(word.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
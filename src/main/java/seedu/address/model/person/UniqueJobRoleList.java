@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -22,6 +23,8 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
     private final ObservableList<JobRole> internalList = FXCollections.observableArrayList();
     private final ObservableList<JobRole> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Job roles are looked up for every person read from storage, so membership is checked by hash.
+    private final Set<JobRole> jobRoleSet = new HashSet<>();
 
     /**
      * Default constructor for this list. The following jobRoles are by default added into this list.
@@ -36,6 +39,7 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         internalList.add(new JobRole("Product Manager"));
         internalList.add(new JobRole("DevOps Engineer"));
         internalList.add(new JobRole("QA Engineer"));
+        jobRoleSet.addAll(internalList);
     }
 
     /**
@@ -43,7 +47,7 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
      */
     public boolean contains(JobRole toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return jobRoleSet.contains(toCheck);
     }
 
     /**
@@ -51,7 +55,7 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
      */
     public boolean containsAll(Set<JobRole> toCheck) {
         requireNonNull(toCheck);
-        return toCheck.stream().allMatch(this::contains);
+        return jobRoleSet.containsAll(toCheck);
     }
 
     /**
@@ -64,6 +68,7 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
             throw new DuplicateJobRoleException();
         }
         internalList.add(toAdd);
+        jobRoleSet.add(toAdd);
     }
 
     /**
@@ -75,12 +80,15 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         if (!internalList.remove(toRemove)) {
             throw new JobRoleNotFoundException();
         }
+        jobRoleSet.remove(toRemove);
     }
 
 
     public void setJobRoles(UniqueJobRoleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        jobRoleSet.clear();
+        jobRoleSet.addAll(internalList);
     }
 
     /**
@@ -94,6 +102,8 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         }
 
         internalList.setAll(jobRoles);
+        jobRoleSet.clear();
+        jobRoleSet.addAll(jobRoles);
     }
 
     /**
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by their {@code Name}, the identity used by Person#isSamePerson(Person), so that checking
+ * for a person does not require a scan of the list, and by the words in their details so that they can be searched
+ * without a scan of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +55,25 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        searchIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list in a single change to the list, so that its listeners are notified
+     * once however many persons are added.
+     * None of {@code persons} may already exist in the list, or have the same identity as another of them.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Person> addedIndex = indexByName(persons);
+        if (addedIndex == null || addedIndex.keySet().stream().anyMatch(personsByName::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(persons);
+        personsByName.putAll(addedIndex);
+        persons.forEach(searchIndex::add);
     }
 
     /**
@@ -65,7 +93,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedPerson);
     }
 
     /**
@@ -74,14 +106,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        personsByName.remove(toRemove.getName());
+        searchIndex.remove(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        rebuildSearchIndex();
     }
 
     /**
@@ -90,11 +129,44 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = indexByName(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementIndex);
+        rebuildSearchIndex();
+    }
+
+    /**
+     * Returns the persons in the list with any of {@code keywords} as a whole word in their details, ignoring case.
+     * The returned set compares persons by identity.
+     *
+     * @see PersonSearchIndex#find(java.util.Collection)
+     */
+    public Set<Person> findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.find(keywords);
+    }
+
+    /**
+     * Returns the persons in the list with any of {@code keywords} as part of a word in their details, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsPartially(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.findPartial(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words in the details of persons in the list that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return searchIndex.getWordsStartingWith(prefix, limit);
     }
 
     /**
@@ -134,17 +206,21 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildSearchIndex() {
+        searchIndex.clear();
+        internalList.forEach(searchIndex::add);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name, or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -10,9 +10,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Mode;
@@ -30,7 +28,6 @@ public class Schedule implements Comparable<Schedule> {
             "An interview schedule's date and duration should contain 3 following details: "
                     + "date, start time, end time in the format "
                     + "yyyy-MM-dd HH:mm HH:mm (e.g. 2025-05-13 12:00 13:00)";
-    private final Logger logger = LogsCenter.getLogger(getClass());
     private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
@@ -147,12 +144,8 @@ public class Schedule implements Comparable<Schedule> {
             return false;
         }
         // Schedules clash if one starts before the other ends and vice versa.
-        boolean clash = this.getStartTime().isBefore(otherSchedule.getEndTime())
+        return this.getStartTime().isBefore(otherSchedule.getEndTime())
                 && otherSchedule.getStartTime().isBefore(this.getEndTime());
-        if (clash) {
-            logger.info("Time clash detected between schedules.");
-        }
-        return clash;
     }
 
     /**
@@ -199,6 +192,7 @@ public class Schedule implements Comparable<Schedule> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(date, startTime, endTime, mode, candidateName, candidateEmail);
+        // only the fields compared by equals are used, as the candidate details can be changed
+        return Objects.hash(date, startTime, endTime);
     }
 }
@@ -2,10 +2,13 @@ package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 
 /**
@@ -16,6 +19,9 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
 
     private final UniqueScheduleList schedules;
 
+    /** Number of modifications made to this schedule board, used to detect unsaved changes. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,10 +52,11 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
 
     /**
      * Replaces the contents of the schedule list with {@code schedules}.
-     * {@code schedules} must not contain duplicate schedules.
+     * {@code schedules} must not contain duplicate schedules or schedules that clash with each other.
      */
     public void setSchedules(List<Schedule> schedules) {
         this.schedules.setSchedules(schedules);
+        version++;
     }
 
     /**
@@ -75,6 +82,16 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void addSchedule(Schedule schedule) {
         schedules.add(schedule);
+        version++;
+    }
+
+    /**
+     * Adds {@code schedules} to schedule board.
+     * None of {@code schedules} may already exist in schedule board, or be equal to or clash with another schedule.
+     */
+    public void addSchedules(List<Schedule> schedules) {
+        this.schedules.addAll(schedules);
+        version++;
     }
 
     /**
@@ -87,6 +104,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
         requireNonNull(editedSchedule);
 
         schedules.setSchedule(target, editedSchedule);
+        version++;
     }
 
     /**
@@ -95,6 +113,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void removeSchedule(Schedule key) {
         schedules.remove(key);
+        version++;
     }
 
 
@@ -110,13 +129,25 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      * Replaces the candidate info in the given schedule {@code target} with the identity of the
      * edited candidate {@code editedSchedule}.
      * {@code target} must exist in the ScheduleBoard.
+     *
+     * @return The schedule that was replaced, which has the previous candidate info.
      */
-    public void editCandidateInSchedule(Schedule schedule, Person editedCandidate) {
-        schedules.editCandidateInSchedule(schedule, editedCandidate);
+    public Schedule editCandidateInSchedule(Schedule schedule, Person editedCandidate) {
+        Schedule previousSchedule = schedules.editCandidateInSchedule(schedule, editedCandidate);
+        version++;
+        return previousSchedule;
     }
 
 
 
+    /**
+     * Returns the number of modifications made to this schedule board since it was created.
+     * The value only ever increases, so two equal readings imply no modification in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public boolean hasSameDateTime(Schedule schedule) {
         return schedules.hasSameTime(schedule);
     }
@@ -125,6 +156,27 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
         return schedules.hasSameTimeEdit(schedule, scheduleToEdit);
     }
 
+    /**
+     * Returns the schedules on {@code date}, sorted by start time.
+     */
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        return schedules.getSchedulesOn(date);
+    }
+
+    /**
+     * Returns the periods between {@code from} and {@code to} on {@code date} that are not taken up by any schedule.
+     */
+    public List<TimeSlot> getFreeSlots(LocalDate date, LocalTime from, LocalTime to) {
+        return schedules.getFreeSlots(date, from, to);
+    }
+
+    /**
+     * Returns the schedules of the candidate with the given {@code email}.
+     */
+    public List<Schedule> getSchedulesOfCandidate(Email email) {
+        return schedules.getSchedulesOfCandidate(email);
+    }
+
 
     @Override
     public String toString() {
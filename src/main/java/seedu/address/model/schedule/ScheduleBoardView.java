@@ -0,0 +1,29 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+
+/**
+ * An unmodifiable view of a schedule board made of an existing list of schedules, such as the filtered schedules of a
+ * model, without copying it.
+ * The list is not checked for duplicates or order, so it should come from a schedule board.
+ */
+public class ScheduleBoardView implements ReadOnlyScheduleBoard {
+
+    private final ObservableList<Schedule> schedules;
+
+    /**
+     * Creates a view of {@code schedules}, which later changes to it are reflected in.
+     */
+    public ScheduleBoardView(ObservableList<Schedule> schedules) {
+        requireNonNull(schedules);
+        this.schedules = schedules;
+    }
+
+    @Override
+    public ObservableList<Schedule> getScheduleList() {
+        return schedules;
+    }
+
+}
@@ -0,0 +1,147 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An index of schedules by date, with the schedules on each date sorted by start time and then end time.
+ *
+ * Two schedules are held in the same position of the index only if they are equal by {@code Schedule#equals(Object)},
+ * so the index can be used both to find a schedule and to find the schedules that clash with it.
+ * Schedules in the index must not clash with each other, and their date and times must not be modified while they
+ * are in the index.
+ */
+public class ScheduleIndex {
+
+    private static final Comparator<Schedule> BY_TIME = Comparator.comparing(Schedule::getStartTime)
+            .thenComparing(Schedule::getEndTime);
+
+    private final TreeMap<LocalDate, NavigableSet<Schedule>> schedulesByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code schedule} to the index.
+     * Returns false if an equal schedule is already in the index, in which case the index is not modified.
+     */
+    public boolean add(Schedule schedule) {
+        requireNonNull(schedule);
+        return schedulesByDate.computeIfAbsent(schedule.getDate(), date -> new TreeSet<>(BY_TIME)).add(schedule);
+    }
+
+    /**
+     * Removes the schedule equal to {@code schedule} from the index.
+     * Returns false if there is no such schedule.
+     */
+    public boolean remove(Schedule schedule) {
+        requireNonNull(schedule);
+        NavigableSet<Schedule> schedules = schedulesByDate.get(schedule.getDate());
+        if (schedules == null || !schedules.remove(schedule)) {
+            return false;
+        }
+        if (schedules.isEmpty()) {
+            schedulesByDate.remove(schedule.getDate());
+        }
+        return true;
+    }
+
+    public void clear() {
+        schedulesByDate.clear();
+    }
+
+    /**
+     * Returns true if the index contains a schedule equal to {@code schedule}.
+     */
+    public boolean contains(Schedule schedule) {
+        requireNonNull(schedule);
+        NavigableSet<Schedule> schedules = schedulesByDate.get(schedule.getDate());
+        return schedules != null && schedules.contains(schedule);
+    }
+
+    /**
+     * Returns true if any schedule in the index, other than one equal to {@code ignored}, clashes with
+     * {@code schedule} as defined by {@code Schedule#timeClash(Object)}.
+     *
+     * @param ignored Schedule to leave out of the check, or null to check against all schedules.
+     */
+    public boolean hasClash(Schedule schedule, Schedule ignored) {
+        requireNonNull(schedule);
+        NavigableSet<Schedule> schedules = schedulesByDate.get(schedule.getDate());
+        if (schedules == null) {
+            return false;
+        }
+
+        // Schedules on a date do not clash, so they end in the same order as they start. Only the last schedule
+        // ordered before this one and the first ordered at or after it can clash with it if any schedule does.
+        Schedule before = schedules.lower(schedule);
+        if (before != null && before.equals(ignored)) {
+            before = schedules.lower(before);
+        }
+        Schedule after = schedules.ceiling(schedule);
+        if (after != null && after.equals(ignored)) {
+            after = schedules.higher(after);
+        }
+        return (before != null && schedule.timeClash(before)) || (after != null && schedule.timeClash(after));
+    }
+
+    /**
+     * Returns true if any two schedules in the index clash with each other, in which case {@link #hasClash} cannot be
+     * relied on.
+     */
+    public boolean hasAnyClash() {
+        for (NavigableSet<Schedule> schedules : schedulesByDate.values()) {
+            // A schedule that clashes with any later schedule on its date also clashes with the next one, which
+            // starts no earlier than it and no later than the other.
+            Schedule previous = null;
+            for (Schedule schedule : schedules) {
+                if (previous != null && previous.timeClash(schedule)) {
+                    return true;
+                }
+                previous = schedule;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the schedules on {@code date}, sorted by start time.
+     */
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        requireNonNull(date);
+        NavigableSet<Schedule> schedules = schedulesByDate.get(date);
+        return schedules == null ? Collections.emptyList() : List.copyOf(schedules);
+    }
+
+    /**
+     * Returns the periods between {@code from} and {@code to} on {@code date} that no schedule takes up,
+     * sorted by start time.
+     */
+    public List<TimeSlot> getFreeSlots(LocalDate date, LocalTime from, LocalTime to) {
+        requireAllNonNull(date, from, to);
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        LocalTime freeFrom = from;
+        for (Schedule schedule : getSchedulesOn(date)) {
+            if (!schedule.getStartTime().isBefore(to)) {
+                break;
+            }
+            if (schedule.getStartTime().isAfter(freeFrom)) {
+                freeSlots.add(new TimeSlot(freeFrom, schedule.getStartTime()));
+            }
+            if (schedule.getEndTime().isAfter(freeFrom)) {
+                freeFrom = schedule.getEndTime();
+            }
+        }
+        if (freeFrom.isBefore(to)) {
+            freeSlots.add(new TimeSlot(freeFrom, to));
+        }
+        return freeSlots;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a period of time within a day, from its start time (inclusive) to its end time (exclusive).
+ * Guarantees: immutable; start time is before end time.
+ */
+public class TimeSlot {
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Constructs a {@code TimeSlot}.
+     *
+     * @param startTime Start of the time slot.
+     * @param endTime End of the time slot, which must be after {@code startTime}.
+     */
+    public TimeSlot(LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        assert startTime.isBefore(endTime);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimeSlot otherTimeSlot)) {
+            return false;
+        }
+
+        return startTime.equals(otherTimeSlot.startTime)
+                && endTime.equals(otherTimeSlot.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startTime", startTime)
+                .add("endTime", endTime)
+                .toString();
+    }
+}
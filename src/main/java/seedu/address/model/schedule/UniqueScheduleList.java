@@ -3,15 +3,19 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.exceptions.ClashingScheduleException;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 
@@ -22,24 +26,31 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  * removal of schedule uses Schedule#equals(Schedule) to ensure that the schedule being added, updated or removed is
  * unique in terms of identity in the UniqueScheduleList.
  *
+ * The list is kept sorted by {@code Schedule#compareTo(Schedule)}. Each modification moves only the schedules it
+ * changes, so that observers of the list are notified of those schedules alone.
+ *
+ * Schedules are also held in a {@code ScheduleIndex} by date, so that finding a schedule or the schedules that clash
+ * with it only looks at the schedules on the same date. They are also grouped by candidate email, so that the
+ * schedules of a candidate can be found without a scan of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Schedule#equals(Object)
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
 
-    private final Logger logger = LogsCenter.getLogger(getClass());
-
     private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
     private final ObservableList<Schedule> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private ScheduleIndex schedulesByDate = new ScheduleIndex();
+    private final Map<Email, List<Schedule>> schedulesByCandidateEmail = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return schedulesByDate.contains(toCheck);
     }
 
     /**
@@ -48,8 +59,7 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public boolean hasSameTime(Schedule schedule) {
         requireNonNull(schedule);
-        logger.info("Number of clashes " + internalList.stream().filter(schedule::timeClash).count());
-        return internalList.stream().filter(schedule::timeClash).count() > 0;
+        return schedulesByDate.hasClash(schedule, null);
     }
 
     /**
@@ -58,10 +68,29 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public boolean hasSameTimeEdit(Schedule editedSchedule, Schedule scheduleToEdit) {
         requireNonNull(editedSchedule);
-        logger.info("Number of clashes " + internalList.stream().filter(schedule -> !schedule.equals(scheduleToEdit))
-                .filter(editedSchedule::timeClash).count());
-        return internalList.stream().filter(schedule -> !schedule.equals(scheduleToEdit))
-                .filter(editedSchedule::timeClash).count() > 0;
+        return schedulesByDate.hasClash(editedSchedule, scheduleToEdit);
+    }
+
+    /**
+     * Returns the schedules on {@code date}, sorted by start time.
+     */
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        return schedulesByDate.getSchedulesOn(date);
+    }
+
+    /**
+     * Returns the periods between {@code from} and {@code to} on {@code date} that are not taken up by any schedule.
+     */
+    public List<TimeSlot> getFreeSlots(LocalDate date, LocalTime from, LocalTime to) {
+        return schedulesByDate.getFreeSlots(date, from, to);
+    }
+
+    /**
+     * Returns the schedules of the candidate with the given {@code email}.
+     */
+    public List<Schedule> getSchedulesOfCandidate(Email email) {
+        requireNonNull(email);
+        return List.copyOf(schedulesByCandidateEmail.getOrDefault(email, List.of()));
     }
 
 
@@ -71,11 +100,34 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void add(Schedule toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!schedulesByDate.add(toAdd)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.add(insertionPositionOf(toAdd), toAdd);
+        addToCandidateIndex(toAdd);
+    }
+
+    /**
+     * Adds {@code schedules} to the list, each at its place in the sorted list, so that only the added schedules are
+     * moved and indexed rather than the whole list.
+     * None of {@code schedules} may already exist in the list, or be equal to another of them, and none may clash
+     * with a schedule in the list or with another of them.
+     */
+    public void addAll(List<Schedule> schedules) {
+        requireAllNonNull(schedules);
+        ScheduleIndex addedSchedules = indexOf(schedules);
+        if (addedSchedules == null || schedules.stream().anyMatch(this::contains)) {
+            throw new DuplicateScheduleException();
+        }
+        if (addedSchedules.hasAnyClash() || schedules.stream().anyMatch(this::hasSameTime)) {
+            throw new ClashingScheduleException();
+        }
+
+        for (Schedule schedule : schedules) {
+            schedulesByDate.add(schedule);
+            internalList.add(insertionPositionOf(schedule), schedule);
+            addToCandidateIndex(schedule);
+        }
     }
 
     /**
@@ -85,7 +137,7 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new ScheduleNotFoundException();
         }
@@ -94,8 +146,16 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
-        FXCollections.sort(internalList);
+        schedulesByDate.remove(target);
+        schedulesByDate.add(editedSchedule);
+        removeFromCandidateIndex(internalList.get(index));
+        addToCandidateIndex(editedSchedule);
+        if (isInOrderAt(index, editedSchedule)) {
+            internalList.set(index, editedSchedule);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionPositionOf(editedSchedule), editedSchedule);
+        }
     }
 
     /**
@@ -104,28 +164,39 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new ScheduleNotFoundException();
         }
+        removeFromCandidateIndex(internalList.remove(index));
+        schedulesByDate.remove(toRemove);
     }
 
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
+        schedulesByDate = indexOf(replacement.internalList);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        rebuildCandidateIndex();
     }
 
     /**
      * Replaces the contents of this list with {@code schedules}.
-     * {@code schedules} must not contain duplicate schedules.
+     * {@code schedules} must not contain duplicate schedules or schedules that clash with each other.
      */
     public void setSchedules(List<Schedule> schedules) {
         requireAllNonNull(schedules);
-        if (!schedulesAreUnique(schedules)) {
+        ScheduleIndex replacementIndex = indexOf(schedules);
+        if (replacementIndex == null) {
             throw new DuplicateScheduleException();
         }
-        internalList.setAll(schedules);
-        FXCollections.sort(internalList);
+        if (replacementIndex.hasAnyClash()) {
+            throw new ClashingScheduleException();
+        }
+        schedulesByDate = replacementIndex;
+        List<Schedule> sortedSchedules = new ArrayList<>(schedules);
+        sortedSchedules.sort(null);
+        internalList.setAll(sortedSchedules);
+        rebuildCandidateIndex();
     }
 
     /**
@@ -146,21 +217,30 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     }
 
     /**
-     * Replaces the candidate info in the schedule {@code target} in the list with the candidate info from
-     * {@code editedCandidate}.
+     * Replaces the schedule {@code target} in the list with a copy of it that has the candidate info from
+     * {@code editedCandidate}. The schedule is not changed in place, as copies of the list may share it.
      * {@code target} must exist in the list.
+     *
+     * @return The schedule that was replaced, which has the previous candidate info.
      */
-    public void editCandidateInSchedule(Schedule target, Person editedCandidate) {
+    public Schedule editCandidateInSchedule(Schedule target, Person editedCandidate) {
         requireAllNonNull(target, editedCandidate);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new ScheduleNotFoundException();
         }
 
-        internalList.get(index).setCandidateEmail(editedCandidate.getEmail());
-        internalList.get(index).setCandidateName(editedCandidate.getName());
-        FXCollections.sort(internalList);
+        Schedule schedule = internalList.get(index);
+        Schedule editedSchedule = new Schedule(schedule.getDate(), schedule.getStartTime(), schedule.getEndTime(),
+                schedule.getMode(), editedCandidate.getName(), editedCandidate.getEmail());
+        schedulesByDate.remove(schedule);
+        schedulesByDate.add(editedSchedule);
+        removeFromCandidateIndex(schedule);
+        addToCandidateIndex(editedSchedule);
+        // The edited schedule has the same date and time, so it keeps its place in the sorted list.
+        internalList.set(index, editedSchedule);
+        return schedule;
     }
 
     @Override
@@ -187,10 +267,89 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     }
 
     /**
-     * Returns true if {@code schedules} contains only unique schedules.
+     * Returns the position of the first schedule in the list that is not ordered before {@code schedule}.
      */
-    private boolean schedulesAreUnique(List<Schedule> schedules) {
-        return CollectionUtil.isUnique(schedules);
+    private int lowerBoundOf(Schedule schedule) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(schedule) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position after all schedules in the list that are not ordered after {@code schedule}, where
+     * {@code schedule} can be inserted to keep the list sorted.
+     */
+    private int insertionPositionOf(Schedule schedule) {
+        int position = lowerBoundOf(schedule);
+        while (position < internalList.size() && internalList.get(position).compareTo(schedule) == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the schedule equal to {@code schedule} in the list, or -1 if there is none.
+     */
+    private int positionOf(Schedule schedule) {
+        for (int i = lowerBoundOf(schedule); i < internalList.size()
+                && internalList.get(i).compareTo(schedule) == 0; i++) {
+            if (internalList.get(i).equals(schedule)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the list stays sorted when the schedule at {@code index} is replaced by {@code schedule}.
+     */
+    private boolean isInOrderAt(int index, Schedule schedule) {
+        return (index == 0 || internalList.get(index - 1).compareTo(schedule) <= 0)
+                && (index == internalList.size() - 1 || schedule.compareTo(internalList.get(index + 1)) <= 0);
+    }
+
+    private void addToCandidateIndex(Schedule schedule) {
+        if (schedule.getCandidateEmail() != null) {
+            schedulesByCandidateEmail.computeIfAbsent(schedule.getCandidateEmail(), email -> new ArrayList<>())
+                    .add(schedule);
+        }
+    }
+
+    private void removeFromCandidateIndex(Schedule schedule) {
+        List<Schedule> candidateSchedules = schedulesByCandidateEmail.get(schedule.getCandidateEmail());
+        if (candidateSchedules == null) {
+            return;
+        }
+        candidateSchedules.remove(schedule);
+        if (candidateSchedules.isEmpty()) {
+            schedulesByCandidateEmail.remove(schedule.getCandidateEmail());
+        }
+    }
+
+    private void rebuildCandidateIndex() {
+        schedulesByCandidateEmail.clear();
+        internalList.forEach(this::addToCandidateIndex);
+    }
+
+    /**
+     * Returns an index of {@code schedules}, or null if {@code schedules} does not contain only unique schedules.
+     */
+    private static ScheduleIndex indexOf(List<Schedule> schedules) {
+        ScheduleIndex index = new ScheduleIndex();
+        for (Schedule schedule : schedules) {
+            if (!index.add(schedule)) {
+                return null;
+            }
+        }
+        return index;
     }
 
     public ObservableList<Schedule> getAllSchedules() {
@@ -0,0 +1,10 @@
+package seedu.address.model.schedule.exceptions;
+
+/**
+ * Signals that the operation will result in Schedules on the same date whose timings overlap.
+ */
+public class ClashingScheduleException extends RuntimeException {
+    public ClashingScheduleException() {
+        super("Operation would result in clashing schedules");
+    }
+}
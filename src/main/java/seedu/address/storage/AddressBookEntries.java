@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+
+/**
+ * The job roles and persons read from an address book file, not yet checked against each other or against any other
+ * address book, so that they can be merged into one.
+ * Each person is kept with its position in the file, or replaced by the error it could not be read due to, so that
+ * the persons that can be read are not discarded along with those that cannot.
+ */
+public class AddressBookEntries {
+
+    private final List<JobRole> jobRoles = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Adds {@code jobRole}, unless it has already been added.
+     */
+    void addJobRole(JobRole jobRole) {
+        if (!jobRoles.contains(jobRole)) {
+            jobRoles.add(jobRole);
+        }
+    }
+
+    /**
+     * Adds the next person in the file, or the error it could not be read due to, in which case {@code person} is
+     * null.
+     */
+    void addPerson(Person person, String error) {
+        assert person != null ^ error != null;
+        persons.add(person);
+        errors.add(error);
+    }
+
+    /**
+     * Returns the job roles in the file, without duplicates.
+     */
+    public List<JobRole> getJobRoles() {
+        return Collections.unmodifiableList(jobRoles);
+    }
+
+    /**
+     * Returns the number of persons in the file, including those that could not be read.
+     */
+    public int getPersonCount() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the person at {@code index} in the file, or an empty {@code Optional} if it could not be read.
+     */
+    public Optional<Person> getPerson(int index) {
+        return Optional.ofNullable(persons.get(index));
+    }
+
+    /**
+     * Returns the error that the person at {@code index} in the file could not be read due to, if any.
+     */
+    public Optional<String> getError(int index) {
+        return Optional.ofNullable(errors.get(index));
+    }
+}
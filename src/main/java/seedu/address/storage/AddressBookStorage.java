@@ -30,6 +30,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns a reader of the AddressBook data that can return the first persons before reading the rest.
+     * Returns {@code Optional.empty()} if the data can only be read as a whole using {@link #readAddressBook()},
+     * including when the storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<PartialAddressBookReader> readAddressBookInParts() throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +53,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Forces the data saved so far onto the storage device, if it was not forced when it was saved.
+     * @throws IOException if there was any problem forcing the data.
+     */
+    default void flushAddressBook() throws IOException {
+    }
+
 }
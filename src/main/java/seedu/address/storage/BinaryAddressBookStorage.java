@@ -0,0 +1,339 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Label;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.exceptions.DuplicateJobRoleException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a {@link BinarySnapshot} on the hard disk.
+ *
+ * Snapshots saved by this class are marked as trusted, as they are written from the model's already validated data.
+ * Reading a trusted snapshot skips the checks made on data read from JSON files and creates each distinct job role,
+ * tag and label only once. Snapshots that are not trusted are checked in the same way as JSON files.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private AddressBookStorage importStorage;
+    private FsyncScheduler fsyncScheduler;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null, FsyncScheduler.always());
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath} and forces saves onto the storage
+     * device as decided by {@code fsyncScheduler}.
+     *
+     * @param importStorage storage to read the address book from until a snapshot is first saved, or null if there
+     *     is none.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage importStorage, FsyncScheduler fsyncScheduler) {
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+        this.fsyncScheduler = fsyncScheduler;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath) && importStorage != null) {
+            logger.info("No snapshot at " + filePath + ", reading data from " + importStorage.getAddressBookFilePath());
+            return importStorage.readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(BinarySnapshot.read(in, BinarySnapshot.TYPE_ADDRESS_BOOK,
+                    BinaryAddressBookStorage::readRecords));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | IllegalArgumentException | DuplicateJobRoleException
+                | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Maps the snapshot into memory and returns a reader that decodes the persons in it as they are read.
+     * Returns {@code Optional.empty()} if there is no snapshot or it is not trusted.
+     */
+    @Override
+    public Optional<PartialAddressBookReader> readAddressBookInParts() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            BinarySnapshot.MappedInput input = BinarySnapshot.map(filePath, BinarySnapshot.TYPE_ADDRESS_BOOK);
+            if (!input.isTrusted()) {
+                return Optional.empty();
+            }
+            return Optional.of(new MappedAddressBookReader(input));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSynced = fsyncScheduler.shouldSync();
+        FileUtil.writeAtomically(filePath, out -> writeSnapshot(out, addressBook, true), isSynced);
+        if (!isSynced) {
+            fsyncScheduler.syncLater(filePath);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        fsyncScheduler.syncPending();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a snapshot, marked as trusted if {@code isTrusted} is true.
+     */
+    static void writeSnapshot(OutputStream out, ReadOnlyAddressBook addressBook, boolean isTrusted)
+            throws IOException {
+        BinarySnapshot.write(out, BinarySnapshot.TYPE_ADDRESS_BOOK, isTrusted,
+                output -> writeRecords(output, addressBook));
+    }
+
+    private static void writeRecords(BinarySnapshot.Output output, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        output.writeInt(addressBook.getJobRoleList().size());
+        for (JobRole jobRole : addressBook.getJobRoleList()) {
+            output.writeString(jobRole.value);
+        }
+
+        output.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            output.writeString(person.getName().fullName);
+            output.writeString(person.getPhone().value);
+            output.writeString(person.getEmail().value);
+            output.writeString(person.getAddress().value);
+            output.writeString(person.getLabel().value);
+            output.writeString(person.getRemark().value);
+            output.writeInt(person.getJobRoles().size());
+            for (JobRole jobRole : person.getJobRoles()) {
+                output.writeString(jobRole.value);
+            }
+            output.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                output.writeString(tag.tagName);
+            }
+        }
+    }
+
+    private static AddressBook readRecords(BinarySnapshot.Input input) throws IOException, IllegalValueException {
+        if (!input.isTrusted()) {
+            return readUntrustedRecords(input);
+        }
+
+        TrustedRecordReader recordReader = new TrustedRecordReader(input);
+        AddressBook addressBook = recordReader.readJobRoles();
+        List<Person> persons = new ArrayList<>();
+        for (int i = input.readCount(); i > 0; i--) {
+            persons.add(recordReader.readPerson());
+        }
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the records of a snapshot that is not trusted, checking them in the same way as data read from a JSON
+     * file.
+     */
+    private static AddressBook readUntrustedRecords(BinarySnapshot.Input input)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedJobRole> jobRoles = new ArrayList<>();
+        for (int i = input.readCount(); i > 0; i--) {
+            jobRoles.add(new JsonAdaptedJobRole(input.readString()));
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = input.readCount(); i > 0; i--) {
+            String name = input.readString();
+            String phone = input.readString();
+            String email = input.readString();
+            String address = input.readString();
+            String label = input.readString();
+            String remark = input.readString();
+            List<JsonAdaptedJobRole> personJobRoles = new ArrayList<>();
+            for (int j = input.readCount(); j > 0; j--) {
+                personJobRoles.add(new JsonAdaptedJobRole(input.readString()));
+            }
+            List<JsonAdaptedTag> personTags = new ArrayList<>();
+            for (int j = input.readCount(); j > 0; j--) {
+                personTags.add(new JsonAdaptedTag(input.readString()));
+            }
+            persons.add(new JsonAdaptedPerson(name, phone, email, address, personJobRoles, label, remark,
+                    personTags));
+        }
+
+        return new JsonSerializableAddressBook(persons, jobRoles).toModelType();
+    }
+
+    /**
+     * Reads a trusted snapshot mapped into memory, decoding each person only when it is read.
+     */
+    private static class MappedAddressBookReader implements PartialAddressBookReader {
+        private final BinarySnapshot.MappedInput input;
+        private final TrustedRecordReader recordReader;
+        private int remainingPersonCount;
+
+        MappedAddressBookReader(BinarySnapshot.MappedInput input) {
+            this.input = input;
+            this.recordReader = new TrustedRecordReader(input);
+        }
+
+        @Override
+        public ReadOnlyAddressBook readFirstPersons(int personCount) throws DataLoadingException {
+            try {
+                AddressBook addressBook = recordReader.readJobRoles();
+                remainingPersonCount = input.readCount();
+                addressBook.setPersons(readPersons(Math.min(personCount, remainingPersonCount)));
+                return addressBook;
+            } catch (IOException | IllegalArgumentException | DuplicateJobRoleException
+                    | DuplicatePersonException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+
+        @Override
+        public List<Person> readRemainingPersons() throws DataLoadingException {
+            try {
+                List<Person> persons = readPersons(remainingPersonCount);
+                if (!input.isAtEnd()) {
+                    throw new IOException("Binary snapshot has unexpected data after its records");
+                }
+                return persons;
+            } catch (IOException | IllegalArgumentException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+
+        private List<Person> readPersons(int count) throws IOException {
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                persons.add(recordReader.readPerson());
+            }
+            remainingPersonCount -= count;
+            return persons;
+        }
+    }
+
+    /**
+     * Reads the records of a trusted snapshot, creating each distinct job role, tag and label only once.
+     */
+    private static class TrustedRecordReader {
+        private final BinarySnapshot.Input input;
+        private final Map<String, JobRole> jobRoles = new HashMap<>();
+        private final Map<String, Tag> tags = new HashMap<>();
+        private final Map<String, Label> labels = new HashMap<>();
+
+        TrustedRecordReader(BinarySnapshot.Input input) {
+            assert input.isTrusted();
+            this.input = input;
+        }
+
+        /**
+         * Reads the job roles, which come before the persons, into a new {@code AddressBook}.
+         */
+        AddressBook readJobRoles() throws IOException {
+            List<JobRole> jobRoleList = new ArrayList<>();
+            for (int i = input.readCount(); i > 0; i--) {
+                jobRoleList.add(readJobRole());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setJobRoles(jobRoleList);
+            return addressBook;
+        }
+
+        Person readPerson() throws IOException {
+            Name name = new Name(input.readString());
+            Phone phone = new Phone(input.readString());
+            Email email = new Email(input.readString());
+            Address address = new Address(input.readString());
+            Label label = labels.computeIfAbsent(input.readString(), Label::new);
+            Remark remark = new Remark(input.readString());
+            Set<JobRole> personJobRoles = new HashSet<>();
+            for (int i = input.readCount(); i > 0; i--) {
+                personJobRoles.add(readJobRole());
+            }
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = input.readCount(); i > 0; i--) {
+                personTags.add(tags.computeIfAbsent(input.readString(), Tag::new));
+            }
+            return new Person(name, phone, email, address, label, remark, personJobRoles, personTags);
+        }
+
+        private JobRole readJobRole() throws IOException {
+            return jobRoles.computeIfAbsent(input.readString(), JobRole::new);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
+
+/**
+ * A class to access ScheduleBoard data stored as a {@link BinarySnapshot} on the hard disk.
+ *
+ * Snapshots saved by this class are marked as trusted, so reading them skips the checks made on data read from JSON
+ * files. Snapshots that are not trusted are checked in the same way as JSON files.
+ */
+public class BinaryScheduleBoardStorage implements ScheduleBoardStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleBoardStorage.class);
+
+    private Path filePath;
+    private ScheduleBoardStorage importStorage;
+    private FsyncScheduler fsyncScheduler;
+
+    public BinaryScheduleBoardStorage(Path filePath) {
+        this(filePath, null, FsyncScheduler.always());
+    }
+
+    /**
+     * Creates a {@code BinaryScheduleBoardStorage} that saves to {@code filePath} and forces saves onto the storage
+     * device as decided by {@code fsyncScheduler}.
+     *
+     * @param importStorage storage to read the schedule board from until a snapshot is first saved, or null if there
+     *     is none.
+     */
+    public BinaryScheduleBoardStorage(Path filePath, ScheduleBoardStorage importStorage,
+            FsyncScheduler fsyncScheduler) {
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+        this.fsyncScheduler = fsyncScheduler;
+    }
+
+    public Path getScheduleBoardFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
+        if (!Files.exists(filePath) && importStorage != null) {
+            logger.info("No snapshot at " + filePath + ", reading data from "
+                    + importStorage.getScheduleBoardFilePath());
+            return importStorage.readScheduleBoard();
+        }
+        return readScheduleBoard(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleBoard()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(BinarySnapshot.read(in, BinarySnapshot.TYPE_SCHEDULE_BOARD,
+                    BinaryScheduleBoardStorage::readRecords));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | IllegalArgumentException | DateTimeException
+                | DuplicateScheduleException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        saveScheduleBoard(scheduleBoard, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleBoard(ReadOnlyScheduleBoard)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path filePath) throws IOException {
+        requireNonNull(scheduleBoard);
+        requireNonNull(filePath);
+
+        boolean isSynced = fsyncScheduler.shouldSync();
+        FileUtil.writeAtomically(filePath, out -> writeSnapshot(out, scheduleBoard, true), isSynced);
+        if (!isSynced) {
+            fsyncScheduler.syncLater(filePath);
+        }
+    }
+
+    @Override
+    public void flushScheduleBoard() throws IOException {
+        fsyncScheduler.syncPending();
+    }
+
+    /**
+     * Writes {@code scheduleBoard} to {@code out} as a snapshot, marked as trusted if {@code isTrusted} is true.
+     */
+    static void writeSnapshot(OutputStream out, ReadOnlyScheduleBoard scheduleBoard, boolean isTrusted)
+            throws IOException {
+        BinarySnapshot.write(out, BinarySnapshot.TYPE_SCHEDULE_BOARD, isTrusted,
+                output -> writeRecords(output, scheduleBoard));
+    }
+
+    private static void writeRecords(BinarySnapshot.Output output, ReadOnlyScheduleBoard scheduleBoard)
+            throws IOException {
+        output.writeInt(scheduleBoard.getScheduleList().size());
+        for (Schedule schedule : scheduleBoard.getScheduleList()) {
+            output.writeInt(Math.toIntExact(schedule.getDate().toEpochDay()));
+            output.writeInt(schedule.getStartTime().toSecondOfDay());
+            output.writeInt(schedule.getEndTime().toSecondOfDay());
+            output.writeString(schedule.getMode().name());
+            output.writeString(schedule.getCandidateName().fullName);
+            output.writeString(schedule.getCandidateEmail().value);
+        }
+    }
+
+    private static ScheduleBoard readRecords(BinarySnapshot.Input input) throws IOException, IllegalValueException {
+        boolean isTrusted = input.isTrusted();
+        List<Schedule> schedules = new ArrayList<>();
+        List<JsonAdaptedSchedule> untrustedSchedules = new ArrayList<>();
+        for (int i = input.readCount(); i > 0; i--) {
+            LocalDate date = LocalDate.ofEpochDay(input.readInt());
+            LocalTime startTime = LocalTime.ofSecondOfDay(input.readInt());
+            LocalTime endTime = LocalTime.ofSecondOfDay(input.readInt());
+            String mode = input.readString();
+            String candidateName = input.readString();
+            String candidateEmail = input.readString();
+            if (isTrusted) {
+                schedules.add(new Schedule(date, startTime, endTime, Mode.valueOf(mode), new Name(candidateName),
+                        new Email(candidateEmail)));
+            } else {
+                untrustedSchedules.add(new JsonAdaptedSchedule(date.toString(), startTime.toString(),
+                        endTime.toString(), mode, candidateName, candidateEmail));
+            }
+        }
+
+        if (!isTrusted) {
+            // Snapshots that are not trusted are checked in the same way as data read from a JSON file.
+            return new JsonSerializableScheduleBoard(untrustedSchedules).toModelType();
+        }
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        scheduleBoard.setSchedules(schedules);
+        return scheduleBoard;
+    }
+
+}
@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes data in the binary snapshot format used by {@code BinaryAddressBookStorage} and
+ * {@code BinaryScheduleBoardStorage}.
+ *
+ * A snapshot consists of:
+ * <ol>
+ *     <li>a header of the magic number, format version, type of data and flags;</li>
+ *     <li>a table of every distinct string in the data, each written as its length in bytes followed by its UTF-8
+ *     bytes;</li>
+ *     <li>the records of the data, in which each string is written as its index in the string table, so that
+ *     values repeated across records such as job roles, tags, labels and modes are written only once;</li>
+ *     <li>a CRC-32 checksum of everything before it.</li>
+ * </ol>
+ */
+public final class BinarySnapshot {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final byte TYPE_ADDRESS_BOOK = 1;
+    static final byte TYPE_SCHEDULE_BOARD = 2;
+
+    private static final int MAGIC = 0x51485342; // "QHSB"
+    private static final short VERSION = 1;
+    private static final byte FLAG_TRUSTED = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + 2;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Returns the path of the snapshot to keep in place of the data file at {@code dataFilePath}.
+     */
+    public static Path getSnapshotFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Writes a snapshot of {@code type} to {@code out}, with the records written by {@code recordWriter}.
+     * {@code recordWriter} is called twice, first to collect the strings in the data and then to write the records.
+     *
+     * @param isTrusted whether the data has already been validated, so that it need not be validated again when the
+     *     snapshot is read.
+     */
+    static void write(OutputStream out, byte type, boolean isTrusted, RecordWriter recordWriter) throws IOException {
+        StringCollector stringCollector = new StringCollector();
+        recordWriter.writeRecords(stringCollector);
+        Map<String, Integer> stringIndices = stringCollector.stringIndices;
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(new BufferedOutputStream(out), new CRC32());
+        DataOutputStream dataOut = new DataOutputStream(checkedOut);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeShort(VERSION);
+        dataOut.writeByte(type);
+        dataOut.writeByte(isTrusted ? FLAG_TRUSTED : 0);
+
+        dataOut.writeInt(stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            dataOut.writeInt(bytes.length);
+            dataOut.write(bytes);
+        }
+
+        recordWriter.writeRecords(new Output() {
+            @Override
+            public void writeInt(int value) throws IOException {
+                dataOut.writeInt(value);
+            }
+
+            @Override
+            public void writeString(String value) throws IOException {
+                dataOut.writeInt(stringIndices.get(value));
+            }
+        });
+
+        dataOut.flush();
+        long checksum = checkedOut.getChecksum().getValue();
+        dataOut.writeLong(checksum);
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a snapshot of {@code type} from {@code in}, returning the data read from its records by
+     * {@code recordReader}.
+     *
+     * @throws IOException if the data cannot be read or is not a snapshot of {@code type} in a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static <T> T read(InputStream in, byte type, RecordReader<T> recordReader)
+            throws IOException, IllegalValueException {
+        CheckedInputStream checkedIn = new CheckedInputStream(new BufferedInputStream(in), new CRC32());
+        DataInputStream dataIn = new DataInputStream(checkedIn);
+        checkHeader(dataIn.readInt(), dataIn.readShort(), dataIn.readByte(), type);
+        boolean isTrusted = (dataIn.readByte() & FLAG_TRUSTED) != 0;
+
+        String[] strings = new String[readCount(dataIn)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(dataIn)];
+            dataIn.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        T data = recordReader.readRecords(new Input() {
+            @Override
+            public boolean isTrusted() {
+                return isTrusted;
+            }
+
+            @Override
+            public int readInt() throws IOException {
+                return dataIn.readInt();
+            }
+
+            @Override
+            public int readCount() throws IOException {
+                return BinarySnapshot.readCount(dataIn);
+            }
+
+            @Override
+            public String readString() throws IOException {
+                int index = dataIn.readInt();
+                if (index < 0 || index >= strings.length) {
+                    throw new IOException("Binary snapshot refers to a missing string: " + index);
+                }
+                return strings[index];
+            }
+        });
+
+        long expectedChecksum = checkedIn.getChecksum().getValue();
+        if (dataIn.readLong() != expectedChecksum) {
+            throw new IOException("Binary snapshot is corrupted: checksum does not match");
+        }
+        if (dataIn.read() != -1) {
+            throw new IOException("Binary snapshot has unexpected data after its checksum");
+        }
+        return data;
+    }
+
+    /**
+     * Maps the snapshot of {@code type} at {@code filePath} into memory and returns its records, to be read as they
+     * are needed. The checksum of the whole snapshot is checked first, but strings are only decoded from the string
+     * table when they are first read.
+     *
+     * @throws IOException if the file cannot be mapped or is not a snapshot of {@code type} in a supported version.
+     */
+    static MappedInput map(Path filePath, byte type) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary snapshot is too large to be mapped: " + size + " bytes");
+            }
+            if (size < HEADER_BYTES + Long.BYTES) {
+                throw new IOException("Data is not a binary snapshot");
+            }
+            // The mapping stays valid after the channel is closed.
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, checksumPosition));
+        if (buffer.getLong(checksumPosition) != crc.getValue()) {
+            throw new IOException("Binary snapshot is corrupted: checksum does not match");
+        }
+        buffer.limit(checksumPosition);
+
+        checkHeader(buffer.getInt(), buffer.getShort(), buffer.get(), type);
+        boolean isTrusted = (buffer.get() & FLAG_TRUSTED) != 0;
+        return new MappedInput(buffer, isTrusted);
+    }
+
+    private static void checkHeader(int magic, short version, byte type, byte expectedType) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("Data is not a binary snapshot");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary snapshot version: " + version);
+        }
+        if (type != expectedType) {
+            throw new IOException("Binary snapshot does not contain the expected type of data");
+        }
+    }
+
+    private static int readCount(DataInputStream dataIn) throws IOException {
+        int count = dataIn.readInt();
+        if (count < 0) {
+            throw new IOException("Binary snapshot has a negative count or length: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * The records of a snapshot as written by a {@code RecordWriter}.
+     */
+    interface Output {
+        void writeInt(int value) throws IOException;
+
+        void writeString(String value) throws IOException;
+    }
+
+    /**
+     * The records of a snapshot as read by a {@code RecordReader}.
+     */
+    interface Input {
+        /**
+         * Returns true if the snapshot was written from data that had already been validated.
+         */
+        boolean isTrusted();
+
+        int readInt() throws IOException;
+
+        /**
+         * Reads the number of items that follow, which is never negative.
+         */
+        int readCount() throws IOException;
+
+        String readString() throws IOException;
+    }
+
+    /**
+     * Writes the records of a snapshot.
+     */
+    @FunctionalInterface
+    interface RecordWriter {
+        void writeRecords(Output output) throws IOException;
+    }
+
+    /**
+     * Reads the records of a snapshot, returning the data in them.
+     */
+    @FunctionalInterface
+    interface RecordReader<T> {
+        T readRecords(Input input) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * The records of a snapshot mapped into memory, read from a {@code ByteBuffer} instead of a stream.
+     */
+    static class MappedInput implements Input {
+        private final ByteBuffer buffer;
+        private final boolean isTrusted;
+        private final int[] stringPositions;
+        private final String[] strings;
+
+        private MappedInput(ByteBuffer buffer, boolean isTrusted) throws IOException {
+            this.buffer = buffer;
+            this.isTrusted = isTrusted;
+            stringPositions = new int[readCount()];
+            strings = new String[stringPositions.length];
+            for (int i = 0; i < stringPositions.length; i++) {
+                stringPositions[i] = buffer.position();
+                int length = readCount();
+                if (length > buffer.remaining()) {
+                    throw new IOException("Binary snapshot ends unexpectedly");
+                }
+                buffer.position(buffer.position() + length);
+            }
+        }
+
+        @Override
+        public boolean isTrusted() {
+            return isTrusted;
+        }
+
+        @Override
+        public int readInt() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                throw new IOException("Binary snapshot ends unexpectedly");
+            }
+            return buffer.getInt();
+        }
+
+        @Override
+        public int readCount() throws IOException {
+            int count = readInt();
+            if (count < 0) {
+                throw new IOException("Binary snapshot has a negative count or length: " + count);
+            }
+            return count;
+        }
+
+        @Override
+        public String readString() throws IOException {
+            int index = readInt();
+            if (index < 0 || index >= strings.length) {
+                throw new IOException("Binary snapshot refers to a missing string: " + index);
+            }
+            if (strings[index] == null) {
+                int position = stringPositions[index];
+                byte[] bytes = new byte[buffer.getInt(position)];
+                buffer.get(position + Integer.BYTES, bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Returns true if all of the records have been read.
+         */
+        boolean isAtEnd() {
+            return !buffer.hasRemaining();
+        }
+    }
+
+    /**
+     * Collects the distinct strings in the records, in the order they are first written.
+     */
+    private static class StringCollector implements Output {
+        private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+
+        @Override
+        public void writeInt(int value) {
+            // Only strings go into the string table.
+        }
+
+        @Override
+        public void writeString(String value) {
+            stringIndices.putIfAbsent(value, stringIndices.size());
+        }
+    }
+}
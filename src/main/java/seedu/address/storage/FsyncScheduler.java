@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Decides which saves of a data file are forced onto the storage device, according to a {@code FsyncPolicy}.
+ * Each data file should have its own {@code FsyncScheduler}.
+ *
+ * Under {@link FsyncPolicy#PERIODIC}, files saved without being forced are passed to {@link #syncLater(Path)}, and
+ * are forced once the interval since the last forced save ends, or earlier by {@link #syncPending()}, so that the
+ * last saves of a burst still reach the storage device.
+ */
+public class FsyncScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(FsyncScheduler.class);
+
+    private static final ScheduledExecutorService deferredSyncer =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "deferred-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final FsyncPolicy policy;
+    private final long intervalNanos;
+    private final Set<Path> unsyncedFiles = new LinkedHashSet<>();
+    private boolean hasSynced;
+    private long lastSyncNanos;
+    private boolean isDeferredSyncScheduled;
+
+    /**
+     * Creates a {@code FsyncScheduler} that follows {@code policy}, with saves forced onto the storage device at
+     * most once every {@code intervalMillis} milliseconds under {@link FsyncPolicy#PERIODIC}.
+     */
+    public FsyncScheduler(FsyncPolicy policy, long intervalMillis) {
+        requireNonNull(policy);
+        assert intervalMillis >= 0;
+        this.policy = policy;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Returns a {@code FsyncScheduler} that forces every save onto the storage device.
+     */
+    public static FsyncScheduler always() {
+        return new FsyncScheduler(FsyncPolicy.ALWAYS, 0);
+    }
+
+    /**
+     * Returns true if the save about to be made should be forced onto the storage device.
+     * A save that is not forced should be passed to {@link #syncLater(Path)} once it has been made.
+     */
+    public synchronized boolean shouldSync() {
+        switch (policy) {
+        case ALWAYS:
+            return true;
+        case NEVER:
+            return false;
+        default:
+            long now = System.nanoTime();
+            if (hasSynced && now - lastSyncNanos < intervalNanos) {
+                return false;
+            }
+            hasSynced = true;
+            lastSyncNanos = now;
+            return true;
+        }
+    }
+
+    /**
+     * Records that {@code file} was saved without being forced onto the storage device, so that it is forced once the
+     * fsync interval ends. Does nothing unless the policy is {@link FsyncPolicy#PERIODIC}.
+     */
+    public synchronized void syncLater(Path file) {
+        requireNonNull(file);
+        if (policy != FsyncPolicy.PERIODIC) {
+            return;
+        }
+
+        unsyncedFiles.add(file);
+        if (!isDeferredSyncScheduled) {
+            isDeferredSyncScheduled = true;
+            long delayNanos = Math.max(0, lastSyncNanos + intervalNanos - System.nanoTime());
+            deferredSyncer.schedule(this::runDeferredSync, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Forces the files passed to {@link #syncLater(Path)} onto the storage device now.
+     *
+     * @throws IOException if any of the files could not be forced, in which case they are forced again later.
+     */
+    public void syncPending() throws IOException {
+        List<Path> files;
+        synchronized (this) {
+            if (unsyncedFiles.isEmpty()) {
+                return;
+            }
+            files = new ArrayList<>(unsyncedFiles);
+            unsyncedFiles.clear();
+            hasSynced = true;
+            lastSyncNanos = System.nanoTime();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                FileUtil.syncFile(files.get(i));
+            } catch (IOException e) {
+                files.subList(0, i).clear();
+                files.forEach(this::syncLater);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns true if there are files that were saved without being forced onto the storage device yet.
+     */
+    synchronized boolean hasPendingSyncs() {
+        return !unsyncedFiles.isEmpty();
+    }
+
+    private void runDeferredSync() {
+        synchronized (this) {
+            isDeferredSyncScheduled = false;
+        }
+        try {
+            syncPending();
+        } catch (IOException e) {
+            logger.warning("Failed to force saved data onto the storage device: " + StringUtil.getDetails(e));
+        }
+    }
+}
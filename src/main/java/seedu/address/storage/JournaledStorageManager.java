@@ -0,0 +1,434 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+
+/**
+ * A {@code Storage} that records changes to the address book and schedule board in append-only journals.
+ *
+ * Changes are passed to {@link #record(ModelChange)} as they are made to the model. Saving the address book or
+ * schedule board then appends one line per recorded change to a journal file next to the data file, instead of
+ * writing all of the data again. Once a journal reaches the compaction threshold, or when a change cannot be
+ * journaled (e.g. the data is cleared), the data is written to the wrapped {@code Storage} as a new snapshot and the
+ * journal is started again.
+ *
+ * Reading the address book or schedule board replays the journal on top of the snapshot read from the wrapped
+ * {@code Storage}.
+ *
+ * If writes are deferred, nothing is appended or saved as a snapshot until {@link #flush()}, which then journals all
+ * the changes saved since the last flush.
+ */
+public class JournaledStorageManager implements Storage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String ROTATED_JOURNAL_FILE_SUFFIX = ".journal.old";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStorageManager.class);
+
+    private final Storage storage;
+    private final int compactionThreshold;
+    private final Journal addressBookJournal;
+    private final Journal scheduleBoardJournal;
+    private final boolean shouldDeferWrites;
+    private ReadOnlyAddressBook deferredAddressBook;
+    private ReadOnlyScheduleBoard deferredScheduleBoard;
+
+    /**
+     * Creates a {@code JournaledStorageManager} that keeps snapshots in the given {@code storage}, starts a new
+     * snapshot once a journal holds {@code compactionThreshold} changes, and forces every append onto the storage
+     * device.
+     */
+    public JournaledStorageManager(Storage storage, int compactionThreshold) {
+        this(storage, compactionThreshold, FsyncPolicy.ALWAYS, 0);
+    }
+
+    /**
+     * Creates a {@code JournaledStorageManager} that keeps snapshots in the given {@code storage}, starts a new
+     * snapshot once a journal holds {@code compactionThreshold} changes, and forces appends onto the storage device
+     * according to {@code fsyncPolicy}.
+     */
+    public JournaledStorageManager(Storage storage, int compactionThreshold, FsyncPolicy fsyncPolicy,
+            long fsyncIntervalMillis) {
+        this(storage, compactionThreshold, fsyncPolicy, fsyncIntervalMillis, false);
+    }
+
+    /**
+     * Creates a {@code JournaledStorageManager} as above, which journals saved changes only when it is flushed if
+     * {@code shouldDeferWrites} is true.
+     */
+    public JournaledStorageManager(Storage storage, int compactionThreshold, FsyncPolicy fsyncPolicy,
+            long fsyncIntervalMillis, boolean shouldDeferWrites) {
+        requireNonNull(storage);
+        requireNonNull(fsyncPolicy);
+        assert compactionThreshold > 0;
+        this.storage = storage;
+        this.compactionThreshold = compactionThreshold;
+        this.addressBookJournal = new Journal(storage.getAddressBookFilePath(),
+                new FsyncScheduler(fsyncPolicy, fsyncIntervalMillis));
+        this.scheduleBoardJournal = new Journal(storage.getScheduleBoardFilePath(),
+                new FsyncScheduler(fsyncPolicy, fsyncIntervalMillis));
+        this.shouldDeferWrites = shouldDeferWrites;
+    }
+
+    /**
+     * Records a change made to the model, to be written to the journal on the next save of the data it modifies.
+     */
+    public void record(ModelChange change) {
+        requireNonNull(change);
+        Journal journal = change.isAddressBookChange() ? addressBookJournal : scheduleBoardJournal;
+
+        if (change.isReset()) {
+            journal.requireCompaction();
+            return;
+        }
+
+        try {
+            journal.addPendingEntry(JsonUtil.toSingleLineJsonString(new JsonAdaptedModelChange(change)));
+        } catch (JsonProcessingException e) {
+            logger.warning("Unable to journal " + change + ", a new snapshot will be saved instead: "
+                    + StringUtil.getDetails(e));
+            journal.requireCompaction();
+        }
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = storage.readAddressBook();
+        List<ModelChange> changes;
+        try {
+            changes = addressBookJournal.read();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (changes.isEmpty()) {
+            return snapshot;
+        }
+
+        logger.info("Replaying " + changes.size() + " journaled changes on " + getAddressBookFilePath());
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        for (ModelChange change : changes) {
+            try {
+                change.applyTo(addressBook);
+            } catch (RuntimeException e) {
+                // Changes in the rotated journal may already be in the snapshot.
+                logger.fine("Skipping journaled change that no longer applies: " + change);
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns a reader of the snapshot in the wrapped {@code Storage} if there are no journaled changes to replay on
+     * it, or {@code Optional.empty()} otherwise.
+     */
+    @Override
+    public Optional<PartialAddressBookReader> readAddressBookInParts() throws DataLoadingException {
+        try {
+            if (!addressBookJournal.read().isEmpty()) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readAddressBookInParts();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (shouldDeferWrites) {
+            deferredAddressBook = addressBook;
+            return;
+        }
+        writeAddressBook(addressBook);
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBookJournal.save(() -> storage.saveAddressBook(addressBook));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ ScheduleBoard methods ==============================
+
+    @Override
+    public Path getScheduleBoardFilePath() {
+        return storage.getScheduleBoardFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
+        Optional<ReadOnlyScheduleBoard> snapshot = storage.readScheduleBoard();
+        List<ModelChange> changes = scheduleBoardJournal.read();
+        if (changes.isEmpty()) {
+            return snapshot;
+        }
+
+        logger.info("Replaying " + changes.size() + " journaled changes on " + getScheduleBoardFilePath());
+        ScheduleBoard scheduleBoard = new ScheduleBoard(snapshot.orElseGet(ScheduleBoard::new));
+        for (ModelChange change : changes) {
+            try {
+                change.applyTo(scheduleBoard);
+            } catch (RuntimeException e) {
+                // Changes in the rotated journal may already be in the snapshot.
+                logger.fine("Skipping journaled change that no longer applies: " + change);
+            }
+        }
+        return Optional.of(scheduleBoard);
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException, IOException {
+        return storage.readScheduleBoard(filePath);
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        requireNonNull(scheduleBoard);
+        if (shouldDeferWrites) {
+            deferredScheduleBoard = scheduleBoard;
+            return;
+        }
+        writeScheduleBoard(scheduleBoard);
+    }
+
+    private void writeScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        scheduleBoardJournal.save(() -> storage.saveScheduleBoard(scheduleBoard));
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path filePath) throws IOException {
+        storage.saveScheduleBoard(scheduleBoard, filePath);
+    }
+
+    // ================ Journal methods ==============================
+
+    /**
+     * Journals the data whose writes were deferred, writes all pending snapshots and removes the journal entries they
+     * replace, then forces any appends that were not forced onto the storage device.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (deferredAddressBook != null) {
+            ReadOnlyAddressBook addressBook = deferredAddressBook;
+            deferredAddressBook = null;
+            writeAddressBook(addressBook);
+        }
+        if (deferredScheduleBoard != null) {
+            ReadOnlyScheduleBoard scheduleBoard = deferredScheduleBoard;
+            deferredScheduleBoard = null;
+            writeScheduleBoard(scheduleBoard);
+        }
+        storage.flush();
+        addressBookJournal.fsyncScheduler.syncPending();
+        scheduleBoardJournal.fsyncScheduler.syncPending();
+        addressBookJournal.deleteRotatedJournal();
+        scheduleBoardJournal.deleteRotatedJournal();
+    }
+
+    /**
+     * Saves a snapshot of the data to the wrapped {@code Storage}.
+     */
+    @FunctionalInterface
+    private interface SnapshotWriter {
+        void write() throws IOException;
+    }
+
+    /**
+     * The journal of changes made to a single data file since its last snapshot.
+     *
+     * While a new snapshot is being written, the previous journal is kept as a rotated journal so that its changes
+     * can still be recovered if the snapshot is never completed.
+     *
+     * Changes are recorded on the thread that changes the model, while saves may run on another, so the pending
+     * entries and the state of the journal are only used while holding its lock.
+     */
+    private class Journal {
+        private final Path dataFilePath;
+        private final Path journalFilePath;
+        private final Path rotatedJournalFilePath;
+        private final FsyncScheduler fsyncScheduler;
+        private final List<String> pendingEntries = new ArrayList<>();
+        private int entryCount;
+        private boolean isCompactionRequired;
+
+        Journal(Path dataFilePath, FsyncScheduler fsyncScheduler) {
+            this.dataFilePath = dataFilePath;
+            this.fsyncScheduler = fsyncScheduler;
+            this.journalFilePath = Paths.get(dataFilePath + JOURNAL_FILE_SUFFIX);
+            this.rotatedJournalFilePath = Paths.get(dataFilePath + ROTATED_JOURNAL_FILE_SUFFIX);
+        }
+
+        synchronized void addPendingEntry(String entry) {
+            pendingEntries.add(entry);
+        }
+
+        synchronized void requireCompaction() {
+            isCompactionRequired = true;
+            pendingEntries.clear();
+        }
+
+        /**
+         * Appends the pending entries to the journal if possible, or saves a new snapshot using {@code snapshotWriter}
+         * otherwise.
+         */
+        synchronized void save(SnapshotWriter snapshotWriter) throws IOException {
+            if (canAppend()) {
+                appendPendingEntries();
+            } else {
+                compact(snapshotWriter);
+            }
+        }
+
+        /**
+         * Returns true if the pending entries can be appended to the journal instead of saving a new snapshot.
+         */
+        private boolean canAppend() {
+            return !isCompactionRequired
+                    && !pendingEntries.isEmpty()
+                    && entryCount + pendingEntries.size() <= compactionThreshold
+                    && Files.exists(dataFilePath);
+        }
+
+        private void appendPendingEntries() throws IOException {
+            StringBuilder entries = new StringBuilder();
+            pendingEntries.forEach(entry -> entries.append(entry).append('\n'));
+            boolean isSynced = fsyncScheduler.shouldSync();
+            FileUtil.appendToFile(journalFilePath, entries.toString().getBytes(StandardCharsets.UTF_8), isSynced);
+            if (!isSynced) {
+                fsyncScheduler.syncLater(journalFilePath);
+            }
+            entryCount += pendingEntries.size();
+            pendingEntries.clear();
+        }
+
+        /**
+         * Starts a new journal and saves a new snapshot using {@code snapshotWriter}.
+         * The snapshot may be written in the background if the wrapped {@code Storage} does so.
+         */
+        private void compact(SnapshotWriter snapshotWriter) throws IOException {
+            boolean isFirstSnapshot = !Files.exists(dataFilePath);
+
+            // The previous snapshot must be on disk before the changes it replaced can be discarded.
+            storage.flush();
+            Files.deleteIfExists(rotatedJournalFilePath);
+            if (Files.exists(journalFilePath)) {
+                Files.move(journalFilePath, rotatedJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            snapshotWriter.write();
+            if (isFirstSnapshot) {
+                // Without an earlier snapshot, changes journaled from now on would have nothing to be replayed on.
+                storage.flush();
+            }
+
+            entryCount = 0;
+            isCompactionRequired = false;
+            pendingEntries.clear();
+        }
+
+        void deleteRotatedJournal() throws IOException {
+            Files.deleteIfExists(rotatedJournalFilePath);
+        }
+
+        /**
+         * Returns the changes in the rotated journal followed by those in the journal.
+         * Reading stops at the first entry that cannot be read, which is left behind by an interrupted append.
+         */
+        synchronized List<ModelChange> read() throws IOException {
+            List<ModelChange> changes = new ArrayList<>();
+            entryCount = 0;
+            if (readJournalFile(rotatedJournalFilePath, changes)) {
+                int rotatedEntryCount = changes.size();
+                if (readJournalFile(journalFilePath, changes)) {
+                    entryCount = changes.size() - rotatedEntryCount;
+                    return changes;
+                }
+            }
+            // New entries appended after an unreadable entry would never be replayed.
+            requireCompaction();
+            return changes;
+        }
+
+        /**
+         * Adds the changes in {@code filePath} to {@code changes}.
+         * Returns false if the file ends with an entry that cannot be read.
+         */
+        private boolean readJournalFile(Path filePath, List<ModelChange> changes) throws IOException {
+            if (!FileUtil.isFileExists(filePath)) {
+                return true;
+            }
+
+            for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    changes.add(JsonUtil.fromJsonString(line, JsonAdaptedModelChange.class).toModelType());
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Ignoring unreadable entries from " + filePath + ": " + e.getMessage());
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Jackson-friendly version of {@link ModelChange}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedModelChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final JsonAdaptedJobRole jobRole;
+    private final JsonAdaptedSchedule schedule;
+    private final JsonAdaptedSchedule editedSchedule;
+
+    /**
+     * Constructs a {@code JsonAdaptedModelChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedModelChange(@JsonProperty("type") String type, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+            @JsonProperty("jobRole") JsonAdaptedJobRole jobRole,
+            @JsonProperty("schedule") JsonAdaptedSchedule schedule,
+            @JsonProperty("editedSchedule") JsonAdaptedSchedule editedSchedule) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.jobRole = jobRole;
+        this.schedule = schedule;
+        this.editedSchedule = editedSchedule;
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     */
+    public JsonAdaptedModelChange(ModelChange source) {
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        editedPerson = source.getEditedPerson() == null ? null : new JsonAdaptedPerson(source.getEditedPerson());
+        jobRole = source.getJobRole() == null ? null : new JsonAdaptedJobRole(source.getJobRole());
+        schedule = source.getSchedule() == null ? null : new JsonAdaptedSchedule(source.getSchedule());
+        editedSchedule = source.getEditedSchedule() == null ? null : new JsonAdaptedSchedule(source.getEditedSchedule());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ModelChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ModelChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        final ModelChange.Type modelType;
+        try {
+            modelType = ModelChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        final Person modelPerson = person == null ? null : person.toModelType();
+        final Person modelEditedPerson = editedPerson == null ? null : editedPerson.toModelType();
+        final JobRole modelJobRole = jobRole == null ? null : jobRole.toModelType();
+        final Schedule modelSchedule = schedule == null ? null : schedule.toModelType();
+        final Schedule modelEditedSchedule = editedSchedule == null ? null : editedSchedule.toModelType();
+
+        switch (modelType) {
+        case ADD_PERSON:
+        case DELETE_PERSON:
+            requireField(modelPerson, "person");
+            break;
+        case SET_PERSON:
+            requireField(modelPerson, "person");
+            requireField(modelEditedPerson, "editedPerson");
+            break;
+        case ADD_JOB_ROLE:
+        case DELETE_JOB_ROLE:
+            requireField(modelJobRole, "jobRole");
+            break;
+        case ADD_SCHEDULE:
+        case DELETE_SCHEDULE:
+            requireField(modelSchedule, "schedule");
+            break;
+        case SET_SCHEDULE:
+            requireField(modelSchedule, "schedule");
+            requireField(modelEditedSchedule, "editedSchedule");
+            break;
+        case EDIT_CANDIDATE_IN_SCHEDULE:
+            requireField(modelSchedule, "schedule");
+            requireField(modelEditedPerson, "editedPerson");
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        return new ModelChange(modelType, modelPerson, modelEditedPerson, modelJobRole, modelSchedule,
+                modelEditedSchedule);
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+}
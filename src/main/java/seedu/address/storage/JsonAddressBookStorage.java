@@ -1,11 +1,17 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -22,9 +28,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
+    private int compressionLevel;
+    private FsyncScheduler fsyncScheduler;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, Deflater.NO_COMPRESSION, FsyncScheduler.always());
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} without indentation and line breaks if
+     * {@code isCompact} is true, and forces saves onto the storage device as decided by {@code fsyncScheduler}.
+     * Saves are compressed in the GZIP format at {@code compressionLevel} unless it is
+     * {@link Deflater#NO_COMPRESSION}, and always compressed if the file is named as a GZIP file. Compressed files
+     * are recognised when read, whatever the compression level.
+     *
+     * @throws IllegalArgumentException if {@code compressionLevel} is not valid according to
+     *     {@link FileUtil#isValidCompressionLevel(int)}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, int compressionLevel,
+            FsyncScheduler fsyncScheduler) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                "Invalid compression level: " + compressionLevel);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compressionLevel = compressionLevel;
+        this.fsyncScheduler = fsyncScheduler;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +74,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        // Persons are converted as they are read, so the data is never held in memory in any other form.
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the job roles and persons of the address book at {@code filePath} as entries to be merged into another
+     * address book, with each person that violates data constraints read as its error instead of failing the read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @return the entries, or an empty {@code Optional} if there is no file at {@code filePath}.
+     * @throws DataLoadingException if the data cannot be read, or a job role in it violates data constraints.
+     * @see JsonSerializableAddressBook#readEntries(JsonParser)
+     */
+    public Optional<AddressBookEntries> readAddressBookEntries(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readEntries(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +131,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean isSynced = fsyncScheduler.shouldSync();
+        // The data is written to a temporary file first, so a failed save leaves the previous data intact.
+        FileUtil.writeAtomically(filePath, FileUtil.withCompression(filePath, compressionLevel, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                JsonSerializableAddressBook.writeModelType(generator, addressBook);
+            }
+        }), isSynced);
+        if (!isSynced) {
+            fsyncScheduler.syncLater(filePath);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        fsyncScheduler.syncPending();
     }
 
 }
@@ -1,11 +1,17 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -22,9 +28,32 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
+    private int compressionLevel;
+    private FsyncScheduler fsyncScheduler;
 
     public JsonScheduleBoardStorage(Path filePath) {
+        this(filePath, false, Deflater.NO_COMPRESSION, FsyncScheduler.always());
+    }
+
+    /**
+     * Creates a {@code JsonScheduleBoardStorage} that saves to {@code filePath} without indentation and line breaks if
+     * {@code isCompact} is true, and forces saves onto the storage device as decided by {@code fsyncScheduler}.
+     * Saves are compressed in the GZIP format at {@code compressionLevel} unless it is
+     * {@link Deflater#NO_COMPRESSION}, and always compressed if the file is named as a GZIP file. Compressed files
+     * are recognised when read, whatever the compression level.
+     *
+     * @throws IllegalArgumentException if {@code compressionLevel} is not valid according to
+     *     {@link FileUtil#isValidCompressionLevel(int)}.
+     */
+    public JsonScheduleBoardStorage(Path filePath, boolean isCompact, int compressionLevel,
+            FsyncScheduler fsyncScheduler) {
+        checkArgument(FileUtil.isValidCompressionLevel(compressionLevel),
+                "Invalid compression level: " + compressionLevel);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compressionLevel = compressionLevel;
+        this.fsyncScheduler = fsyncScheduler;
     }
 
     public Path getScheduleBoardFilePath() {
@@ -45,14 +74,16 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
     public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableScheduleBoard> jsonScheduleBoard = JsonUtil.readJsonFile(
-                filePath, JsonSerializableScheduleBoard.class);
-        if (!jsonScheduleBoard.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonScheduleBoard.get().toModelType());
+        // Schedules are converted as they are read, so the data is never held in memory in any other form.
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableScheduleBoard.readModelType(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +104,21 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
         requireNonNull(scheduleBoard);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableScheduleBoard(scheduleBoard), filePath);
+        boolean isSynced = fsyncScheduler.shouldSync();
+        // The data is written to a temporary file first, so a failed save leaves the previous data intact.
+        FileUtil.writeAtomically(filePath, FileUtil.withCompression(filePath, compressionLevel, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                JsonSerializableScheduleBoard.writeModelType(generator, scheduleBoard);
+            }
+        }), isSynced);
+        if (!isSynced) {
+            fsyncScheduler.syncLater(filePath);
+        }
+    }
+
+    @Override
+    public void flushScheduleBoard() throws IOException {
+        fsyncScheduler.syncPending();
     }
 
 }
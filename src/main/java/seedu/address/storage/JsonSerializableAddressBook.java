@@ -1,14 +1,21 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.JobRole;
@@ -16,13 +23,22 @@ import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Job roles are written before persons, so that {@link #readModelType(JsonParser)} can add each person to the
+ * address book as soon as it is read.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"jobRoles", "persons"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_JOBROLE = "List of job roles contains duplicate job role(s).";
 
+    /** Number of persons read by {@link #readModelType(JsonParser)} before they are converted together. */
+    static final int PERSON_BATCH_SIZE = 16 * ParallelConverter.CHUNK_SIZE;
+
+    private static final String PERSON_RECORD_NAME = "person";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedJobRole> jobRoles = new ArrayList<>();
 
@@ -48,30 +64,169 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel, but added to the address book in order.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, for the first person in the list
+     *     that violates them.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         addressBook.setJobRoles(new ArrayList<>());
         for (JsonAdaptedJobRole jsonAdaptedJobRoles : jobRoles) {
-            JobRole jobRole = jsonAdaptedJobRoles.toModelType();
-            if (addressBook.hasJobRole(jobRole)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_JOBROLE);
-            }
-            addressBook.addJobRole(jobRole);
+            addJobRole(addressBook, jsonAdaptedJobRoles.toModelType());
         }
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (!addressBook.hasJobRoles(person.getJobRoles())) {
-                person.resetJobRoles();
+        ParallelConverter.convertAll(persons, 0, PERSON_RECORD_NAME, JsonAdaptedPerson::toModelType,
+                person -> addPerson(addressBook, person));
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser}, converting each job role and
+     * person into the model's {@code AddressBook} as it is read, without holding all of the JSON data in memory.
+     * Persons are read in batches, and the persons in each batch are converted in parallel.
+     * Persons read before the job roles, as in files written by older versions of this class, are held until the
+     * job roles have been read.
+     *
+     * @throws IOException if the data cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book data must be a JSON object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobRoles(new ArrayList<>());
+        boolean hasReadJobRoles = false;
+        List<Person> personsBeforeJobRoles = new ArrayList<>();
+        List<JsonAdaptedPerson> personBatch = new ArrayList<>();
+        int personCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (fieldName.equals("jobRoles") && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addJobRole(addressBook, parser.readValueAs(JsonAdaptedJobRole.class).toModelType());
+                }
+                hasReadJobRoles = true;
+                for (Person person : personsBeforeJobRoles) {
+                    addPerson(addressBook, person);
+                }
+                personsBeforeJobRoles.clear();
+            } else if (fieldName.equals("persons") && valueToken == JsonToken.START_ARRAY) {
+                boolean hasMorePersons = parser.nextToken() != JsonToken.END_ARRAY;
+                while (hasMorePersons) {
+                    personBatch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    hasMorePersons = parser.nextToken() != JsonToken.END_ARRAY;
+                    if (personBatch.size() < PERSON_BATCH_SIZE && hasMorePersons) {
+                        continue;
+                    }
+
+                    boolean canAddPersons = hasReadJobRoles;
+                    ParallelConverter.convertAll(personBatch, personCount, PERSON_RECORD_NAME,
+                            JsonAdaptedPerson::toModelType, person -> {
+                                if (canAddPersons) {
+                                    addPerson(addressBook, person);
+                                } else {
+                                    personsBeforeJobRoles.add(person);
+                                }
+                            });
+                    personCount += personBatch.size();
+                    personBatch.clear();
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
+        }
+
+        for (Person person : personsBeforeJobRoles) {
+            addPerson(addressBook, person);
         }
         return addressBook;
     }
 
+    /**
+     * Reads the job roles and persons of an address book in the format written by this class from {@code parser},
+     * as entries to be merged into another address book.
+     * Unlike {@link #readModelType(JsonParser)}, persons are not checked against each other or the job roles, and a
+     * person that violates data constraints is read as its error instead of failing the whole address book.
+     * Persons are read in batches, and the persons in each batch are converted in parallel.
+     *
+     * @throws IOException if the data cannot be read or is not valid JSON.
+     * @throws IllegalValueException if a job role violates data constraints.
+     */
+    public static AddressBookEntries readEntries(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book data must be a JSON object");
+        }
+
+        AddressBookEntries entries = new AddressBookEntries();
+        List<JsonAdaptedPerson> personBatch = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (fieldName.equals("jobRoles") && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    entries.addJobRole(parser.readValueAs(JsonAdaptedJobRole.class).toModelType());
+                }
+            } else if (fieldName.equals("persons") && valueToken == JsonToken.START_ARRAY) {
+                boolean hasMorePersons = parser.nextToken() != JsonToken.END_ARRAY;
+                while (hasMorePersons) {
+                    personBatch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    hasMorePersons = parser.nextToken() != JsonToken.END_ARRAY;
+                    if (personBatch.size() < PERSON_BATCH_SIZE && hasMorePersons) {
+                        continue;
+                    }
+
+                    ParallelConverter.convertEach(personBatch, JsonAdaptedPerson::toModelType, (person, error) ->
+                            entries.addPerson(person, error == null ? null : error.getMessage()));
+                    personBatch.clear();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one job role and
+     * person at a time instead of building a {@code JsonSerializableAddressBook} of all of them first.
+     */
+    public static void writeModelType(JsonGenerator generator, ReadOnlyAddressBook source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("jobRoles");
+        for (JobRole jobRole : source.getJobRoleList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedJobRole(jobRole));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void addJobRole(AddressBook addressBook, JobRole jobRole) throws IllegalValueException {
+        if (addressBook.hasJobRole(jobRole)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_JOBROLE);
+        }
+        addressBook.addJobRole(jobRole);
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}, leaving out its job roles if any of them is not in the address
+     * book.
+     */
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!addressBook.hasJobRoles(person.getJobRoles())) {
+            person.resetJobRoles();
+        }
+        addressBook.addPerson(person);
+    }
+
 }
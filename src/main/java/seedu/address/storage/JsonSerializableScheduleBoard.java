@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +8,17 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.schedule.ScheduleIndex;
 
 /**
  * An Immutable Schedule Board that is serializable to JSON format.
@@ -46,15 +53,62 @@ class JsonSerializableScheduleBoard {
      * @throws seedu.address.commons.exceptions.IllegalValueException if there were any data constraints violated.
      */
     public ScheduleBoard toModelType() throws IllegalValueException {
-        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        List<Schedule> modelSchedules = new ArrayList<>(schedules.size());
+        ScheduleIndex scheduleIndex = new ScheduleIndex();
         for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
             Schedule schedule = jsonAdaptedSchedule.toModelType();
-            if (scheduleBoard.hasSchedule(schedule) || scheduleBoard.hasSameDateTime(schedule)) {
+            if (scheduleIndex.hasClash(schedule, null) || !scheduleIndex.add(schedule)) {
                 throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
             }
-            scheduleBoard.addSchedule(schedule);
+            modelSchedules.add(schedule);
+        }
+        return new ScheduleBoard(modelSchedules);
+    }
+
+    /**
+     * Reads a schedule board in the format written by this class from {@code parser}, converting each schedule and
+     * adding it to the model's {@code ScheduleBoard} as it is read, without holding all of the JSON data in memory.
+     *
+     * @throws IOException if the data cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ScheduleBoard readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Schedule board data must be a JSON object");
+        }
+
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals("schedules") || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Schedule schedule = parser.readValueAs(JsonAdaptedSchedule.class).toModelType();
+                if (scheduleBoard.hasSameDateTime(schedule)) {
+                    throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
+                }
+                scheduleBoard.addSchedule(schedule);
+            }
         }
         return scheduleBoard;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one schedule at a time
+     * instead of building a {@code JsonSerializableScheduleBoard} of all of them first.
+     */
+    public static void writeModelType(JsonGenerator generator, ReadOnlyScheduleBoard source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("schedules");
+        for (Schedule schedule : source.getScheduleList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedSchedule(schedule));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
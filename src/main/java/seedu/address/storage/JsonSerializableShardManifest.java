@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of an address book stored in shards by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ *
+ * The manifest holds the job roles of the address book, the names of the shard files that hold its persons, and the
+ * shard that holds each person in the order of the address book.
+ */
+class JsonSerializableShardManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+    private final List<JsonAdaptedJobRole> jobRoles = new ArrayList<>();
+    private final int[] personShards;
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards, @JsonProperty("jobRoles") List<JsonAdaptedJobRole> jobRoles,
+            @JsonProperty("personShards") int[] personShards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        if (jobRoles != null) {
+            this.jobRoles.addAll(jobRoles);
+        }
+        this.personShards = personShards;
+    }
+
+    /**
+     * Returns the number of times the shards have been saved, which is part of the name of each new shard file so
+     * that a save never overwrites a shard file that the current manifest refers to.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files, relative to the directory of the manifest.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+    public List<JsonAdaptedJobRole> getJobRoles() {
+        return jobRoles;
+    }
+
+    /**
+     * Returns the index of the shard holding each person, in the order of the persons in the address book.
+     *
+     * @throws IllegalValueException if the manifest does not have this field.
+     */
+    public int[] getPersonShards() throws IllegalValueException {
+        if (personShards == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "personShards"));
+        }
+        return Arrays.copyOf(personShards, personShards.length);
+    }
+
+}
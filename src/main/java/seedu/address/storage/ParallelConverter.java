@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly adapted objects into model objects in parallel, in chunks run on the common
+ * {@code ForkJoinPool}.
+ */
+final class ParallelConverter {
+
+    /** Number of adapted objects converted by each task. */
+    static final int CHUNK_SIZE = 1024;
+
+    static final String MESSAGE_INVALID_RECORD_FORMAT = "Invalid %1$s at index %2$d: %3$s";
+
+    private ParallelConverter() {}
+
+    /**
+     * Converts each of {@code adaptedObjects} using {@code converter}, then passes the converted objects to
+     * {@code consumer} in the same order.
+     * If any object cannot be converted, or is rejected by {@code consumer}, the objects before it are still passed
+     * to {@code consumer}, and the error of the first such object is thrown regardless of how the chunks were run.
+     *
+     * @param firstIndex index of the first of {@code adaptedObjects} among all objects being read, used in the
+     *     messages of conversion errors.
+     * @param recordName name of the objects being read, used in the messages of conversion errors.
+     * @throws IllegalValueException if an object could not be converted or was rejected by {@code consumer}.
+     */
+    static <A, M> void convertAll(List<A> adaptedObjects, int firstIndex, String recordName,
+            Converter<A, M> converter, ModelConsumer<M> consumer) throws IllegalValueException {
+        int count = adaptedObjects.size();
+        Object[] converted = new Object[count];
+        IllegalValueException[] chunkErrors = new IllegalValueException[(count + CHUNK_SIZE - 1) / CHUNK_SIZE];
+
+        IntStream.range(0, chunkErrors.length).parallel().forEach(chunk -> {
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                try {
+                    converted[i] = converter.convert(adaptedObjects.get(i));
+                } catch (IllegalValueException e) {
+                    // Later objects in the chunk are not needed, as this error will be thrown before them.
+                    chunkErrors[chunk] = new IllegalValueException(String.format(MESSAGE_INVALID_RECORD_FORMAT,
+                            recordName, firstIndex + i, e.getMessage()), e);
+                    return;
+                }
+            }
+        });
+
+        for (int chunk = 0; chunk < chunkErrors.length; chunk++) {
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end && converted[i] != null; i++) {
+                @SuppressWarnings("unchecked")
+                M modelObject = (M) converted[i];
+                consumer.accept(modelObject);
+            }
+            if (chunkErrors[chunk] != null) {
+                throw chunkErrors[chunk];
+            }
+        }
+    }
+
+    /**
+     * Converts each of {@code adaptedObjects} using {@code converter}, then passes each converted object, or the
+     * error that it could not be converted due to, to {@code consumer} in the same order.
+     * Unlike {@link #convertAll}, an object that cannot be converted does not stop the objects after it from being
+     * converted, so that all of the objects that can be converted are.
+     */
+    static <A, M> void convertEach(List<A> adaptedObjects, Converter<A, M> converter,
+            ResultConsumer<M> consumer) {
+        int count = adaptedObjects.size();
+        Object[] converted = new Object[count];
+        IllegalValueException[] errors = new IllegalValueException[count];
+
+        IntStream.range(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk -> {
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                try {
+                    converted[i] = converter.convert(adaptedObjects.get(i));
+                } catch (IllegalValueException e) {
+                    errors[i] = e;
+                }
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            M modelObject = (M) converted[i];
+            consumer.accept(modelObject, errors[i]);
+        }
+    }
+
+    /**
+     * Converts an adapted object into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A adaptedObject) throws IllegalValueException;
+    }
+
+    /**
+     * Accepts converted model objects, possibly rejecting them.
+     */
+    @FunctionalInterface
+    interface ModelConsumer<M> {
+        void accept(M modelObject) throws IllegalValueException;
+    }
+
+    /**
+     * Accepts converted model objects, or the errors that objects could not be converted due to, in which case the
+     * model object is null.
+     */
+    @FunctionalInterface
+    interface ResultConsumer<M> {
+        void accept(M modelObject, IllegalValueException error);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book from storage in two parts, so that the first persons can be shown before the rest of the
+ * address book has been read.
+ */
+public interface PartialAddressBookReader {
+
+    /**
+     * Returns the address book with all of its job roles but only its first {@code personCount} persons.
+     * Must be called before {@link #readRemainingPersons()}.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    ReadOnlyAddressBook readFirstPersons(int personCount) throws DataLoadingException;
+
+    /**
+     * Returns the persons after those returned by {@link #readFirstPersons(int)}.
+     * This may be called on a different thread from {@link #readFirstPersons(int)}, but not at the same time.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    List<Person> readRemainingPersons() throws DataLoadingException;
+}
@@ -41,4 +41,12 @@ public interface ScheduleBoardStorage {
      * @see #saveScheduleBoard(ReadOnlyScheduleBoard)
      */
     void saveScheduleBoard(ReadOnlyScheduleBoard schedules, Path filePath) throws IOException;
+
+    /**
+     * Forces the data saved so far onto the storage device, if it was not forced when it was saved.
+     * @throws IOException if there was any problem forcing the data.
+     */
+    default void flushScheduleBoard() throws IOException {
+    }
+
 }
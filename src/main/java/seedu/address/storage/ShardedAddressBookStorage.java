@@ -0,0 +1,354 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as several JSON shard files and a manifest on the hard disk.
+ *
+ * Each person is kept in the shard chosen by the hash of its name, so a save only rewrites the shards holding persons
+ * that were added, edited or removed since the last save, along with the small manifest. The shards are read in
+ * parallel.
+ *
+ * Each save writes changed shards to new files, and only then replaces the manifest to refer to them, so that the
+ * manifest always refers to a complete set of shards even if a save is interrupted.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%1$d-%2$d" + FileUtil.FILE_EXTENSION_JSON;
+    private static final String MESSAGE_SHARDS_MISMATCH = "Shard manifest does not match the persons in its shards";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private Path filePath;
+    private int shardCount;
+    private AddressBookStorage importStorage;
+    private boolean isCompact;
+    private FsyncScheduler fsyncScheduler;
+
+    // What the data at filePath was last read or saved as. The manifest is null if unknown, and the shards are null
+    // if unknown or not split into shardCount shards.
+    private JsonSerializableShardManifest savedManifest;
+    private List<String> savedJobRoles;
+    private int[] savedPersonShards;
+    private List<List<Person>> savedShards;
+
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        this(filePath, shardCount, null, false, FsyncScheduler.always());
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that saves the manifest to {@code filePath} and persons to
+     * {@code shardCount} shards next to it, without indentation and line breaks if {@code isCompact} is true, and
+     * forces saves onto the storage device as decided by {@code fsyncScheduler}.
+     *
+     * @param importStorage storage to read the address book from until the shards are first saved, or null if there
+     *     is none.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount, AddressBookStorage importStorage,
+            boolean isCompact, FsyncScheduler fsyncScheduler) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Number of shards must be positive: " + shardCount);
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.importStorage = importStorage;
+        this.isCompact = isCompact;
+        this.fsyncScheduler = fsyncScheduler;
+    }
+
+    /**
+     * Returns the path of the manifest to keep in place of the data file at {@code dataFilePath}, in a directory
+     * named after the data file.
+     */
+    public static Path getManifestFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath) && importStorage != null) {
+            logger.info("No shards at " + filePath + ", reading data from " + importStorage.getAddressBookFilePath());
+            return importStorage.readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableShardManifest> manifest = JsonUtil.readJsonFile(filePath,
+                JsonSerializableShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> shardFileNames = manifest.get().getShards();
+            List<List<JsonAdaptedPerson>> shards = readShards(filePath.toAbsolutePath().getParent(),
+                    shardFileNames);
+            int[] personShards = manifest.get().getPersonShards();
+
+            // Persons are put back in the order of the address book before they are converted, so that errors
+            // are reported in the same way as for data read from a single file.
+            List<JsonAdaptedPerson> persons = new ArrayList<>(personShards.length);
+            int[] nextPersonIndices = new int[shards.size()];
+            for (int shard : personShards) {
+                if (shard < 0 || shard >= shards.size() || nextPersonIndices[shard] >= shards.get(shard).size()) {
+                    throw new IOException(MESSAGE_SHARDS_MISMATCH);
+                }
+                persons.add(shards.get(shard).get(nextPersonIndices[shard]++));
+            }
+            for (int shard = 0; shard < shards.size(); shard++) {
+                if (nextPersonIndices[shard] != shards.get(shard).size()) {
+                    throw new IOException(MESSAGE_SHARDS_MISMATCH);
+                }
+            }
+
+            AddressBook addressBook = new JsonSerializableAddressBook(persons, manifest.get().getJobRoles())
+                    .toModelType();
+            if (filePath.equals(this.filePath)) {
+                savedManifest = manifest.get();
+                savedJobRoles = getJobRoleValues(addressBook);
+                savedPersonShards = personShards;
+                savedShards = shards.size() == shardCount
+                        ? groupByShard(addressBook.getPersonList(), personShards, shardCount)
+                        : null;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from shards of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that have changed since they were last read from or saved to {@code filePath} are written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        int[] personShards = new int[persons.size()];
+        for (int i = 0; i < personShards.length; i++) {
+            personShards[i] = getShard(persons.get(i));
+        }
+        List<List<Person>> shards = groupByShard(persons, personShards, shardCount);
+        List<String> jobRoles = getJobRoleValues(addressBook);
+
+        boolean isSavedFile = filePath.equals(this.filePath) && savedManifest != null;
+        List<String> oldShardFileNames = isSavedFile ? savedManifest.getShards() : List.of();
+        long generation = (isSavedFile ? savedManifest.getGeneration() : 0) + 1;
+        boolean isSynced = fsyncScheduler.shouldSync();
+
+        List<String> shardFileNames = new ArrayList<>(shardCount);
+        boolean hasChangedShards = false;
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<Person> shardPersons = shards.get(shard);
+            if (isSavedFile && savedShards != null && isSameShard(savedShards.get(shard), shardPersons)) {
+                shardFileNames.add(oldShardFileNames.get(shard));
+                continue;
+            }
+            String shardFileName = String.format(SHARD_FILE_NAME_FORMAT, shard, generation);
+            Path shardFilePath = filePath.resolveSibling(shardFileName);
+            FileUtil.writeAtomically(shardFilePath, out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                    writeShard(generator, shardPersons);
+                }
+            }, isSynced);
+            if (!isSynced) {
+                fsyncScheduler.syncLater(shardFilePath);
+            }
+            shardFileNames.add(shardFileName);
+            hasChangedShards = true;
+        }
+
+        if (!hasChangedShards && jobRoles.equals(savedJobRoles) && Arrays.equals(personShards, savedPersonShards)) {
+            return;
+        }
+
+        JsonSerializableShardManifest manifest = new JsonSerializableShardManifest(generation, shardFileNames,
+                addressBook.getJobRoleList().stream().map(JsonAdaptedJobRole::new).collect(Collectors.toList()),
+                personShards);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                JsonUtil.writeValue(generator, manifest);
+            }
+        }, isSynced);
+        if (!isSynced) {
+            fsyncScheduler.syncLater(filePath);
+        }
+
+        for (String oldShardFileName : oldShardFileNames) {
+            if (!shardFileNames.contains(oldShardFileName)) {
+                deleteShard(filePath.resolveSibling(oldShardFileName));
+            }
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedJobRoles = jobRoles;
+            savedPersonShards = personShards;
+            savedShards = shards;
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        fsyncScheduler.syncPending();
+    }
+
+    /**
+     * Returns the index of the shard that {@code person} is kept in, which only depends on its identity.
+     */
+    private int getShard(Person person) {
+        return Math.floorMod(person.getName().hashCode(), shardCount);
+    }
+
+    /**
+     * Returns the job roles of {@code addressBook} as written, which tells apart job roles that differ only in case.
+     */
+    private static List<String> getJobRoleValues(ReadOnlyAddressBook addressBook) {
+        return addressBook.getJobRoleList().stream().map(jobRole -> jobRole.value).collect(Collectors.toList());
+    }
+
+    private static List<List<Person>> groupByShard(List<Person> persons, int[] personShards, int shardCount) {
+        List<List<Person>> shards = new ArrayList<>(shardCount);
+        while (shards.size() < shardCount) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < personShards.length; i++) {
+            shards.get(personShards[i]).add(persons.get(i));
+        }
+        return shards;
+    }
+
+    /**
+     * Returns true if {@code persons} are the same person objects, in the same order, as {@code savedPersons}.
+     * Persons are immutable, so this is true exactly when none of them have been added, edited or removed.
+     */
+    private static boolean isSameShard(List<Person> savedPersons, List<Person> persons) {
+        if (savedPersons.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (savedPersons.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the persons in each of the shards named {@code shardFileNames} in {@code directory}, in parallel.
+     */
+    private static List<List<JsonAdaptedPerson>> readShards(Path directory, List<String> shardFileNames)
+            throws IOException {
+        try {
+            return shardFileNames.parallelStream()
+                    .map(shardFileName -> readShard(directory.resolve(shardFileName)))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<JsonAdaptedPerson> readShard(Path shardFilePath) {
+        try (JsonParser parser = JsonUtil.createParser(shardFilePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Shard data must be a JSON object");
+            }
+
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals("persons") && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        persons.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return persons;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeShard(JsonGenerator generator, List<Person> persons) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Deletes a shard file that the manifest no longer refers to. The save has already completed, so a shard file
+     * that cannot be deleted is only logged.
+     */
+    private static void deleteShard(Path shardFilePath) {
+        try {
+            Files.deleteIfExists(shardFilePath);
+        } catch (IOException e) {
+            logger.warning("Error deleting old shard file " + shardFilePath + ": " + e);
+        }
+    }
+
+}
@@ -29,4 +29,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleB
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until all data saved so far has been written to disk.
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flush() throws IOException;
+
 }
@@ -68,6 +68,12 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<PartialAddressBookReader> readAddressBookInParts() throws DataLoadingException {
+        logger.fine("Attempting to read data in parts from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBookInParts();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -107,4 +113,11 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         scheduleBoardStorage.saveScheduleBoard(scheduleBoard, filePath);
     }
+
+    @Override
+    public void flush() throws IOException {
+        // Data is written synchronously by each save, so only saves that were not forced are left to force.
+        addressBookStorage.flushAddressBook();
+        scheduleBoardStorage.flushScheduleBoard();
+    }
 }
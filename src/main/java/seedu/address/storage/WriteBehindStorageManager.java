@@ -0,0 +1,280 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+
+/**
+ * A {@code Storage} that writes address book and schedule board data on a single background thread.
+ *
+ * Each save takes a snapshot of the data, unless it is given one from a {@link ModelSnapshot}, and returns
+ * immediately. Saves requested while a write is in progress are coalesced so that only the latest snapshot is written.
+ * A failed write is kept for retry and its error is reported by the next call to a save method or {@link #flush()}.
+ * Writes can instead be deferred until {@link #flush()} is called, so that any number of saves cost one write.
+ *
+ * Reads and user prefs saves are delegated synchronously to the wrapped {@code Storage}.
+ */
+public class WriteBehindStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final boolean shouldDeferWrites;
+
+    private final Object lock = new Object();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyScheduleBoard pendingScheduleBoard;
+    private boolean isWriteScheduled;
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes to the given {@code storage} in the background.
+     */
+    public WriteBehindStorageManager(Storage storage) {
+        this(storage, false);
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes to the given {@code storage} in the background, either as
+     * soon as data is saved or, if {@code shouldDeferWrites} is true, only when {@link #flush()} is called.
+     */
+    public WriteBehindStorageManager(Storage storage, boolean shouldDeferWrites) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.shouldDeferWrites = shouldDeferWrites;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<PartialAddressBookReader> readAddressBookInParts() throws DataLoadingException {
+        return storage.readAddressBookInParts();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = ModelSnapshot.copyOf(addressBook);
+        IOException failure;
+        synchronized (lock) {
+            // Only failures of earlier writes are reported, not of the write scheduled here.
+            failure = takeLastFailure();
+            pendingAddressBook = snapshot;
+            if (!shouldDeferWrites) {
+                scheduleWrite();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ ScheduleBoard methods ==============================
+
+    @Override
+    public Path getScheduleBoardFilePath() {
+        return storage.getScheduleBoardFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
+        return storage.readScheduleBoard();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException, IOException {
+        return storage.readScheduleBoard(filePath);
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        requireNonNull(scheduleBoard);
+        ReadOnlyScheduleBoard snapshot = ModelSnapshot.copyOf(scheduleBoard);
+        IOException failure;
+        synchronized (lock) {
+            // Only failures of earlier writes are reported, not of the write scheduled here.
+            failure = takeLastFailure();
+            pendingScheduleBoard = snapshot;
+            if (!shouldDeferWrites) {
+                scheduleWrite();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path filePath) throws IOException {
+        storage.saveScheduleBoard(scheduleBoard, filePath);
+    }
+
+    // ================ Write-behind methods ==============================
+
+    /**
+     * Blocks until all saves requested so far have been written to disk.
+     *
+     * @throws IOException if any of the writes failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            scheduleWrite();
+            while (isWriteScheduled) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+                }
+            }
+        }
+        throwLastFailure();
+        storage.flush();
+    }
+
+    /**
+     * Submits a write to the background thread if there is pending data and no write is already scheduled.
+     * Must be called while holding {@code lock}.
+     */
+    private void scheduleWrite() {
+        if (isWriteScheduled || (pendingAddressBook == null && pendingScheduleBoard == null)) {
+            return;
+        }
+        isWriteScheduled = true;
+        writer.execute(this::writePendingData);
+    }
+
+    /**
+     * Writes pending snapshots until there are none left, keeping any snapshot that fails to be written.
+     */
+    private void writePendingData() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            ReadOnlyScheduleBoard scheduleBoard;
+            synchronized (lock) {
+                addressBook = pendingAddressBook;
+                scheduleBoard = pendingScheduleBoard;
+                pendingAddressBook = null;
+                pendingScheduleBoard = null;
+                if (addressBook == null && scheduleBoard == null) {
+                    isWriteScheduled = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            IOException failure = null;
+            if (addressBook != null) {
+                try {
+                    storage.saveAddressBook(addressBook);
+                    addressBook = null;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (scheduleBoard != null) {
+                try {
+                    storage.saveScheduleBoard(scheduleBoard);
+                    scheduleBoard = null;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+
+            if (failure != null) {
+                logger.severe("Failed to save data in the background: " + StringUtil.getDetails(failure));
+                synchronized (lock) {
+                    lastFailure = failure;
+                    // Keep the failed snapshots for the next save or flush to retry, unless newer data has arrived.
+                    pendingAddressBook = pendingAddressBook == null ? addressBook : pendingAddressBook;
+                    pendingScheduleBoard = pendingScheduleBoard == null ? scheduleBoard : pendingScheduleBoard;
+                    isWriteScheduled = false;
+                    lock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rethrows the most recent background write failure, if any, and clears it.
+     */
+    private void throwLastFailure() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            failure = takeLastFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the most recent background write failure, or null if there is none, and clears it.
+     * Must be called while holding {@code lock}.
+     */
+    private IOException takeLastFailure() {
+        IOException failure = lastFailure;
+        lastFailure = null;
+        return failure;
+    }
+}
@@ -1,13 +1,16 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -16,6 +19,8 @@ public class CandidateFullDetailsCard extends UiPart<Region> {
 
     private static final String MESSAGE_REMARK = "Remark: %s";
 
+    private static final String MESSAGE_INTERVIEW = "Interview: %s %s - %s (%s)";
+
     private static final String STYLE_LABEL = "cell_small_label";
 
     private static final String FXML = "CandidateFullDetailsCard.fxml";
@@ -50,27 +55,43 @@ public class CandidateFullDetailsCard extends UiPart<Region> {
     private FlowPane tags;
     @FXML
     private FlowPane label;
+    @FXML
+    private VBox interviews;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person} and their interview {@code schedules} to display.
      */
-    public CandidateFullDetailsCard(Person person) {
+    public CandidateFullDetailsCard(Person person, List<Schedule> schedules) {
         super(FXML);
         this.person = person;
         savePersonDetails(person);
+        saveInterviews(schedules);
     }
 
     /**
      * Handles the new person to view, or clear the current entry when the person is deleted
      * @param person The person to be viewed
+     * @param schedules The interview schedules of the person
      */
-    public void changePerson(Person person) {
+    public void changePerson(Person person, List<Schedule> schedules) {
         clear();
         this.person = person;
         savePersonDetails(person);
+        saveInterviews(schedules);
         assert this.person != null;
     }
 
+    /**
+     * Helper function to list the interviews of the person
+     * @param schedules
+     */
+    private void saveInterviews(List<Schedule> schedules) {
+        schedules.stream()
+                .sorted()
+                .forEach(schedule -> interviews.getChildren().add(createLabel(String.format(MESSAGE_INTERVIEW,
+                        schedule.getDate(), schedule.getStartTime(), schedule.getEndTime(), schedule.getMode()))));
+    }
+
     /**
      * Helper function to save the given person into
      * @param person
@@ -152,6 +173,7 @@ public class CandidateFullDetailsCard extends UiPart<Region> {
         label.getChildren().clear();
         jobRoles.getChildren().clear();
         tags.getChildren().clear();
+        interviews.getChildren().clear();
         this.hideRemark();
     }
 }
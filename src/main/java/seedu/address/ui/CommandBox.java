@@ -1,15 +1,20 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the word being typed are suggested in a menu below the command box as the user types.
+ * Commands are cleared from the command box once they are submitted, so that the next command can be typed while
+ * they are still running.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,18 +22,29 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final ContextMenu suggestionsMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.suggestionProvider = suggestionProvider;
+        // calls #setStyleToDefault() and #showSuggestions() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            setStyleToDefault();
+            showSuggestions(commandText);
+        });
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                suggestionsMenu.hide();
+            }
+        });
     }
 
     /**
@@ -41,12 +57,56 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandExecutor.execute(commandText, () -> handleCommandFailed(commandText));
+        commandTextField.setText("");
+    }
+
+    /**
+     * Handles the failure of a submitted command, putting it back in the command box to be corrected unless another
+     * command is being typed.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (commandTextField.getText().isEmpty()) {
+            commandTextField.setText(commandText);
+            commandTextField.positionCaret(commandText.length());
+        }
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Shows the suggested completions of the last word of {@code commandText}, or hides the suggestions if there
+     * are none. The suggestions are looked up in an index and their number is capped, so this is quick enough to run
+     * on every keystroke.
+     */
+    private void showSuggestions(String commandText) {
+        List<String> suggestions = suggestionProvider.getSuggestions(commandText);
+        if (suggestions.isEmpty() || !commandTextField.isFocused()) {
+            suggestionsMenu.hide();
+            return;
+        }
+
+        suggestionsMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setOnAction(event -> acceptSuggestion(suggestion));
+            suggestionsMenu.getItems().add(item);
+        }
+        if (!suggestionsMenu.isShowing()) {
+            suggestionsMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the last word in the command box with {@code suggestion}.
+     */
+    private void acceptSuggestion(String suggestion) {
+        String commandText = commandTextField.getText();
+        int lastWordStart = commandText.length();
+        while (lastWordStart > 0 && !Character.isWhitespace(commandText.charAt(lastWordStart - 1))) {
+            lastWordStart--;
         }
+        commandTextField.setText(commandText.substring(0, lastWordStart) + suggestion + " ");
+        commandTextField.positionCaret(commandTextField.getText().length());
     }
 
     /**
@@ -75,11 +135,24 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed, and calls {@code onFailure} on the JavaFX thread if it fails.
+         *
+         * @see seedu.address.logic.Logic#submit
+         */
+        void execute(String commandText, Runnable onFailure);
+    }
+
+    /**
+     * Represents a function that suggests completions of a command being typed.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns the suggested completions of the last word of {@code commandText}.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getSuggestions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<String> getSuggestions(String commandText);
     }
 
 }
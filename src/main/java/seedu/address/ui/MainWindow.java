@@ -20,7 +20,6 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 
@@ -30,6 +29,8 @@ import seedu.address.model.person.Person;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMANDS_CANCELLED = "Cancelled %1$d queued commands";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -42,8 +43,12 @@ public class MainWindow extends UiPart<Stage> {
     private CandidateFullDetailsCard candidateFullDetailsCard;
     private ScheduleListPanel scheduleListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
+    /** Number of submitted commands that are running or queued. */
+    private int pendingCommandCount;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -139,15 +144,17 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        candidateFullDetailsCard = new CandidateFullDetailsCard(logic.getFirstPerson());
+        Person firstPerson = logic.getFirstPerson();
+        candidateFullDetailsCard = new CandidateFullDetailsCard(firstPerson,
+                firstPerson == null ? List.of() : logic.getSchedulesOfCandidate(firstPerson));
         candidateFullDetailsContainer.getChildren().add(candidateFullDetailsCard.getRoot());
         candidateFullDetailsContainer.maxWidthProperty().bind(allResultsContainer.widthProperty().multiply(0.5));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
-                logic.getScheduleBoardFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getScheduleBoardFilePath(),
+                this::handleCancelQueuedCommands);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getSuggestions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         scheduleListPanel = new ScheduleListPanel(logic.getFilteredScheduleList());
@@ -208,7 +215,8 @@ public class MainWindow extends UiPart<Stage> {
             allResultsContainer.getChildren().remove(1);
         }
 
-        candidateFullDetailsCard.changePerson(person);
+        candidateFullDetailsCard.changePerson(person,
+                person == null ? List.of() : logic.getSchedulesOfCandidate(person));
 
         allResultsContainer.getChildren().add(candidateFullDetailsContainer);
         candidateFullDetailsCard.show();
@@ -275,49 +283,74 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed after those already submitted, and shows its result once it has run.
+     * The window stays responsive while the command runs.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void executeCommand(String commandText, Runnable onFailure) {
+        setPendingCommandCount(pendingCommandCount + 1);
+        logic.submit(commandText, commandResult -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            handleCommandResult(commandResult);
+        }, e -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            logger.info("An error occurred while executing command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            onFailure.run();
+        });
+    }
 
-            if (commandResult.shouldShowNewCandidateFullDetails()) {
-                handleNewPerson(commandResult.getCandidateToShow());
-            } else {
-                handleHidePerson();
-            }
+    /**
+     * Cancels the commands that are queued behind the running command.
+     */
+    private void handleCancelQueuedCommands() {
+        int cancelledCount = logic.cancelQueuedCommands();
+        setPendingCommandCount(pendingCommandCount - cancelledCount);
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMANDS_CANCELLED, cancelledCount));
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        statusBarFooter.setPendingCommandCount(pendingCommandCount);
+    }
 
-            if (commandResult.shouldChangeTheme()) {
-                handleTheme(commandResult.getTheme());
-            }
+    /**
+     * Shows the result of a command that has been executed.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.getStatistics() != null) {
-                StatisticsWindow statisticsWindow = StatisticsWindow.getInstance();
-                List<JobRole> dynamicJobRoles = logic.getFilteredJobRolesList()
-                        .stream()
-                        .collect(Collectors.toList());
-                statisticsWindow.setStatistics(commandResult.getStatistics(), dynamicJobRoles);
-                statisticsWindow.show();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
+        if (commandResult.shouldShowNewCandidateFullDetails()) {
+            handleNewPerson(commandResult.getCandidateToShow());
+        } else {
+            handleHidePerson();
+        }
 
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (commandResult.shouldChangeTheme()) {
+            try {
+                handleTheme(commandResult.getTheme());
+            } catch (CommandException e) {
+                resultDisplay.setFeedbackToUser(e.getMessage());
+            }
+        }
+
+        if (commandResult.getStatistics() != null) {
+            StatisticsWindow statisticsWindow = StatisticsWindow.getInstance();
+            List<JobRole> dynamicJobRoles = logic.getFilteredJobRolesList()
+                    .stream()
+                    .collect(Collectors.toList());
+            statisticsWindow.setStatistics(commandResult.getStatistics(), dynamicJobRoles);
+            statisticsWindow.show();
         }
     }
 }
@@ -4,31 +4,70 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * While commands are running, it shows how many are queued and a button to cancel them.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_COMMAND_RUNNING = "Running command...";
+    public static final String MESSAGE_COMMANDS_QUEUED = "Running command, %1$d more queued...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private final Runnable cancelQueuedCommands;
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox commandProgress;
+
+    @FXML
+    private Label commandProgressStatus;
+
+    @FXML
+    private Button cancelButton;
+
     @FXML
     private Label saveScheduleBoardLocationStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, whose cancel button runs
+     * {@code cancelQueuedCommands}.
      */
-    public StatusBarFooter(Path saveCandidateListLocation, Path saveScheduleBoardLocation) {
+    public StatusBarFooter(Path saveCandidateListLocation, Path saveScheduleBoardLocation,
+            Runnable cancelQueuedCommands) {
         super(FXML);
+        this.cancelQueuedCommands = cancelQueuedCommands;
         saveLocationStatus.setText("Candidate list: " + Paths.get(".").resolve(saveCandidateListLocation).toString());
         saveScheduleBoardLocationStatus.setText("Schedule board: "
                 + Paths.get(".").resolve(saveScheduleBoardLocation)
                 .toString());
+        setPendingCommandCount(0);
+    }
+
+    /**
+     * Shows that {@code pendingCommandCount} commands are running or queued, or hides the progress of commands if
+     * there are none.
+     */
+    public void setPendingCommandCount(int pendingCommandCount) {
+        assert pendingCommandCount >= 0;
+        commandProgress.setVisible(pendingCommandCount > 0);
+        cancelButton.setVisible(pendingCommandCount > 1);
+        commandProgressStatus.setText(pendingCommandCount > 1
+                ? String.format(MESSAGE_COMMANDS_QUEUED, pendingCommandCount - 1)
+                : MESSAGE_COMMAND_RUNNING);
+    }
+
+    @FXML
+    private void handleCancel() {
+        cancelQueuedCommands.run();
     }
 
 }
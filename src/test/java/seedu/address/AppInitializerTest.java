@@ -0,0 +1,75 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.LABEL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.REMARK_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleBoardStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PartialAddressBookReader;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void readWholeAddressBookInBackground_remainingPersonsNotRead_laterSaveKeepsAllPersons() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook firstPersons = new AddressBook();
+        firstPersons.addPerson(ALICE);
+        PartialAddressBookReader failingReader = new PartialAddressBookReader() {
+            @Override
+            public ReadOnlyAddressBook readFirstPersons(int personCount) {
+                throw new AssertionError("This method should not be called.");
+            }
+
+            @Override
+            public List<Person> readRemainingPersons() throws DataLoadingException {
+                throw new DataLoadingException(new IOException("Remaining persons could not be read"));
+            }
+        };
+
+        ModelManager model = new ModelManager(firstPersons, new UserPrefs(), new ScheduleBoard());
+        model.setPendingAddressBook(
+                AppInitializer.readWholeAddressBookInBackground(firstPersons, failingReader, addressBookStorage));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleBoardStorage(temporaryFolder.resolve("scheduleBoard.json"))));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + JOB_ROLE_DESC_AMY + LABEL_DESC_AMY + REMARK_DESC_AMY);
+
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedAddressBook, addressBookStorage.readAddressBook().get());
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.logic.commands.AddJCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.storage.JournaledStorageManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleBoardStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorageManager;
+
+public class HeadlessRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private HeadlessRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleBoardStorage(temporaryFolder.resolve("scheduleBoard.json")));
+        runner = new HeadlessRunner(model, new WriteBehindStorageManager(storage, true),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_resultsWrittenAndDataSaved() throws Exception {
+        String script = "# Adds a job role\n"
+                + "\n"
+                + AddJCommand.COMMAND_WORD + " Software Test Engineer\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(0, runner.run(new BufferedReader(new StringReader(script))));
+        assertTrue(model.hasJobRole(new JobRole("Software Test Engineer")));
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        String result = output.toString(StandardCharsets.UTF_8);
+        assertTrue(result.contains("> " + ListCommand.COMMAND_WORD));
+        assertTrue(result.contains(ListCommand.MESSAGE_SUCCESS));
+        assertFalse(result.contains("Adds a job role"));
+        assertTrue(result.contains("Ran 2 command(s) (0 failed)"));
+    }
+
+    @Test
+    public void run_journaledStorage_noFilesChangedBeforeRunEnds() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("journaled.json");
+        Path journalFilePath = Paths.get(addressBookFilePath + JournaledStorageManager.JOURNAL_FILE_SUFFIX);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        addressBookStorage.saveAddressBook(new AddressBook());
+        String savedData = Files.readString(addressBookFilePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journaledPrefs.json")),
+                new JsonScheduleBoardStorage(temporaryFolder.resolve("journaledSchedules.json")));
+        JournaledStorageManager journaledStorage = new JournaledStorageManager(
+                new WriteBehindStorageManager(storage, true), 100, FsyncPolicy.ALWAYS, 0, true);
+        ModelManager journaledModel = new ModelManager();
+        journaledModel.addChangeListener(journaledStorage::record);
+        HeadlessRunner journaledRunner = new HeadlessRunner(journaledModel, journaledStorage,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        List<Boolean> isUnchangedAtEnd = new ArrayList<>();
+        String script = AddJCommand.COMMAND_WORD + " Software Test Engineer\n"
+                + AddJCommand.COMMAND_WORD + " Hardware Test Engineer\n";
+        BufferedReader commands = new BufferedReader(new StringReader(script)) {
+            @Override
+            public String readLine() throws IOException {
+                String line = super.readLine();
+                if (line == null) {
+                    isUnchangedAtEnd.add(savedData.equals(Files.readString(addressBookFilePath))
+                            && !Files.exists(journalFilePath));
+                }
+                return line;
+            }
+        };
+
+        assertEquals(0, journaledRunner.run(commands));
+        assertEquals(List.of(true), isUnchangedAtEnd);
+        assertTrue(Files.exists(journalFilePath));
+        ReadOnlyAddressBook savedAddressBook = new JournaledStorageManager(storage, 100).readAddressBook().get();
+        assertEquals(journaledModel.getAddressBook(), savedAddressBook);
+    }
+
+    @Test
+    public void run_invalidCommand_remainingCommandsRunAndFailureReturned() throws Exception {
+        String script = "uicfhmowqewca\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(1, runner.run(new BufferedReader(new StringReader(script))));
+
+        String result = output.toString(StandardCharsets.UTF_8);
+        assertTrue(result.contains(String.format(HeadlessRunner.MESSAGE_COMMAND_FAILED, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(result.contains(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(result.contains("Ran 2 command(s) (1 failed)"));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        String script = ExitCommand.COMMAND_WORD + "\n"
+                + AddJCommand.COMMAND_WORD + " Software Test Engineer\n";
+
+        assertEquals(0, runner.run(new BufferedReader(new StringReader(script))));
+        assertFalse(model.hasJobRole(new JobRole("Software Test Engineer")));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Ran 1 command(s) (0 failed)"));
+    }
+}
@@ -12,7 +12,17 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindStorage=" + config.isWriteBehindStorage()
+                + ", journalStorage=" + config.isJournalStorage()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", compactJsonStorage=" + config.isCompactJsonStorage()
+                + ", compressionLevel=" + config.getCompressionLevel()
+                + ", binarySnapshotStorage=" + config.isBinarySnapshotStorage()
+                + ", shardedAddressBookStorage=" + config.isShardedAddressBookStorage()
+                + ", addressBookShardCount=" + config.getAddressBookShardCount()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", fsyncIntervalMillis=" + config.getFsyncIntervalMillis() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void toRecord_plainFields_notQuoted() {
+        assertEquals("a,b c,\r\n", CsvUtil.toRecord(List.of("a", "b c", "")));
+    }
+
+    @Test
+    public void toRecord_specialCharacters_quoted() {
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\r\n",
+                CsvUtil.toRecord(List.of("a,b", "say \"hi\"", "line\nbreak")));
+    }
+
+    @Test
+    public void readRecord_recordsWritten_sameFields() throws IOException {
+        List<String> first = List.of("a,b", "say \"hi\"", "line\r\nbreak", "");
+        List<String> second = List.of("plain", "");
+        BufferedReader reader = readerOf(CsvUtil.toRecord(first) + CsvUtil.toRecord(second));
+
+        assertEquals(first, CsvUtil.readRecord(reader));
+        assertEquals(second, CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_lineSeparators_recordsSplit() throws IOException {
+        BufferedReader reader = readerOf("a,b\n\nc\rd");
+
+        assertEquals(List.of("a", "b"), CsvUtil.readRecord(reader));
+        assertEquals(List.of(""), CsvUtil.readRecord(reader));
+        assertEquals(List.of("c"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("d"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIoException() {
+        assertThrows(IOException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.readRecord(readerOf("a,\"b\nc")));
+    }
+
+    @Test
+    public void readRecord_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.readRecord(null));
+    }
+
+    private BufferedReader readerOf(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,125 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isJsonFile() {
+        assertTrue(FileUtil.isJsonFile(Path.of("data", "candidates.json")));
+        assertTrue(FileUtil.isJsonFile(Path.of("candidates.json.gz")));
+
+        assertFalse(FileUtil.isJsonFile(Path.of("candidates.csv")));
+        assertFalse(FileUtil.isJsonFile(Path.of("candidates.gz")));
+        assertFalse(FileUtil.isJsonFile(Path.of("json")));
+    }
+
+    @Test
+    public void appendToFile_missingFile_fileCreatedAndBytesAppended() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("journal.txt");
+        FileUtil.appendToFile(file, "first\n".getBytes(), true);
+        FileUtil.appendToFile(file, "second\n".getBytes(), false);
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void syncFile_missingFile_doesNothing() throws Exception {
+        FileUtil.syncFile(testFolder.resolve("missing.txt"));
+        assertFalse(Files.exists(testFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes()), false);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writtenWhileWritingSameFile_bothWritesComplete() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeAtomically(file, out -> {
+            out.write("first ".getBytes());
+            FileUtil.writeAtomically(file, innerOut -> innerOut.write("second".getBytes()), false);
+            out.write("content".getBytes());
+        }, false);
+
+        assertEquals("first content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_existingFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("write failed");
+        }, true));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void withCompression_compressionLevelGiven_contentCompressed() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        String content = "repeated content ".repeat(100);
+        FileUtil.writeAtomically(file, FileUtil.withCompression(file, Deflater.BEST_COMPRESSION,
+                out -> out.write(content.getBytes())), false);
+
+        assertTrue(Files.size(file) < content.length());
+        assertEquals(content, readWithNewInputStream(file));
+    }
+
+    @Test
+    public void withCompression_noCompression_contentUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeAtomically(file, FileUtil.withCompression(file, Deflater.NO_COMPRESSION,
+                out -> out.write("content".getBytes())), false);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals("content", readWithNewInputStream(file));
+
+        // file named as a GZIP file -> compressed
+        Path gzipFile = testFolder.resolve("data.txt.gz");
+        FileUtil.writeAtomically(gzipFile, FileUtil.withCompression(gzipFile, Deflater.NO_COMPRESSION,
+                out -> out.write("content".getBytes())), false);
+        assertEquals("content", readWithNewInputStream(gzipFile));
+        assertEquals(0x1f, Files.readAllBytes(gzipFile)[0]);
+    }
+
+    @Test
+    public void newInputStream_shortFile_contentRead() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "\u001f");
+        assertEquals("\u001f", readWithNewInputStream(file));
+
+        FileUtil.writeToFile(file, "");
+        assertEquals("", readWithNewInputStream(file));
+    }
+
+    @Test
+    public void isValidCompressionLevel() {
+        assertTrue(FileUtil.isValidCompressionLevel(Deflater.NO_COMPRESSION));
+        assertTrue(FileUtil.isValidCompressionLevel(Deflater.BEST_SPEED));
+        assertTrue(FileUtil.isValidCompressionLevel(Deflater.BEST_COMPRESSION));
+
+        assertFalse(FileUtil.isValidCompressionLevel(Deflater.DEFAULT_COMPRESSION));
+        assertFalse(FileUtil.isValidCompressionLevel(Deflater.BEST_COMPRESSION + 1));
+    }
+
+    private static String readWithNewInputStream(Path file) throws IOException {
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            return new String(in.readAllBytes());
+        }
+    }
+
+    private static List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.toList();
+        }
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -15,21 +17,32 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Theme;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddJCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -46,6 +59,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -55,7 +69,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonScheduleBoardStorage scheduleBoardStorage =
                 new JsonScheduleBoardStorage(temporaryFolder.resolve("scheduleBoard.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -89,6 +103,168 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSaveToStorage() throws Exception {
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                },
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleBoardStorage(temporaryFolder.resolve("scheduleBoard.json"))));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("scheduleBoard.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesOnlyModifiedData() throws Exception {
+        String addJCommand = AddJCommand.COMMAND_WORD + " Software Test Engineer";
+        logic.execute(addJCommand);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("scheduleBoard.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_undoAfterMutatingCommand_changesOfCommandUndone() throws Exception {
+        logic.execute(AddJCommand.COMMAND_WORD + " Software Test Engineer");
+        logic.execute(AddJCommand.COMMAND_WORD + " Hardware Test Engineer");
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, model);
+        assertTrue(model.hasJobRole(new JobRole("Software Test Engineer")));
+        assertFalse(model.hasJobRole(new JobRole("Hardware Test Engineer")));
+
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, model);
+        assertTrue(model.hasJobRole(new JobRole("Hardware Test Engineer")));
+    }
+
+    @Test
+    public void submit_validCommands_resultsPassedInOrder() throws Exception {
+        List<String> feedbacks = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> isDone = new CompletableFuture<>();
+        logic.submit(AddJCommand.COMMAND_WORD + " Software Test Engineer",
+                result -> feedbacks.add(result.getFeedbackToUser()), isDone::completeExceptionally);
+        logic.submit(ListCommand.COMMAND_WORD, result -> {
+            feedbacks.add(result.getFeedbackToUser());
+            isDone.complete(null);
+        }, isDone::completeExceptionally);
+
+        isDone.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(String.format(AddJCommand.MESSAGE_SUCCESS, "Software Test Engineer"),
+                ListCommand.MESSAGE_SUCCESS), feedbacks);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void setTheme_commandSubmittedAfter_prefsSavedBeforeCommandRuns() throws Exception {
+        CompletableFuture<Void> isDone = new CompletableFuture<>();
+        logic.setTheme(Theme.LIGHT);
+        logic.submit(ListCommand.COMMAND_WORD, result -> isDone.complete(null), isDone::completeExceptionally);
+
+        isDone.get(5, TimeUnit.SECONDS);
+        assertEquals(Theme.LIGHT, logic.getTheme());
+        assertFalse(model.hasUnsavedUserPrefsChanges());
+        assertEquals(Theme.LIGHT, storage.readUserPrefs().get().getGuiSettings().getTheme());
+    }
+
+    @Test
+    public void submit_invalidCommand_exceptionPassedToOnFailure() throws Exception {
+        CompletableFuture<Exception> failure = new CompletableFuture<>();
+        logic.submit("uicfhmowqewca", result -> failure.complete(null), failure::complete);
+
+        Exception e = failure.get(5, TimeUnit.SECONDS);
+        assertTrue(e instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getMessage());
+    }
+
+    @Test
+    public void cancelQueuedCommands_commandsQueuedBehindRunningCommand_queuedCommandsNotRun() throws Exception {
+        CompletableFuture<Void> isCommandRunning = new CompletableFuture<>();
+        CompletableFuture<Void> isModelExecutorReleased = new CompletableFuture<>();
+        logic = new LogicManager(model, storage, task -> {
+            isCommandRunning.complete(null);
+            isModelExecutorReleased.join();
+            task.run();
+        });
+        List<String> feedbacks = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> isDone = new CompletableFuture<>();
+        logic.submit(ListCommand.COMMAND_WORD, result -> feedbacks.add(result.getFeedbackToUser()),
+                isDone::completeExceptionally);
+        logic.submit(AddJCommand.COMMAND_WORD + " Software Test Engineer",
+                result -> feedbacks.add(result.getFeedbackToUser()), isDone::completeExceptionally);
+        logic.submit(AddJCommand.COMMAND_WORD + " Hardware Test Engineer",
+                result -> feedbacks.add(result.getFeedbackToUser()), isDone::completeExceptionally);
+        isCommandRunning.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, logic.cancelQueuedCommands());
+        isModelExecutorReleased.complete(null);
+        logic.submit(ListCommand.COMMAND_WORD, result -> isDone.complete(null), isDone::completeExceptionally);
+
+        isDone.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(ListCommand.MESSAGE_SUCCESS), feedbacks);
+        assertFalse(model.hasJobRole(new JobRole("Software Test Engineer")));
+        assertFalse(model.hasJobRole(new JobRole("Hardware Test Engineer")));
+    }
+
+    @Test
+    public void cancelQueuedCommands_themeSetBetweenQueuedCommands_onlyCommandsCancelled() throws Exception {
+        CompletableFuture<Void> isCommandRunning = new CompletableFuture<>();
+        CompletableFuture<Void> isModelExecutorReleased = new CompletableFuture<>();
+        logic = new LogicManager(model, storage, task -> {
+            isCommandRunning.complete(null);
+            isModelExecutorReleased.join();
+            task.run();
+        });
+        CompletableFuture<Void> isDone = new CompletableFuture<>();
+        logic.submit(ListCommand.COMMAND_WORD, result -> { }, isDone::completeExceptionally);
+        logic.submit(ListCommand.COMMAND_WORD, result -> { }, isDone::completeExceptionally);
+        logic.setTheme(Theme.LIGHT);
+        logic.submit(ListCommand.COMMAND_WORD, result -> { }, isDone::completeExceptionally);
+        isCommandRunning.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, logic.cancelQueuedCommands());
+        isModelExecutorReleased.complete(null);
+        logic.submit(ListCommand.COMMAND_WORD, result -> isDone.complete(null), isDone::completeExceptionally);
+
+        isDone.get(5, TimeUnit.SECONDS);
+        assertEquals(Theme.LIGHT, logic.getTheme());
+    }
+
+    @Test
+    public void shutdown_modelExecutorNotRunningTasks_queuedCommandsRunAndDataSaved() throws Exception {
+        // The model executor of the GUI cannot run tasks while its thread waits for the shutdown.
+        logic = new LogicManager(model, storage, task -> { });
+        List<String> feedbacks = Collections.synchronizedList(new ArrayList<>());
+        logic.submit(AddJCommand.COMMAND_WORD + " Software Test Engineer",
+                result -> feedbacks.add(result.getFeedbackToUser()), e -> feedbacks.add(e.getMessage()));
+        logic.setTheme(Theme.LIGHT);
+
+        logic.shutdown();
+
+        assertEquals(List.of(String.format(AddJCommand.MESSAGE_SUCCESS, "Software Test Engineer")), feedbacks);
+        assertTrue(storage.readAddressBook().get().getJobRoleList().contains(new JobRole("Software Test Engineer")));
+        assertEquals(Theme.LIGHT, storage.readUserPrefs().get().getGuiSettings().getTheme());
+    }
+
+    @Test
+    public void getSuggestions() {
+        model.addPerson(AMY);
+
+        // keyword of find command -> words with the keyword as prefix
+        assertEquals(List.of("amy", "amy@example.com"), logic.getSuggestions("find AM"));
+        assertEquals(List.of("amy", "amy@example.com"), logic.getSuggestions("find --partial bob am"));
+
+        // not a find keyword -> no suggestions
+        assertEquals(List.of(), logic.getSuggestions("list am"));
+        assertEquals(List.of(), logic.getSuggestions("find"));
+        assertEquals(List.of(), logic.getSuggestions("find am "));
+        assertEquals(List.of(), logic.getSuggestions("find --par"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
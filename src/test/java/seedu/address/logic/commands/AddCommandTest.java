@@ -8,9 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -23,12 +25,14 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.TimeSlot;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -141,6 +145,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -156,6 +165,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsPartially(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -191,6 +215,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addSchedules(List<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> getSchedulesOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> getFreeSlotsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -281,6 +350,66 @@ public class AddCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<Schedule> getSchedulesOfCandidate(Person candidate) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void addPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedAddressBookChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedScheduleBoardChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedUserPrefsChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getScheduleBoardVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getUserPrefsVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markAddressBookSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markScheduleBoardSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markUserPrefsSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
     }
 
 
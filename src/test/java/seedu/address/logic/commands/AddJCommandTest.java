@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalJobRoles.JOB_ROLES_NOT_IN_DEFAULT_LIST;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -21,12 +23,14 @@ import seedu.address.commons.core.Theme;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.TimeSlot;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -168,6 +172,11 @@ public class AddJCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +192,21 @@ public class AddJCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsPartially(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -218,6 +242,51 @@ public class AddJCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addSchedules(List<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> getSchedulesOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> getFreeSlotsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -308,5 +377,65 @@ public class AddJCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<Schedule> getSchedulesOfCandidate(Person candidate) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void addPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedAddressBookChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedScheduleBoardChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedUserPrefsChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getScheduleBoardVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getUserPrefsVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markAddressBookSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markScheduleBoardSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markUserPrefsSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
     }
 }
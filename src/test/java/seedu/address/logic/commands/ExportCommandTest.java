@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.Messages.MESSAGE_FILE_EXISTS;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_CANDIDATES_SUCCESS;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_SCHEDULES_SUCCESS;
+import static seedu.address.storage.ManualStorage.EMPTY_PATH;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleBoard());
+    }
+
+    @Test
+    public void execute_filteredData_onlyFilteredRowsWritten() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        model.updateFilteredScheduleList(schedule -> false);
+        List<PersonCsvColumn> columns = Arrays.asList(PersonCsvColumn.NAME, null, PersonCsvColumn.TAGS);
+
+        CommandResult result = new ExportCommand(candidatesFile, schedulesFile, columns,
+                ScheduleCsvColumn.DEFAULT_COLUMNS, false, false).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_CANDIDATES_SUCCESS, 1, candidatesFile.toAbsolutePath())
+                + System.lineSeparator()
+                + String.format(MESSAGE_EXPORT_SCHEDULES_SUCCESS, 0, schedulesFile.toAbsolutePath()),
+                result.getFeedbackToUser());
+        assertEquals(List.of("name,,tags", "Alice Pauline,,Java"), Files.readAllLines(candidatesFile));
+        assertEquals(List.of("date,startTime,endTime,mode,candidateName,candidateEmail"),
+                Files.readAllLines(schedulesFile));
+    }
+
+    @Test
+    public void execute_filteredDataCopied_copiedRowsWritten() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        ExportCommand command = new ExportCommand(candidatesFile, EMPTY_PATH, List.of(PersonCsvColumn.NAME),
+                ScheduleCsvColumn.DEFAULT_COLUMNS, false, false);
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        command.copyFromModel(model);
+
+        // Changes made to the model after copying from it are not written.
+        model.updateFilteredPersonList(person -> false);
+        command.execute(model);
+        assertEquals(List.of("name", "Alice Pauline"), Files.readAllLines(candidatesFile));
+    }
+
+    @Test
+    public void execute_allData_allRowsWritten() throws Exception {
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        model.updateFilteredScheduleList(schedule -> false);
+
+        new ExportCommand(EMPTY_PATH, schedulesFile, PersonCsvColumn.DEFAULT_COLUMNS,
+                List.of(ScheduleCsvColumn.CANDIDATE_EMAIL), true, false).execute(model);
+
+        assertEquals(List.of("candidateEmail", "amy@gmail.com", "ben@gmail.com", "bob@gmail.com"),
+                Files.readAllLines(schedulesFile));
+    }
+
+    @Test
+    public void execute_fileExists_failure() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        Files.writeString(schedulesFile, "existing");
+        ExportCommand command = new ExportCommand(candidatesFile, schedulesFile, PersonCsvColumn.DEFAULT_COLUMNS,
+                ScheduleCsvColumn.DEFAULT_COLUMNS, false, false);
+
+        assertCommandFailure(command, model, String.format(MESSAGE_FILE_EXISTS, schedulesFile.toAbsolutePath()));
+        // no file is written if any cannot be
+        assertFalse(Files.exists(candidatesFile));
+        assertEquals("existing", Files.readString(schedulesFile));
+    }
+
+    @Test
+    public void execute_fileExistsAndShouldOverwrite_success() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Files.writeString(candidatesFile, "existing");
+        new ExportCommand(candidatesFile, EMPTY_PATH, List.of(PersonCsvColumn.NAME),
+                ScheduleCsvColumn.DEFAULT_COLUMNS, false, true).execute(model);
+        assertEquals(model.getFilteredPersonList().size() + 1, Files.readAllLines(candidatesFile).size());
+    }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new ExportCommand(EMPTY_PATH, Path.of("schedules.csv"), PersonCsvColumn.DEFAULT_COLUMNS,
+                ScheduleCsvColumn.DEFAULT_COLUMNS, false, false).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand command = new ExportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                PersonCsvColumn.DEFAULT_COLUMNS, ScheduleCsvColumn.DEFAULT_COLUMNS, false, false);
+
+        assertEquals(command, command);
+        assertEquals(command, new ExportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                PersonCsvColumn.DEFAULT_COLUMNS, ScheduleCsvColumn.DEFAULT_COLUMNS, false, false));
+        assertNotEquals(command, null);
+        assertNotEquals(command, new ExportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                List.of(PersonCsvColumn.NAME), ScheduleCsvColumn.DEFAULT_COLUMNS, false, false));
+        assertNotEquals(command, new ExportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                PersonCsvColumn.DEFAULT_COLUMNS, ScheduleCsvColumn.DEFAULT_COLUMNS, true, false));
+    }
+}
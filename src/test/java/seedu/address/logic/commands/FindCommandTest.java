@@ -21,6 +21,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -95,6 +96,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_partialKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonDetailsContainPartialKeywordsPredicate partialPredicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("Kur", "ELL", "unz"));
+        FindCommand command = new FindCommand(partialPredicate);
+        expectedModel.updateFilteredPersonList(partialPredicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         // Tests for NameContainsKeywordsPredicate
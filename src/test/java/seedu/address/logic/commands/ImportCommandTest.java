@@ -0,0 +1,256 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_SCHEDULE_TIMING_CLASH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ENTRY_ERROR;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_FILE_NOT_FOUND;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_CANDIDATES_SUCCESS;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_SCHEDULES_SUCCESS;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_MISSING_COLUMNS;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROWS_SKIPPED;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROW_ERROR;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_UNKNOWN_CANDIDATE;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_UNKNOWN_JOB_ROLE;
+import static seedu.address.storage.ManualStorage.EMPTY_PATH;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ImportCommandTest {
+
+    private static final Schedule ALICE_SCHEDULE = new ScheduleBuilder().withDate("2025-03-15")
+            .withStartTime("10:00").withEndTime("11:00").withMode("ONLINE")
+            .withCandidateName(ALICE.getName().fullName).withCandidateEmail(ALICE.getEmail().value).build();
+    private static final Schedule HOON_SCHEDULE = new ScheduleBuilder().withDate("2025-03-15")
+            .withStartTime("11:00").withEndTime("12:00").withMode("OFFLINE")
+            .withCandidateName(HOON.getName().fullName).withCandidateEmail(HOON.getEmail().value).build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs(), new ScheduleBoard());
+        for (Person person : List.of(ALICE, BENSON, HOON, IDA)) {
+            addJobRoles(model, person);
+        }
+    }
+
+    @Test
+    public void execute_prepared_filesReadBeforeExecution() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Model exportingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ScheduleBoard());
+        new ExportCommand(candidatesFile, EMPTY_PATH, PersonCsvColumn.DEFAULT_COLUMNS,
+                ScheduleCsvColumn.DEFAULT_COLUMNS, true, false).execute(exportingModel);
+        getTypicalPersons().forEach(person -> addJobRoles(model, person));
+        ImportCommand command = new ImportCommand(candidatesFile, EMPTY_PATH, Optional.empty(), Optional.empty());
+        command.prepare();
+
+        Files.delete(candidatesFile);
+        command.execute(model);
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_exportedData_allImported() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        Model exportingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ScheduleBoard());
+        exportingModel.addSchedule(ALICE_SCHEDULE);
+        exportingModel.commitChanges();
+        new ExportCommand(candidatesFile, schedulesFile, PersonCsvColumn.DEFAULT_COLUMNS,
+                ScheduleCsvColumn.DEFAULT_COLUMNS, true, false).execute(exportingModel);
+        getTypicalPersons().forEach(person -> addJobRoles(model, person));
+
+        CommandResult result = new ImportCommand(candidatesFile, schedulesFile, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_CANDIDATES_SUCCESS, getTypicalPersons().size(),
+                candidatesFile.toAbsolutePath()) + System.lineSeparator()
+                + String.format(MESSAGE_IMPORT_SCHEDULES_SUCCESS, 1, schedulesFile.toAbsolutePath()),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE_SCHEDULE), model.getScheduleBoard().getScheduleList());
+    }
+
+    @Test
+    public void execute_rowsWithErrors_otherRowsImportedAndErrorsReported() throws Exception {
+        model.addPerson(ALICE);
+        model.addSchedule(ALICE_SCHEDULE);
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        Files.writeString(candidatesFile, "email,name,phone,address,jobRoles,label\n"
+                + "stefan@example.com,Hoon Meier,8482424,little india,QA Engineer,shortlisted\n"
+                + "alice@example.com,Alice Pauline,94351253,somewhere,Front End Developer,unreviewed\n"
+                + "\n"
+                + "bad email,Someone,12345678,somewhere,QA Engineer,unreviewed\n"
+                + "x@example.com,Xavier,12345678,somewhere,Astronaut,unreviewed\n"
+                + "hoon@example.com,hoon meier,8482424,\"little india, block 1\",QA Engineer,accepted\n");
+        Files.writeString(schedulesFile, "date,startTime,endTime,mode,candidateName,candidateEmail\n"
+                + "2025-03-15,11:00,12:00,offline,Hoon Meier,stefan@example.com\n"
+                + "2025-03-15,10:30,11:30,online,Alice Pauline,alice@example.com\n"
+                + "2025-03-16,10:00,11:00,online,Xavier,x@example.com\n");
+
+        CommandResult result = new ImportCommand(candidatesFile, schedulesFile, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        List<String> expectedLines = new ArrayList<>();
+        expectedLines.add(String.format(MESSAGE_IMPORT_CANDIDATES_SUCCESS, 1, candidatesFile.toAbsolutePath()));
+        expectedLines.add(String.format(MESSAGE_IMPORT_SCHEDULES_SUCCESS, 1, schedulesFile.toAbsolutePath()));
+        expectedLines.add(String.format(MESSAGE_ROWS_SKIPPED, 6));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "candidates.csv", 3, AddCommand.MESSAGE_DUPLICATE_PERSON));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "candidates.csv", 5, Email.MESSAGE_CONSTRAINTS));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "candidates.csv", 6, MESSAGE_UNKNOWN_JOB_ROLE));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "candidates.csv", 7, AddCommand.MESSAGE_DUPLICATE_PERSON));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "schedules.csv", 3, MESSAGE_SCHEDULE_TIMING_CLASH));
+        expectedLines.add(String.format(MESSAGE_ROW_ERROR, "schedules.csv", 4,
+                String.format(MESSAGE_UNKNOWN_CANDIDATE, "x@example.com")));
+        assertEquals(String.join(System.lineSeparator(), expectedLines), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, HOON), model.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE_SCHEDULE, HOON_SCHEDULE), model.getScheduleBoard().getScheduleList());
+    }
+
+    @Test
+    public void execute_columnsGiven_headerRowSkipped() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Files.writeString(candidatesFile, "Full name,Notes,Mobile,E-mail,Home,Role,Status\n"
+                + "Hoon Meier,ignored,8482424,stefan@example.com,little india,QA Engineer,shortlisted\n");
+        List<PersonCsvColumn> columns = new ArrayList<>(List.of(PersonCsvColumn.NAME, PersonCsvColumn.PHONE,
+                PersonCsvColumn.EMAIL, PersonCsvColumn.ADDRESS, PersonCsvColumn.JOB_ROLES, PersonCsvColumn.LABEL));
+        columns.add(1, null);
+
+        new ImportCommand(candidatesFile, EMPTY_PATH, Optional.of(columns), Optional.empty()).execute(model);
+
+        assertEquals(List.of(HOON), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_errorsReportedUpToLimit() throws Exception {
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        StringBuilder content = new StringBuilder("date,startTime,endTime,mode,candidateName,candidateEmail\n");
+        int rowCount = ImportCommand.BATCH_SIZE + 1;
+        for (int i = 0; i < rowCount; i++) {
+            content.append("2025-03-15,10:00,11:00,online,Nobody,nobody@example.com\n");
+        }
+        Files.writeString(schedulesFile, content);
+
+        String feedback = new ImportCommand(EMPTY_PATH, schedulesFile, Optional.empty(), Optional.empty())
+                .execute(model).getFeedbackToUser();
+
+        String[] lines = feedback.split(System.lineSeparator());
+        assertEquals(String.format(MESSAGE_ROWS_SKIPPED, rowCount), lines[1]);
+        assertEquals(String.format(MESSAGE_ROW_ERROR, "schedules.csv", 2,
+                String.format(MESSAGE_UNKNOWN_CANDIDATE, "nobody@example.com")), lines[2]);
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_ROWS_SKIPPED,
+                rowCount - ImportCommand.MAX_REPORTED_ERRORS), lines[lines.length - 1]);
+        assertEquals(ImportCommand.MAX_REPORTED_ERRORS + 3, lines.length);
+    }
+
+    @Test
+    public void execute_missingRequiredColumns_failure() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Files.writeString(candidatesFile, "name,phone,email,remark\n");
+        assertCommandFailure(new ImportCommand(candidatesFile, EMPTY_PATH, Optional.empty(), Optional.empty()),
+                model, String.format(MESSAGE_MISSING_COLUMNS, candidatesFile.toAbsolutePath(),
+                        "address, jobRoles, label"));
+    }
+
+    @Test
+    public void execute_schedulesFileMissing_modelUnchanged() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.csv");
+        Path schedulesFile = testFolder.resolve("schedules.csv");
+        Files.writeString(candidatesFile, "name,phone,email,address,jobRoles,label\n"
+                + "Hoon Meier,8482424,stefan@example.com,little india,QA Engineer,shortlisted\n");
+        assertCommandFailure(new ImportCommand(candidatesFile, schedulesFile, Optional.empty(), Optional.empty()),
+                model, String.format(MESSAGE_FILE_NOT_FOUND, schedulesFile.toAbsolutePath()));
+    }
+
+    @Test
+    public void execute_jsonFile_mergedWithJobRoles() throws Exception {
+        model.addPerson(ALICE);
+        Path candidatesFile = testFolder.resolve("candidates.json.gz");
+        new JsonAddressBookStorage(candidatesFile).saveAddressBook(getTypicalAddressBook());
+
+        CommandResult result = new ImportCommand(candidatesFile, EMPTY_PATH, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_CANDIDATES_SUCCESS, getTypicalPersons().size() - 1,
+                candidatesFile.toAbsolutePath()) + System.lineSeparator()
+                + String.format(MESSAGE_ROWS_SKIPPED, 1) + System.lineSeparator()
+                + String.format(MESSAGE_ENTRY_ERROR, "candidates.json.gz", 1, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertTrue(getTypicalAddressBook().getJobRoleList().stream().allMatch(model::hasJobRole));
+    }
+
+    @Test
+    public void execute_jsonFileWithInvalidPerson_validPersonsImported() throws Exception {
+        Path candidatesFile = testFolder.resolve("candidates.json");
+        Files.copy(Path.of("src", "test", "data", "JsonAddressBookStorageTest",
+                "partlyInvalidPersonAddressBook.json"), candidatesFile);
+
+        CommandResult result = new ImportCommand(candidatesFile, EMPTY_PATH, Optional.empty(), Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(MESSAGE_IMPORT_CANDIDATES_SUCCESS, 1, candidatesFile.toAbsolutePath())
+                + System.lineSeparator() + String.format(MESSAGE_ROWS_SKIPPED, 1) + System.lineSeparator()
+                + String.format(MESSAGE_ENTRY_ERROR, "candidates.json", 2, Phone.MESSAGE_CONSTRAINTS),
+                result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasJobRole(new JobRole("Astronaut")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand(Path.of("candidates.csv"), EMPTY_PATH, Optional.empty(),
+                Optional.empty());
+
+        assertEquals(command, command);
+        assertEquals(command, new ImportCommand(Path.of("candidates.csv"), EMPTY_PATH, Optional.empty(),
+                Optional.empty()));
+        assertNotEquals(command, null);
+        assertNotEquals(command, new ImportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                Optional.of(PersonCsvColumn.DEFAULT_COLUMNS), Optional.empty()));
+    }
+
+    private static void addJobRoles(Model model, Person person) {
+        for (JobRole jobRole : person.getJobRoles()) {
+            if (!model.hasJobRole(jobRole)) {
+                model.addJobRole(jobRole);
+            }
+        }
+    }
+}
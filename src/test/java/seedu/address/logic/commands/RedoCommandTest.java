@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        model.addPerson(ALICE);
+        model.commitChanges();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesUndone_changesRedone() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.commitChanges();
+        model.undoChanges();
+        expectedModel.addPerson(ALICE);
+        expectedModel.addPerson(BENSON);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_newChangesAfterUndo_failure() {
+        model.addPerson(ALICE);
+        model.commitChanges();
+        model.undoChanges();
+        model.addPerson(BENSON);
+        model.commitChanges();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
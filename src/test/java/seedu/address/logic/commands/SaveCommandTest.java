@@ -11,12 +11,16 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.SaveCommand.MESSAGE_SAVE_CANDIDATES_FILE_SUCCESS;
 import static seedu.address.logic.commands.SaveCommand.MESSAGE_SAVE_SCHEDULES_FILE_SUCCESS;
 import static seedu.address.storage.ManualStorage.EMPTY_PATH;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,8 +31,12 @@ import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleBoardStorage;
 
 public class SaveCommandTest {
     private Path validCandidatesFilePath;
@@ -316,6 +324,37 @@ public class SaveCommandTest {
         assertCommandSuccess(saveCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_filteredData_onlyFilteredDataSaved() throws Exception {
+        Model filteredModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleBoard());
+        filteredModel.updateFilteredPersonList(person -> person.equals(ALICE));
+        filteredModel.updateFilteredScheduleList(schedule -> !schedule.equals(SCHEDULE_1));
+
+        new SaveCommand(validCandidatesFilePath, validSchedulesFilePath, false, false).execute(filteredModel);
+
+        ReadOnlyAddressBook savedAddressBook = new JsonAddressBookStorage(validCandidatesFilePath)
+                .readAddressBook().get();
+        assertEquals(List.of(ALICE), savedAddressBook.getPersonList());
+        assertEquals(filteredModel.getAddressBook().getJobRoleList(), savedAddressBook.getJobRoleList());
+        ReadOnlyScheduleBoard savedScheduleBoard = new JsonScheduleBoardStorage(validSchedulesFilePath)
+                .readScheduleBoard().get();
+        assertEquals(filteredModel.getFilteredScheduleList(), savedScheduleBoard.getScheduleList());
+    }
+
+    @Test
+    public void execute_allData_allDataSaved() throws Exception {
+        Model filteredModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleBoard());
+        filteredModel.updateFilteredPersonList(person -> person.equals(ALICE));
+        filteredModel.updateFilteredScheduleList(schedule -> false);
+
+        new SaveCommand(validCandidatesFilePath, validSchedulesFilePath, true, false).execute(filteredModel);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(validCandidatesFilePath)
+                .readAddressBook().get()));
+        assertEquals(getTypicalScheduleBoard(), new ScheduleBoard(new JsonScheduleBoardStorage(validSchedulesFilePath)
+                .readScheduleBoard().get()));
+    }
+
     @Test
     public void equals() {
         final SaveCommand standardCommand = new SaveCommand(
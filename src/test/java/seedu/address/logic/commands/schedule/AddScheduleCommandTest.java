@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +32,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
@@ -38,6 +40,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.schedule.TimeSlot;
 import seedu.address.testutil.ScheduleBuilder;
 
 public class AddScheduleCommandTest {
@@ -146,6 +149,11 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +169,21 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsPartially(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getDetailWordsStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -196,6 +219,51 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addSchedules(List<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> getSchedulesOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> getFreeSlotsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -285,6 +353,66 @@ public class AddScheduleCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<Schedule> getSchedulesOfCandidate(Person candidate) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void addPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedAddressBookChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedScheduleBoardChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public boolean hasUnsavedUserPrefsChanges() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getScheduleBoardVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public long getUserPrefsVersion() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markAddressBookSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markScheduleBoardSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public void markUserPrefsSaved(long version) {
+            throw new AssertionError("This method should not be called");
+        }
     }
 
     /**
@@ -0,0 +1,71 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.csv.CsvColumn.MESSAGE_WRONG_FIELD_COUNT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvColumnTest {
+
+    @Test
+    public void getValue() {
+        assertEquals("Benson Meier", PersonCsvColumn.NAME.getValue(BENSON));
+        assertEquals("Bash;Javascript", PersonCsvColumn.TAGS.getValue(BENSON));
+        assertEquals("IT Administrator", PersonCsvColumn.JOB_ROLES.getValue(BENSON));
+        assertEquals("", PersonCsvColumn.TAGS.getValue(HOON));
+    }
+
+    @Test
+    public void toPerson_valuesOfPerson_samePerson() throws Exception {
+        for (Person person : List.of(BENSON, HOON)) {
+            List<String> fields = new ArrayList<>();
+            PersonCsvColumn.DEFAULT_COLUMNS.forEach(column -> fields.add(column.getValue(person)));
+            Person readPerson = PersonCsvColumn.toPerson(PersonCsvColumn.DEFAULT_COLUMNS, fields);
+            assertEquals(person, readPerson);
+            assertEquals(person.getRemark(), readPerson.getRemark());
+        }
+    }
+
+    @Test
+    public void toPerson_optionalAndSkippedColumns_success() throws Exception {
+        List<PersonCsvColumn> columns = Arrays.asList(PersonCsvColumn.EMAIL, null, PersonCsvColumn.NAME,
+                PersonCsvColumn.PHONE, PersonCsvColumn.ADDRESS, PersonCsvColumn.JOB_ROLES, PersonCsvColumn.LABEL);
+        List<String> fields = List.of("hoon@example.com", "ignored", "Hoon Meier", "8482424", "little india",
+                "QA Engineer", "shortlisted");
+        Person expectedPerson = new PersonBuilder(HOON).withEmail("hoon@example.com").withRemark("").build();
+        Person person = PersonCsvColumn.toPerson(columns, fields);
+        assertEquals(expectedPerson, person);
+        assertEquals(new Email("hoon@example.com"), person.getEmail());
+    }
+
+    @Test
+    public void toPerson_invalidFields_throwsParseException() {
+        List<String> fields = new ArrayList<>();
+        PersonCsvColumn.DEFAULT_COLUMNS.forEach(column -> fields.add(column.getValue(BENSON)));
+
+        // wrong number of fields
+        assertThrows(ParseException.class, String.format(MESSAGE_WRONG_FIELD_COUNT, 8, 7), () ->
+                PersonCsvColumn.toPerson(PersonCsvColumn.DEFAULT_COLUMNS, fields.subList(0, 7)));
+
+        // invalid email
+        fields.set(PersonCsvColumn.EMAIL.ordinal(), "not an email");
+        assertThrows(ParseException.class, () -> PersonCsvColumn.toPerson(PersonCsvColumn.DEFAULT_COLUMNS, fields));
+
+        // no job roles
+        fields.set(PersonCsvColumn.EMAIL.ordinal(), BENSON.getEmail().value);
+        fields.set(PersonCsvColumn.JOB_ROLES.ordinal(), " ");
+        assertThrows(ParseException.class, () -> PersonCsvColumn.toPerson(PersonCsvColumn.DEFAULT_COLUMNS, fields));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_SCHEDULE_INVALID_DURATION;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.Schedule;
+
+public class ScheduleCsvColumnTest {
+
+    @Test
+    public void getValue() {
+        assertEquals("2025-03-15", ScheduleCsvColumn.DATE.getValue(SCHEDULE_1));
+        assertEquals("15:00", ScheduleCsvColumn.START_TIME.getValue(SCHEDULE_1));
+        assertEquals("online", ScheduleCsvColumn.MODE.getValue(SCHEDULE_1));
+        assertEquals("amy@gmail.com", ScheduleCsvColumn.CANDIDATE_EMAIL.getValue(SCHEDULE_1));
+    }
+
+    @Test
+    public void toSchedule_valuesOfSchedule_sameSchedule() throws Exception {
+        Schedule schedule = ScheduleCsvColumn.toSchedule(ScheduleCsvColumn.DEFAULT_COLUMNS, getFields(SCHEDULE_1));
+        assertEquals(SCHEDULE_1, schedule);
+        assertEquals(SCHEDULE_1.getCandidateName(), schedule.getCandidateName());
+        assertEquals(SCHEDULE_1.getCandidateEmail(), schedule.getCandidateEmail());
+    }
+
+    @Test
+    public void toSchedule_invalidDuration_throwsParseException() {
+        List<String> fields = getFields(SCHEDULE_1);
+        fields.set(ScheduleCsvColumn.END_TIME.ordinal(), "15:05");
+        assertThrows(ParseException.class, MESSAGE_SCHEDULE_INVALID_DURATION, () ->
+                ScheduleCsvColumn.toSchedule(ScheduleCsvColumn.DEFAULT_COLUMNS, fields));
+    }
+
+    private List<String> getFields(Schedule schedule) {
+        List<String> fields = new ArrayList<>();
+        ScheduleCsvColumn.DEFAULT_COLUMNS.forEach(column -> fields.add(column.getValue(schedule)));
+        return fields;
+    }
+}
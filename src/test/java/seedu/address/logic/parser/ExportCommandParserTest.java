@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_OVERWRITE_FILE;
+import static seedu.address.logic.parser.CliSyntax.SUFFIX_SAVE_ALL;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.storage.ManualStorage.EMPTY_PATH;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+
+public class ExportCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_noFilePaths_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + SUFFIX_SAVE_ALL, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_CANDIDATE_COLUMNS + "name", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_columnsWithoutFilePath_failure() {
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv "
+                + PREFIX_SCHEDULE_COLUMNS + "date", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preambleOrInvalidFlag_failure() {
+        assertParseFailure(parser, "all " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv " + SUFFIX_SAVE_ALL + "1",
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_defaultColumns_success() {
+        ExportCommand expectedCommand = new ExportCommand(Path.of("candidates.csv"), Path.of("schedules.csv"),
+                PersonCsvColumn.DEFAULT_COLUMNS, ScheduleCsvColumn.DEFAULT_COLUMNS, false, false);
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates "
+                + PREFIX_SCHEDULES_FILE_PATH + "schedules.csv", expectedCommand);
+    }
+
+    @Test
+    public void parse_columnsAndFlags_success() {
+        List<PersonCsvColumn> candidateColumns = Arrays.asList(PersonCsvColumn.NAME, null, PersonCsvColumn.EMAIL);
+        ExportCommand expectedCommand = new ExportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                candidateColumns, ScheduleCsvColumn.DEFAULT_COLUMNS, true, true);
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv "
+                + PREFIX_CANDIDATE_COLUMNS + "name,,email " + SUFFIX_SAVE_ALL + " " + SUFFIX_OVERWRITE_FILE,
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_unknownColumn_failure() {
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv "
+                + PREFIX_CANDIDATE_COLUMNS + "name,age", String.format(ParserUtil.MESSAGE_UNKNOWN_CSV_COLUMN, "age",
+                "name, phone, email, address, jobRoles, label, remark, tags"));
+    }
+}
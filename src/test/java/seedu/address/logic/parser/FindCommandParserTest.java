@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +32,15 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_partialMatchFlag_returnsPartialFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("Ali", "ob")));
+        assertParseSuccess(parser, " --partial  Ali \t ob", expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, " --partial ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
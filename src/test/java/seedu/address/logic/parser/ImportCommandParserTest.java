@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_COLUMNS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_COLUMNS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.storage.ManualStorage.EMPTY_PATH;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.csv.ScheduleCsvColumn;
+
+public class ImportCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_noFilePaths_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_SCHEDULE_COLUMNS + "date", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, "now " + PREFIX_CANDIDATES_FILE_PATH + "candidates.csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_columnsFromHeader_success() {
+        ImportCommand expectedCommand = new ImportCommand(Path.of("candidates.csv"), EMPTY_PATH,
+                Optional.empty(), Optional.empty());
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates", expectedCommand);
+    }
+
+    @Test
+    public void parse_columnsGiven_success() {
+        ImportCommand expectedCommand = new ImportCommand(EMPTY_PATH, Path.of("schedules.csv"),
+                Optional.empty(), Optional.of(List.of(ScheduleCsvColumn.CANDIDATE_EMAIL, ScheduleCsvColumn.DATE)));
+        assertParseSuccess(parser, " " + PREFIX_SCHEDULES_FILE_PATH + "schedules.csv "
+                + PREFIX_SCHEDULE_COLUMNS + "candidateEmail,date", expectedCommand);
+    }
+
+    @Test
+    public void parse_jsonCandidatesFile_success() {
+        ImportCommand expectedCommand = new ImportCommand(Path.of("candidates.json.gz"), EMPTY_PATH,
+                Optional.empty(), Optional.empty());
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.json.gz", expectedCommand);
+    }
+
+    @Test
+    public void parse_columnsGivenForJsonFile_failure() {
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.json "
+                + PREFIX_CANDIDATE_COLUMNS + "name", MESSAGE_INVALID_FORMAT);
+    }
+}
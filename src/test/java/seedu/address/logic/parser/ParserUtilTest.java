@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_DUPLICATE_CSV_COLUMN;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_REMARK_TOO_LONG;
 import static seedu.address.model.person.Remark.MAX_REMARK_LENGTH;
@@ -13,10 +14,13 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.csv.PersonCsvColumn;
+import seedu.address.logic.csv.ScheduleCsvColumn;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -288,6 +292,41 @@ public class ParserUtilTest {
         assertEquals(expectedPath, actualPath);
     }
 
+    @Test
+    public void parsePath_validPathWithCompressedJsonExtensionGiven_returnsPath() throws Exception {
+        Path actualPath = ParserUtil.parsePath(VALID_FILE_PATH_RELATIVE + ".gz");
+        Path expectedPath = Path.of(VALID_FILE_PATH_RELATIVE + ".gz");
+
+        assertEquals(expectedPath, actualPath);
+
+        // other compressed files -> JSON file extension appended
+        assertEquals(Path.of(VALID_FILE_NAME + ".gz" + VALID_FILE_EXTENSION),
+                ParserUtil.parsePath(VALID_FILE_NAME + ".gz"));
+    }
+
+    @Test
+    public void parseCsvPath_validPathGiven_returnsPathWithCsvExtension() throws Exception {
+        assertEquals(Path.of("data", "candidates.csv"), ParserUtil.parseCsvPath(" data/candidates.csv "));
+        assertEquals(Path.of("data", "candidates.csv"), ParserUtil.parseCsvPath("data/candidates"));
+        assertEquals(Path.of("candidates.json.csv"), ParserUtil.parseCsvPath("candidates.json"));
+    }
+
+    @Test
+    public void parseCsvColumns_validColumnsGiven_returnsColumns() throws Exception {
+        assertEquals(Arrays.asList(PersonCsvColumn.EMAIL, null, PersonCsvColumn.NAME),
+                ParserUtil.parseCsvColumns("Email, ,name", PersonCsvColumn.class));
+        assertEquals(List.of(ScheduleCsvColumn.START_TIME),
+                ParserUtil.parseCsvColumns(List.of("startTime"), ScheduleCsvColumn.class));
+    }
+
+    @Test
+    public void parseCsvColumns_invalidColumnsGiven_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCsvColumns("name,phone number",
+                PersonCsvColumn.class));
+        assertThrows(ParseException.class, String.format(MESSAGE_DUPLICATE_CSV_COLUMN, "NAME"), () ->
+                ParserUtil.parseCsvColumns("name,email,NAME", PersonCsvColumn.class));
+    }
+
     @Test
     public void parseRemark_validRemarkGiven_returnsRemark() throws ParseException {
         Remark actualRemark = ParserUtil.parseRemark(VALID_REMARK);
@@ -13,7 +13,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -122,11 +121,6 @@ public class AddressBookTest {
             return persons;
         }
 
-        @Override
-        public Map<JobRole, Long> getJobApplicantStatistics() {
-            return Map.of();
-        }
-
         @Override
         public ObservableList<JobRole> getJobRoleList() {
             return jobRoles;
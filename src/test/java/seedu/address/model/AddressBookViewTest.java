@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Person;
+
+public class AddressBookViewTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookView(null,
+                FXCollections.observableArrayList()));
+        assertThrows(NullPointerException.class, () -> new AddressBookView(FXCollections.observableArrayList(),
+                null));
+    }
+
+    @Test
+    public void getJobApplicantStatistics_allPersons_sameAsAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookView view = new AddressBookView(addressBook.getJobRoleList(), addressBook.getPersonList());
+        assertEquals(addressBook.getJobApplicantStatistics(), view.getJobApplicantStatistics());
+    }
+
+    @Test
+    public void getPersonList_filteredPersons_changesReflected() {
+        AddressBook addressBook = getTypicalAddressBook();
+        FilteredList<Person> filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        AddressBookView view = new AddressBookView(addressBook.getJobRoleList(), filteredPersons);
+        assertEquals(addressBook.getPersonList(), view.getPersonList());
+
+        Person firstPerson = addressBook.getPersonList().get(0);
+        filteredPersons.setPredicate(firstPerson::equals);
+        ObservableList<Person> expectedPersons = FXCollections.observableArrayList(firstPerson);
+        assertEquals(expectedPersons, view.getPersonList());
+        assertEquals(addressBook.getJobRoleList(), view.getJobRoleList());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelHistoryTest {
+
+    private final Model model = new ModelManager();
+    private final List<String> log = new ArrayList<>();
+    private final ModelHistory history = new ModelHistory(2);
+
+    @Test
+    public void constructor_nonPositiveMaxSteps_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ModelHistory(0));
+    }
+
+    @Test
+    public void undo_committedStep_changesReversedInReverseOrder() {
+        recordChange("a");
+        recordChange("b");
+        history.commit();
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+
+        history.undo(model);
+        assertEquals(List.of("undo b", "undo a"), log);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo(model);
+        assertEquals(List.of("undo b", "undo a", "redo a", "redo b"), log);
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedFirst() {
+        recordChange("a");
+        history.commit();
+        recordChange("b");
+        assertTrue(history.canUndo());
+
+        history.undo(model);
+        assertEquals(List.of("undo b"), log);
+        history.undo(model);
+        assertEquals(List.of("undo b", "undo a"), log);
+    }
+
+    @Test
+    public void record_whileReplaying_notRecorded() {
+        history.record(unused -> history.record(unused2 -> log.add("nested"), unused2 -> { }),
+                unused -> { });
+        history.commit();
+        history.undo(model);
+        history.commit();
+
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStepsDiscarded() {
+        recordChange("a");
+        history.commit();
+        history.undo(model);
+        recordChange("b");
+        assertFalse(history.canRedo());
+
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_noStepAdded() {
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_moreThanMaxSteps_oldestStepDiscarded() {
+        for (String change : List.of("a", "b", "c")) {
+            recordChange(change);
+            history.commit();
+        }
+
+        history.undo(model);
+        history.undo(model);
+        assertFalse(history.canUndo());
+        assertEquals(List.of("undo c", "undo b"), log);
+    }
+
+    @Test
+    public void clear_stepsAndChanges_nothingToUndoOrRedo() {
+        recordChange("a");
+        history.commit();
+        recordChange("b");
+        history.commit();
+        history.undo(model);
+        recordChange("c");
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    private void recordChange(String change) {
+        history.record(unused -> log.add("undo " + change), unused -> log.add("redo " + change));
+    }
+}
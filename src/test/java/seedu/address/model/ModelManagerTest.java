@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
@@ -10,21 +11,30 @@ import static seedu.address.testutil.TypicalJobRoles.JOB_ROLES_NOT_IN_DEFAULT_LI
 import static seedu.address.testutil.TypicalJobRoles.JOB_ROLE_IN_DEFAULT_LIST;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.Theme;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.ScheduleBoardBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class ModelManagerTest {
 
@@ -146,6 +156,258 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredJobRolesList().remove(0));
     }
 
+    @Test
+    public void addPendingPersons_addressBookRead_replacesFirstPersonsAsSavedData() {
+        modelManager.addPerson(ALICE);
+        modelManager.markAddressBookSaved(modelManager.getAddressBookVersion());
+        modelManager.setPendingAddressBook(CompletableFuture.completedFuture(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build()));
+        modelManager.addPendingPersons();
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+
+        // pending persons are only added once
+        modelManager.addPendingPersons();
+        assertEquals(2, modelManager.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void addPendingPersons_readingFailed_emptyAddressBookUsed() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.setPendingAddressBook(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        // waiting for a failed read does not throw
+        modelManager.awaitPendingPersons();
+        modelManager.addPendingPersons();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void addPersons_newPersons_addedAfterExistingPersons() {
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addPerson(ALICE);
+        modelManager.addChangeListener(changes::add);
+        modelManager.updateFilteredPersonList(p -> false);
+        modelManager.addPersons(List.of(BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ModelChange.addPerson(BENSON), ModelChange.addPerson(CARL)), changes);
+    }
+
+    @Test
+    public void addPersons_duplicatePerson_throwsDuplicatePersonException() {
+        modelManager.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPersons(List.of(BENSON, ALICE)));
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void addSchedules_newSchedules_addedInOrder() {
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addSchedule(SCHEDULE_2);
+        modelManager.addChangeListener(changes::add);
+        modelManager.addSchedules(List.of(SCHEDULE_1));
+
+        assertEquals(Arrays.asList(SCHEDULE_1, SCHEDULE_2), modelManager.getScheduleBoard().getScheduleList());
+        assertEquals(List.of(ModelChange.addSchedule(SCHEDULE_1)), changes);
+    }
+
+    @Test
+    public void hasUnsavedChanges_newModelManager_returnsFalse() {
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+        assertFalse(modelManager.hasUnsavedScheduleBoardChanges());
+        assertFalse(modelManager.hasUnsavedUserPrefsChanges());
+    }
+
+    @Test
+    public void hasUnsavedAddressBookChanges_personAdded_returnsTrueUntilMarkedSaved() {
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasUnsavedAddressBookChanges());
+        assertFalse(modelManager.hasUnsavedScheduleBoardChanges());
+
+        modelManager.markAddressBookSaved(modelManager.getAddressBookVersion());
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void hasUnsavedAddressBookChanges_personAddedAfterSavedVersion_returnsTrue() {
+        modelManager.addPerson(ALICE);
+        long savedVersion = modelManager.getAddressBookVersion();
+        modelManager.addPerson(BENSON);
+
+        modelManager.markAddressBookSaved(savedVersion);
+        assertTrue(modelManager.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void hasUnsavedScheduleBoardChanges_scheduleAdded_returnsTrueUntilMarkedSaved() {
+        modelManager.addSchedule(SCHEDULE_1);
+        assertTrue(modelManager.hasUnsavedScheduleBoardChanges());
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+
+        modelManager.markScheduleBoardSaved(modelManager.getScheduleBoardVersion());
+        assertFalse(modelManager.hasUnsavedScheduleBoardChanges());
+    }
+
+    @Test
+    public void hasUnsavedUserPrefsChanges_themeChanged_returnsTrueUntilMarkedSaved() {
+        modelManager.setTheme(Theme.LIGHT);
+        assertTrue(modelManager.hasUnsavedUserPrefsChanges());
+
+        modelManager.markUserPrefsSaved(modelManager.getUserPrefsVersion());
+        assertFalse(modelManager.hasUnsavedUserPrefsChanges());
+    }
+
+    @Test
+    public void hasUnsavedAddressBookChanges_filterUpdated_returnsFalse() {
+        modelManager.updateFilteredPersonList(p -> false);
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void addChangeListener_modelModified_listenerNotified() {
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_1);
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.updateFilteredPersonList(p -> false);
+
+        assertEquals(Arrays.asList(ModelChange.addPerson(ALICE), ModelChange.addSchedule(SCHEDULE_1),
+                ModelChange.resetAddressBook()), changes);
+    }
+
+    @Test
+    public void undoChanges_personsChanged_changesUndoneAndRedoneByCommand() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitChanges();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        modelManager.commitChanges();
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.undoChanges();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ModelChange.addPerson(BENSON), ModelChange.setPerson(editedAlice, ALICE)),
+                changes);
+        assertTrue(modelManager.canRedoChanges());
+
+        modelManager.redoChanges();
+        assertEquals(List.of(editedAlice), modelManager.getAddressBook().getPersonList());
+
+        modelManager.undoChanges();
+        modelManager.undoChanges();
+        assertEquals(List.of(), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoChanges());
+    }
+
+    @Test
+    public void undoChanges_dataReplaced_previousDataRestored() {
+        modelManager.addPerson(ALICE);
+        modelManager.addJobRole(JOB_ROLES_NOT_IN_DEFAULT_LIST);
+        modelManager.addSchedule(SCHEDULE_1);
+        modelManager.commitChanges();
+        AddressBook addressBook = new AddressBook(modelManager.getAddressBook());
+        ScheduleBoard scheduleBoard = new ScheduleBoard(modelManager.getScheduleBoard());
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.setScheduleBoard(new ScheduleBoard());
+        modelManager.commitChanges();
+
+        modelManager.undoChanges();
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertEquals(scheduleBoard, modelManager.getScheduleBoard());
+
+        modelManager.redoChanges();
+        assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
+        assertEquals(new ScheduleBoard(), modelManager.getScheduleBoard());
+    }
+
+    @Test
+    public void undoChanges_candidateEditedInSchedule_previousCandidateRestored() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        Schedule schedule = new ScheduleBuilder().withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(schedule);
+        modelManager.commitChanges();
+        modelManager.editCandidateInSchedule(schedule, editedAlice);
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.commitChanges();
+
+        modelManager.undoChanges();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(List.of(schedule), modelManager.getSchedulesOfCandidate(ALICE));
+        assertEquals(ALICE.getEmail(), schedule.getCandidateEmail());
+    }
+
+    @Test
+    public void undoChanges_scheduleCandidateNotInAddressBook_previousScheduleRestored() {
+        Schedule schedule = new ScheduleBuilder().withCandidateName("Old Name")
+                .withCandidateEmail("old@example.com").build();
+        modelManager.addSchedule(schedule);
+        modelManager.commitChanges();
+        modelManager.editCandidateInSchedule(schedule, ALICE);
+        modelManager.commitChanges();
+
+        modelManager.undoChanges();
+        Schedule restoredSchedule = modelManager.getScheduleBoard().getScheduleList().get(0);
+        assertEquals("Old Name", restoredSchedule.getCandidateName().toString());
+        assertEquals(schedule.getCandidateEmail(), restoredSchedule.getCandidateEmail());
+
+        modelManager.redoChanges();
+        assertEquals(ALICE.getEmail(), modelManager.getScheduleBoard().getScheduleList().get(0).getCandidateEmail());
+    }
+
+    @Test
+    public void undoChanges_personsAddedTogether_allRemoved() {
+        modelManager.addPersons(List.of(ALICE, BENSON, CARL));
+        modelManager.commitChanges();
+
+        modelManager.undoChanges();
+        assertEquals(List.of(), modelManager.getAddressBook().getPersonList());
+
+        modelManager.redoChanges();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void getSnapshot_changesCommitted_changesPublished() {
+        ModelSnapshot initialSnapshot = modelManager.getSnapshot();
+        modelManager.addPerson(ALICE);
+        assertSame(initialSnapshot, modelManager.getSnapshot());
+
+        modelManager.commitChanges();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+        assertEquals(initialSnapshot.getVersion() + 1, snapshot.getVersion());
+        assertEquals(List.of(ALICE), snapshot.getAddressBook().getPersonList());
+        assertEquals(List.of(), initialSnapshot.getAddressBook().getPersonList());
+
+        modelManager.commitChanges();
+        assertSame(snapshot, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_candidateEditedInSchedule_snapshotUnchanged() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        Schedule schedule = new ScheduleBuilder().withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(schedule);
+        modelManager.commitChanges();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+
+        modelManager.editCandidateInSchedule(schedule, editedAlice);
+        modelManager.commitChanges();
+        assertEquals(ALICE.getEmail(), snapshot.getScheduleBoard().getScheduleList().get(0).getCandidateEmail());
+        assertEquals(editedAlice.getEmail(),
+                modelManager.getSnapshot().getScheduleBoard().getScheduleList().get(0).getCandidateEmail());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
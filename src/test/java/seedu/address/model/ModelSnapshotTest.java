@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.testutil.ScheduleBoardBuilder;
+
+public class ModelSnapshotTest {
+
+    @Test
+    public void copyOf_addressBook_unaffectedByChangesToSource() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook copy = ModelSnapshot.copyOf(addressBook);
+        List<Person> expectedPersons = List.copyOf(addressBook.getPersonList());
+
+        addressBook.removePerson(ALICE);
+        assertEquals(expectedPersons, copy.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getPersonList().remove(0));
+        assertEquals(getTypicalAddressBook().getJobApplicantStatistics(), copy.getJobApplicantStatistics());
+    }
+
+    @Test
+    public void copyOf_copy_returnsSameCopy() {
+        ReadOnlyAddressBook addressBookCopy = ModelSnapshot.copyOf(getTypicalAddressBook());
+        assertSame(addressBookCopy, ModelSnapshot.copyOf(addressBookCopy));
+
+        ReadOnlyScheduleBoard scheduleBoardCopy = ModelSnapshot.copyOf(new ScheduleBoard());
+        assertSame(scheduleBoardCopy, ModelSnapshot.copyOf(scheduleBoardCopy));
+    }
+
+    @Test
+    public void copyOf_scheduleBoard_unaffectedByChangesToSource() {
+        ScheduleBoard scheduleBoard = new ScheduleBoardBuilder().withSchedule(SCHEDULE_1).build();
+        ReadOnlyScheduleBoard copy = ModelSnapshot.copyOf(scheduleBoard);
+
+        scheduleBoard.addSchedule(SCHEDULE_2);
+        assertEquals(List.of(SCHEDULE_1), copy.getScheduleList());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getScheduleList().clear());
+    }
+
+    @Test
+    public void next_unchangedData_returnsSameSnapshot() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        ModelSnapshot snapshot = ModelSnapshot.of(addressBook, scheduleBoard);
+        assertSame(snapshot, snapshot.next(addressBook, scheduleBoard));
+    }
+
+    @Test
+    public void next_onlyScheduleBoardChanged_addressBookShared() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        ModelSnapshot snapshot = ModelSnapshot.of(addressBook, scheduleBoard);
+
+        scheduleBoard.addSchedule(SCHEDULE_1);
+        ModelSnapshot nextSnapshot = snapshot.next(addressBook, scheduleBoard);
+        assertEquals(snapshot.getVersion() + 1, nextSnapshot.getVersion());
+        assertSame(snapshot.getAddressBook(), nextSnapshot.getAddressBook());
+        assertEquals(List.of(), snapshot.getScheduleBoard().getScheduleList());
+        assertEquals(List.of(SCHEDULE_1), nextSnapshot.getScheduleBoard().getScheduleList());
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Theme;
+
 public class UserPrefsTest {
 
     @Test
@@ -12,6 +18,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void constructor_copy_copiesAllPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setGuiSettings(new GuiSettings(800, 600, 10, 20, Theme.DARK));
+        userPrefs.setAddressBookFilePath(Paths.get("candidates.json"));
+        userPrefs.setScheduleBoardFilePath(Paths.get("schedules.json"));
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(userPrefs, copy);
+        assertEquals(userPrefs.getScheduleBoardFilePath(), copy.getScheduleBoardFilePath());
+
+        // the copy is not changed along with the original
+        userPrefs.setTheme(Theme.LIGHT);
+        assertEquals(Theme.DARK, copy.getGuiSettings().getTheme());
+    }
+
     @Test
     public void setAddressBookFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -47,6 +48,7 @@ public class JobRoleTest {
 
         // same case-insensitve values -> returns true
         assertTrue(jobRole.equals(new JobRole("ValiD JoB RolE")));
+        assertEquals(jobRole.hashCode(), new JobRole("ValiD JoB RolE").hashCode());
 
         // same object -> returns true
         assertTrue(jobRole.equals(jobRole));
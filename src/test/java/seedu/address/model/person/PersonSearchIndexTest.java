@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void find_keywordsInAnyDetail_matchingPersonsReturned() {
+        getTypicalPersons().forEach(searchIndex::add);
+
+        // name, in a different case
+        assertEquals(Set.of(BENSON, DANIEL), searchIndex.find(Collections.singletonList("mEIER")));
+        // email, remark and tag
+        assertEquals(Set.of(ALICE), searchIndex.find(Collections.singletonList("alice@example.com")));
+        assertEquals(Set.of(BENSON), searchIndex.find(Collections.singletonList("randomised")));
+        assertEquals(Set.of(BENSON), searchIndex.find(Collections.singletonList("bash")));
+        // partial word -> no match
+        assertTrue(searchIndex.find(Collections.singletonList("Mei")).isEmpty());
+    }
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(searchIndex::add);
+
+        List<String> keywords = Arrays.asList("street", "Unreviewed", "Svelte", "94351253", "Kurz", "unknown");
+        Set<Person> expected = persons.stream()
+                .filter(new PersonDetailsContainKeywordsPredicate(keywords))
+                .collect(Collectors.toSet());
+        assertEquals(expected, searchIndex.find(keywords));
+    }
+
+    @Test
+    public void findPartial_keywordsInAnyPartOfWords_matchingPersonsReturned() {
+        getTypicalPersons().forEach(searchIndex::add);
+
+        // short keyword, in a different case
+        assertEquals(Set.of(BENSON, DANIEL), searchIndex.findPartial(Collections.singletonList("EIE")));
+        // long keyword in the middle of a word
+        assertEquals(Set.of(BENSON), searchIndex.findPartial(Collections.singletonList("ndomise")));
+        // keyword in no word, although each of its substrings is in some word
+        assertTrue(searchIndex.findPartial(Collections.singletonList("meiexam")).isEmpty());
+    }
+
+    @Test
+    public void findPartial_sameResultsAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(searchIndex::add);
+
+        List<String> keywords = Arrays.asList("tre", "view", "@EXAMPLE.com", "9435", "z", "unknown");
+        Set<Person> expected = persons.stream()
+                .filter(new PersonDetailsContainPartialKeywordsPredicate(keywords))
+                .collect(Collectors.toSet());
+        assertEquals(expected, searchIndex.findPartial(keywords));
+    }
+
+    @Test
+    public void getWordsStartingWith() {
+        getTypicalPersons().forEach(searchIndex::add);
+        assertEquals(Arrays.asList("java", "javascript"), searchIndex.getWordsStartingWith("Ja", 5));
+        assertEquals(Collections.singletonList("java"), searchIndex.getWordsStartingWith("ja", 1));
+        assertTrue(searchIndex.getWordsStartingWith("zzz", 5).isEmpty());
+    }
+
+    @Test
+    public void remove_personRemovedFromAllWords() {
+        searchIndex.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        searchIndex.add(aliceCopy);
+
+        searchIndex.remove(ALICE);
+        assertEquals(1, searchIndex.find(Collections.singletonList("Alice")).size());
+        assertTrue(searchIndex.find(Collections.singletonList("Alice")).contains(aliceCopy));
+
+        searchIndex.remove(aliceCopy);
+        assertTrue(searchIndex.find(Arrays.asList("Alice", "Pauline", "Java")).isEmpty());
+        assertTrue(searchIndex.findPartial(Arrays.asList("lic", "aulin")).isEmpty());
+        assertTrue(searchIndex.getWordsStartingWith("pau", 5).isEmpty());
+    }
+}
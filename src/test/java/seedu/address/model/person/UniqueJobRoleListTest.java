@@ -40,6 +40,20 @@ public class UniqueJobRoleListTest {
         uniqueJobRoleList.remove(JOB_ROLES_NOT_IN_DEFAULT_LIST);
     }
 
+    @Test
+    public void contains_jobRoleInDifferentCase_returnsTrue() {
+        assertTrue(uniqueJobRoleList.contains(new JobRole(JOB_ROLE_IN_DEFAULT_LIST.value.toUpperCase())));
+    }
+
+    @Test
+    public void contains_removedJobRole_returnsFalse() {
+        uniqueJobRoleList.remove(JOB_ROLE_IN_DEFAULT_LIST);
+        assertFalse(uniqueJobRoleList.contains(JOB_ROLE_IN_DEFAULT_LIST));
+        uniqueJobRoleList.setJobRoles(List.of(JOB_ROLES_NOT_IN_DEFAULT_LIST));
+        assertTrue(uniqueJobRoleList.contains(JOB_ROLES_NOT_IN_DEFAULT_LIST));
+        assertFalse(uniqueJobRoleList.contains(JOB_ROLE_IN_DEFAULT_LIST_2));
+    }
+
     @Test
     public void contains_defaultJobRoleInList_returnsTrue() {
         assertTrue(uniqueJobRoleList.contains(JOB_ROLE_IN_DEFAULT_LIST));
@@ -0,0 +1,31 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+
+public class ScheduleBoardViewTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleBoardView(null));
+    }
+
+    @Test
+    public void getScheduleList_filteredSchedules_changesReflected() {
+        ScheduleBoard scheduleBoard = getTypicalScheduleBoard();
+        FilteredList<Schedule> filteredSchedules = new FilteredList<>(scheduleBoard.getScheduleList());
+        ScheduleBoardView view = new ScheduleBoardView(filteredSchedules);
+        assertEquals(scheduleBoard.getScheduleList(), view.getScheduleList());
+
+        Schedule firstSchedule = scheduleBoard.getScheduleList().get(0);
+        filteredSchedules.setPredicate(firstSchedule::equals);
+        assertEquals(List.of(firstSchedule), view.getScheduleList());
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ScheduleIndexTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2025-03-15");
+
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+
+    @Test
+    public void add_duplicateSchedule_returnsFalse() {
+        assertTrue(scheduleIndex.add(SCHEDULE_1));
+        Schedule sameTimeSchedule = new ScheduleBuilder(SCHEDULE_1).withCandidateName("Bob").withMode("OFFLINE")
+                .build();
+        assertFalse(scheduleIndex.add(sameTimeSchedule));
+    }
+
+    @Test
+    public void contains_scheduleWithDifferentEndTime_returnsFalse() {
+        scheduleIndex.add(SCHEDULE_1);
+        assertTrue(scheduleIndex.contains(new ScheduleBuilder(SCHEDULE_1).build()));
+        assertFalse(scheduleIndex.contains(new ScheduleBuilder(SCHEDULE_1).withEndTime("17:00").build()));
+    }
+
+    @Test
+    public void remove_existingSchedule_scheduleRemoved() {
+        scheduleIndex.add(SCHEDULE_1);
+        assertTrue(scheduleIndex.remove(SCHEDULE_1));
+        assertFalse(scheduleIndex.contains(SCHEDULE_1));
+        assertFalse(scheduleIndex.remove(SCHEDULE_1));
+        assertEquals(Collections.emptyList(), scheduleIndex.getSchedulesOn(DATE));
+    }
+
+    @Test
+    public void hasClash() {
+        scheduleIndex.add(SCHEDULE_1); // 2025-03-15 15:00 to 16:00
+        scheduleIndex.add(SCHEDULE_2); // 2025-04-15 15:00 to 16:00
+
+        // overlapping times on same date -> returns true
+        assertTrue(scheduleIndex.hasClash(scheduleAt("14:30", "15:30"), null));
+        assertTrue(scheduleIndex.hasClash(scheduleAt("15:30", "17:00"), null));
+        assertTrue(scheduleIndex.hasClash(scheduleAt("14:00", "17:00"), null));
+
+        // adjacent times -> returns false
+        assertFalse(scheduleIndex.hasClash(scheduleAt("14:00", "15:00"), null));
+        assertFalse(scheduleIndex.hasClash(scheduleAt("16:00", "17:00"), null));
+
+        // different date -> returns false
+        assertFalse(scheduleIndex.hasClash(new ScheduleBuilder().withDate("2025-03-16").withStartTime("15:00")
+                .withEndTime("16:00").build(), null));
+
+        // clashing schedule ignored -> returns false
+        assertFalse(scheduleIndex.hasClash(scheduleAt("15:30", "17:00"), SCHEDULE_1));
+    }
+
+    @Test
+    public void hasClash_manySchedulesOnDate_onlyNeighboursMatter() {
+        scheduleIndex.add(scheduleAt("09:00", "10:00"));
+        scheduleIndex.add(scheduleAt("10:00", "11:00"));
+        scheduleIndex.add(scheduleAt("13:00", "14:00"));
+        scheduleIndex.add(scheduleAt("14:00", "15:00"));
+
+        // schedule spanning several others -> returns true
+        assertTrue(scheduleIndex.hasClash(scheduleAt("09:30", "14:30"), null));
+
+        // overlaps only the schedule before it, which starts earlier -> returns true
+        assertTrue(scheduleIndex.hasClash(scheduleAt("10:30", "12:00"), null));
+
+        // overlaps only the schedule after it -> returns true
+        assertTrue(scheduleIndex.hasClash(scheduleAt("12:00", "13:30"), null));
+
+        // in the gap between schedules -> returns false
+        assertFalse(scheduleIndex.hasClash(scheduleAt("11:00", "13:00"), null));
+
+        // same times as the ignored schedule, next to others -> returns false
+        assertFalse(scheduleIndex.hasClash(scheduleAt("10:00", "11:00"), scheduleAt("10:00", "11:00")));
+    }
+
+    @Test
+    public void hasAnyClash() {
+        scheduleIndex.add(scheduleAt("09:00", "10:00"));
+        scheduleIndex.add(scheduleAt("10:00", "11:00"));
+        scheduleIndex.add(new ScheduleBuilder().withDate("2025-03-16").withStartTime("09:30").withEndTime("10:30")
+                .build());
+
+        // schedules only touching, or on different dates -> returns false
+        assertFalse(scheduleIndex.hasAnyClash());
+
+        // schedule spanning others -> returns true
+        scheduleIndex.add(scheduleAt("08:00", "12:00"));
+        assertTrue(scheduleIndex.hasAnyClash());
+    }
+
+    @Test
+    public void getSchedulesOn_schedulesAddedOutOfOrder_sortedByStartTime() {
+        Schedule morning = scheduleAt("09:00", "10:00");
+        Schedule afternoon = scheduleAt("15:00", "16:00");
+        scheduleIndex.add(afternoon);
+        scheduleIndex.add(SCHEDULE_2);
+        scheduleIndex.add(morning);
+        assertEquals(Arrays.asList(morning, afternoon), scheduleIndex.getSchedulesOn(DATE));
+    }
+
+    @Test
+    public void getSchedulesOn_modifyList_throwsUnsupportedOperationException() {
+        scheduleIndex.add(SCHEDULE_1);
+        assertThrows(UnsupportedOperationException.class, () -> scheduleIndex.getSchedulesOn(DATE).remove(0));
+    }
+
+    @Test
+    public void getFreeSlots() {
+        scheduleIndex.add(scheduleAt("09:00", "10:00"));
+        scheduleIndex.add(scheduleAt("11:00", "12:00"));
+        scheduleIndex.add(scheduleAt("12:00", "12:30"));
+        scheduleIndex.add(scheduleAt("17:00", "18:00"));
+
+        assertEquals(Arrays.asList(slot("08:00", "09:00"), slot("10:00", "11:00"), slot("12:30", "17:00")),
+                scheduleIndex.getFreeSlots(DATE, LocalTime.parse("08:00"), LocalTime.parse("17:30")));
+
+        // range within a schedule -> no free slots
+        assertEquals(Collections.emptyList(),
+                scheduleIndex.getFreeSlots(DATE, LocalTime.parse("09:15"), LocalTime.parse("09:45")));
+
+        // date without schedules -> whole range free
+        assertEquals(Collections.singletonList(slot("08:00", "17:30")),
+                scheduleIndex.getFreeSlots(DATE.plusDays(1), LocalTime.parse("08:00"), LocalTime.parse("17:30")));
+    }
+
+    private static Schedule scheduleAt(String startTime, String endTime) {
+        return new ScheduleBuilder().withDate(DATE.toString()).withStartTime(startTime).withEndTime(endTime).build();
+    }
+
+    private static TimeSlot slot(String startTime, String endTime) {
+        return new TimeSlot(LocalTime.parse(startTime), LocalTime.parse(endTime));
+    }
+}
@@ -11,6 +11,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -18,7 +19,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
+import seedu.address.model.schedule.exceptions.ClashingScheduleException;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -57,6 +61,47 @@ public class UniqueScheduleListTest {
         assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.add(SCHEDULE_1));
     }
 
+    @Test
+    public void addAll_schedulesOutOfOrder_eachInsertedInPlace() {
+        Schedule schedule3 = TypicalSchedules.SCHEDULE_3;
+        uniqueScheduleList.add(schedule3);
+        List<ListChangeListener.Change<? extends Schedule>> changes = recordChanges();
+        uniqueScheduleList.addAll(Arrays.asList(SCHEDULE_2, SCHEDULE_1));
+
+        assertEquals(Arrays.asList(SCHEDULE_1, schedule3, SCHEDULE_2),
+                uniqueScheduleList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+        assertEquals(List.of(SCHEDULE_1), uniqueScheduleList.getSchedulesOn(SCHEDULE_1.getDate()));
+        assertEquals(List.of(SCHEDULE_2), uniqueScheduleList.getSchedulesOfCandidate(SCHEDULE_2.getCandidateEmail()));
+    }
+
+    @Test
+    public void addAll_duplicateSchedules_throwsDuplicateScheduleExceptionAndListUnchanged() {
+        uniqueScheduleList.add(SCHEDULE_1);
+        assertThrows(DuplicateScheduleException.class, () ->
+                uniqueScheduleList.addAll(Arrays.asList(SCHEDULE_2, SCHEDULE_1)));
+        assertThrows(DuplicateScheduleException.class, () ->
+                uniqueScheduleList.addAll(Arrays.asList(SCHEDULE_2, SCHEDULE_2)));
+        assertEquals(List.of(SCHEDULE_1), uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_clashingSchedules_throwsClashingScheduleExceptionAndListUnchanged() {
+        uniqueScheduleList.add(SCHEDULE_1);
+        Schedule clashingSchedule = new ScheduleBuilder(SCHEDULE_1).withEndTime("23:59").build();
+        Schedule scheduleClashingWithSchedule2 = new ScheduleBuilder(SCHEDULE_2).withEndTime("23:59").build();
+
+        // clashes with a schedule in the list
+        assertThrows(ClashingScheduleException.class, () ->
+                uniqueScheduleList.addAll(List.of(SCHEDULE_2, clashingSchedule)));
+
+        // clashes with another added schedule
+        assertThrows(ClashingScheduleException.class, () ->
+                uniqueScheduleList.addAll(List.of(SCHEDULE_2, scheduleClashingWithSchedule2)));
+
+        assertEquals(List.of(SCHEDULE_1), uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setSchedule_nullTargetSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueScheduleList.setSchedule(null, SCHEDULE_1));
@@ -163,6 +208,13 @@ public class UniqueScheduleListTest {
                 uniqueScheduleList.setSchedules(listWithDuplicateSchedules));
     }
 
+    @Test
+    public void setSchedules_listWithClashingSchedules_throwsClashingScheduleException() {
+        Schedule clashingSchedule = new ScheduleBuilder(SCHEDULE_1).withEndTime("23:59").build();
+        assertThrows(ClashingScheduleException.class, () ->
+                uniqueScheduleList.setSchedules(Arrays.asList(SCHEDULE_1, clashingSchedule)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -294,6 +346,51 @@ public class UniqueScheduleListTest {
         assertEquals("new@example.com", uniqueScheduleList.getSchedule(0).getCandidateEmail().toString());
     }
 
+    @Test
+    public void editCandidateInSchedule_validEdit_schedulesOnDateUpdated() {
+        Schedule schedule = new ScheduleBuilder().withCandidateName("Old Name").build();
+        uniqueScheduleList.add(schedule);
+
+        uniqueScheduleList.editCandidateInSchedule(schedule, new PersonBuilder().withName("New Name").build());
+        List<Schedule> schedulesOnDate = uniqueScheduleList.getSchedulesOn(schedule.getDate());
+        assertEquals(1, schedulesOnDate.size());
+        assertEquals("New Name", schedulesOnDate.get(0).getCandidateName().toString());
+    }
+
+    @Test
+    public void editCandidateInSchedule_validEdit_targetUnchanged() {
+        Schedule schedule = new ScheduleBuilder()
+                .withCandidateName("Old Name")
+                .withCandidateEmail("old@example.com")
+                .build();
+        uniqueScheduleList.add(schedule);
+
+        PersonBuilder personBuilder = new PersonBuilder();
+        uniqueScheduleList.editCandidateInSchedule(schedule,
+                personBuilder.withName("New Name").withEmail("new@example.com").build());
+        assertEquals("Old Name", schedule.getCandidateName().toString());
+        assertEquals("old@example.com", schedule.getCandidateEmail().toString());
+        assertEquals(List.of(), uniqueScheduleList.getSchedulesOfCandidate(schedule.getCandidateEmail()));
+    }
+
+    @Test
+    public void getSchedulesOfCandidate_candidateEditedAndScheduleRemoved_indexUpdated() {
+        Schedule schedule = new ScheduleBuilder().withCandidateEmail("old@example.com").build();
+        Schedule otherSchedule = new ScheduleBuilder().withDate("2025-12-01").withCandidateEmail("old@example.com")
+                .build();
+        uniqueScheduleList.setSchedules(Arrays.asList(schedule, otherSchedule));
+        Email oldEmail = new Email("old@example.com");
+        Email newEmail = new Email("new@example.com");
+        assertEquals(Arrays.asList(schedule, otherSchedule), uniqueScheduleList.getSchedulesOfCandidate(oldEmail));
+
+        uniqueScheduleList.editCandidateInSchedule(schedule, new PersonBuilder().withEmail("new@example.com").build());
+        assertEquals(Collections.singletonList(otherSchedule), uniqueScheduleList.getSchedulesOfCandidate(oldEmail));
+        assertEquals(Collections.singletonList(schedule), uniqueScheduleList.getSchedulesOfCandidate(newEmail));
+
+        uniqueScheduleList.remove(schedule);
+        assertEquals(Collections.emptyList(), uniqueScheduleList.getSchedulesOfCandidate(newEmail));
+    }
+
     @Test
     public void getAllSchedules_returnsModifiableList() {
         uniqueScheduleList.add(TypicalSchedules.SCHEDULE_1);
@@ -326,4 +423,55 @@ public class UniqueScheduleListTest {
         assertEquals(schedule2, iterator.next());
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    public void add_scheduleOutOfOrder_insertedInPlaceWithSingleChange() {
+        uniqueScheduleList.add(SCHEDULE_2);
+        List<ListChangeListener.Change<? extends Schedule>> changes = recordChanges();
+        uniqueScheduleList.add(SCHEDULE_1);
+
+        assertEquals(Arrays.asList(SCHEDULE_1, SCHEDULE_2), uniqueScheduleList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Schedule> change = changes.get(0);
+        assertTrue(change.next());
+        assertFalse(change.wasPermutated());
+        assertFalse(change.wasRemoved());
+        assertEquals(0, change.getFrom());
+        assertEquals(Collections.singletonList(SCHEDULE_1), change.getAddedSubList());
+    }
+
+    @Test
+    public void setSchedule_editedScheduleMovesLater_listStaysSorted() {
+        Schedule earliest = new ScheduleBuilder().withDate("2025-01-01").build();
+        uniqueScheduleList.setSchedules(Arrays.asList(SCHEDULE_2, earliest, SCHEDULE_1));
+        Schedule latest = new ScheduleBuilder().withDate("2025-12-01").build();
+        uniqueScheduleList.setSchedule(earliest, latest);
+
+        assertEquals(Arrays.asList(SCHEDULE_1, SCHEDULE_2, latest), uniqueScheduleList.asUnmodifiableObservableList());
+        assertTrue(uniqueScheduleList.contains(latest));
+        assertFalse(uniqueScheduleList.contains(earliest));
+    }
+
+    @Test
+    public void editCandidateInSchedule_validEdit_scheduleReplacedInPlace() {
+        uniqueScheduleList.setSchedules(Arrays.asList(SCHEDULE_1, SCHEDULE_2));
+        Schedule schedule = new ScheduleBuilder(SCHEDULE_2).build();
+        uniqueScheduleList.setSchedule(SCHEDULE_2, schedule);
+        List<ListChangeListener.Change<? extends Schedule>> changes = recordChanges();
+        uniqueScheduleList.editCandidateInSchedule(schedule, new PersonBuilder().withName("Carl").build());
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Schedule> change = changes.get(0);
+        assertTrue(change.next());
+        assertFalse(change.wasPermutated());
+        assertEquals(1, change.getFrom());
+        assertEquals(Collections.singletonList(schedule), change.getAddedSubList());
+    }
+
+    private List<ListChangeListener.Change<? extends Schedule>> recordChanges() {
+        List<ListChangeListener.Change<? extends Schedule>> changes = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Schedule>) change -> changes.add(change));
+        return changes;
+    }
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("ab.bin"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_readFromImportStorage() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"), jsonStorage,
+                FsyncScheduler.always());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // once a snapshot is saved, it is read instead
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_untrustedSnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            BinaryAddressBookStorage.writeSnapshot(out, getTypicalAddressBook(), false);
+        }
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_untrustedSnapshotWithInvalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            BinarySnapshot.write(out, BinarySnapshot.TYPE_ADDRESS_BOOK, false, output -> {
+                output.writeInt(0);
+                output.writeInt(1);
+                for (String value : new String[] {"Alice", "94351253", "invalid email", "Street", "Unreviewed", ""}) {
+                    output.writeString(value);
+                }
+                output.writeInt(0);
+                output.writeInt(0);
+            });
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBookInParts_trustedSnapshot_firstPersonsReadBeforeRest() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        PartialAddressBookReader reader = storage.readAddressBookInParts().get();
+        ReadOnlyAddressBook firstPart = reader.readFirstPersons(3);
+        assertEquals(original.getJobRoleList(), firstPart.getJobRoleList());
+        assertEquals(original.getPersonList().subList(0, 3), firstPart.getPersonList());
+
+        List<Person> remainingPersons = reader.readRemainingPersons();
+        assertEquals(original.getPersonList().subList(3, original.getPersonList().size()), remainingPersons);
+    }
+
+    @Test
+    public void readAddressBookInParts_moreFirstPersonsThanInSnapshot_noRemainingPersons() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        PartialAddressBookReader reader = storage.readAddressBookInParts().get();
+        assertEquals(getTypicalAddressBook().getPersonList(), reader.readFirstPersons(100).getPersonList());
+        assertEquals(List.of(), reader.readRemainingPersons());
+    }
+
+    @Test
+    public void readAddressBookInParts_noTrustedSnapshot_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBookInParts().isPresent());
+
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            BinaryAddressBookStorage.writeSnapshot(out, getTypicalAddressBook(), false);
+        }
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBookInParts().isPresent());
+    }
+
+    @Test
+    public void readAddressBookInParts_corruptedSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBookInParts);
+    }
+
+    @Test
+    public void getSnapshotFilePath() {
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinarySnapshot.getSnapshotFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinarySnapshot.getSnapshotFilePath(testFolder.resolve("addressbook")));
+    }
+}
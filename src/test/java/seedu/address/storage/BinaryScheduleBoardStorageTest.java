@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class BinaryScheduleBoardStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveScheduleBoard_allInOrder_success() throws Exception {
+        BinaryScheduleBoardStorage storage = new BinaryScheduleBoardStorage(testFolder.resolve("sb.bin"));
+        ScheduleBoard original = getTypicalScheduleBoard();
+        storage.saveScheduleBoard(original);
+        assertEquals(original, new ScheduleBoard(storage.readScheduleBoard().get()));
+
+        original.removeSchedule(SCHEDULE_1);
+        original.addSchedule(new ScheduleBuilder(SCHEDULE_1).withStartTime("08:30").withEndTime("09:45").build());
+        storage.saveScheduleBoard(original);
+        assertEquals(original, new ScheduleBoard(storage.readScheduleBoard().get()));
+    }
+
+    @Test
+    public void readScheduleBoard_noSnapshot_readFromImportStorage() throws Exception {
+        JsonScheduleBoardStorage jsonStorage = new JsonScheduleBoardStorage(testFolder.resolve("sb.json"));
+        jsonStorage.saveScheduleBoard(getTypicalScheduleBoard());
+        BinaryScheduleBoardStorage storage = new BinaryScheduleBoardStorage(testFolder.resolve("sb.bin"),
+                jsonStorage, FsyncScheduler.always());
+        assertEquals(getTypicalScheduleBoard(), new ScheduleBoard(storage.readScheduleBoard().get()));
+    }
+
+    @Test
+    public void readScheduleBoard_untrustedSnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("sb.bin");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            BinaryScheduleBoardStorage.writeSnapshot(out, getTypicalScheduleBoard(), false);
+        }
+        assertEquals(getTypicalScheduleBoard(),
+                new ScheduleBoard(new BinaryScheduleBoardStorage(filePath).readScheduleBoard().get()));
+    }
+
+    @Test
+    public void readScheduleBoard_clashingSchedules_throwsDataLoadingException() throws Exception {
+        for (boolean isTrusted : new boolean[] {true, false}) {
+            Path filePath = testFolder.resolve("sb" + isTrusted + ".bin");
+            try (OutputStream out = Files.newOutputStream(filePath)) {
+                BinarySnapshot.write(out, BinarySnapshot.TYPE_SCHEDULE_BOARD, isTrusted, output -> {
+                    output.writeInt(2);
+                    for (int i = 0; i < 2; i++) {
+                        output.writeInt(Math.toIntExact(SCHEDULE_1.getDate().toEpochDay()));
+                        output.writeInt(SCHEDULE_1.getStartTime().toSecondOfDay());
+                        output.writeInt(SCHEDULE_1.getEndTime().toSecondOfDay());
+                        output.writeString(SCHEDULE_1.getMode().name());
+                        output.writeString(SCHEDULE_1.getCandidateName().fullName);
+                        output.writeString(SCHEDULE_1.getCandidateEmail().value);
+                    }
+                });
+            }
+            assertThrows(DataLoadingException.class, () -> new BinaryScheduleBoardStorage(filePath)
+                    .readScheduleBoard());
+        }
+    }
+
+    @Test
+    public void readScheduleBoard_addressBookSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryScheduleBoardStorage(filePath).readScheduleBoard());
+    }
+}
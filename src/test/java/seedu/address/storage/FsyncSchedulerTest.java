@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+
+public class FsyncSchedulerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void shouldSync_always_returnsTrue() {
+        FsyncScheduler fsyncScheduler = FsyncScheduler.always();
+        assertTrue(fsyncScheduler.shouldSync());
+        assertTrue(fsyncScheduler.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_never_returnsFalse() {
+        FsyncScheduler fsyncScheduler = new FsyncScheduler(FsyncPolicy.NEVER, 0);
+        assertFalse(fsyncScheduler.shouldSync());
+        assertFalse(fsyncScheduler.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_periodic() throws Exception {
+        // first save is synced, later saves within the interval are not
+        FsyncScheduler fsyncScheduler = new FsyncScheduler(FsyncPolicy.PERIODIC, 60_000);
+        assertTrue(fsyncScheduler.shouldSync());
+        assertFalse(fsyncScheduler.shouldSync());
+
+        // saves after the interval has passed are synced
+        FsyncScheduler shortIntervalScheduler = new FsyncScheduler(FsyncPolicy.PERIODIC, 1);
+        assertTrue(shortIntervalScheduler.shouldSync());
+        Thread.sleep(5);
+        assertTrue(shortIntervalScheduler.shouldSync());
+    }
+
+    @Test
+    public void syncLater_periodic_syncedWhenIntervalEnds() throws Exception {
+        FsyncScheduler fsyncScheduler = new FsyncScheduler(FsyncPolicy.PERIODIC, 50);
+        assertTrue(fsyncScheduler.shouldSync());
+        assertFalse(fsyncScheduler.shouldSync());
+        fsyncScheduler.syncLater(testFolder.resolve("data.json"));
+        assertTrue(fsyncScheduler.hasPendingSyncs());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (fsyncScheduler.hasPendingSyncs() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(fsyncScheduler.hasPendingSyncs());
+    }
+
+    @Test
+    public void syncPending_periodic_pendingFilesSynced() throws Exception {
+        FsyncScheduler fsyncScheduler = new FsyncScheduler(FsyncPolicy.PERIODIC, 60_000);
+        assertTrue(fsyncScheduler.shouldSync());
+        fsyncScheduler.syncLater(testFolder.resolve("data.json"));
+
+        fsyncScheduler.syncPending();
+        assertFalse(fsyncScheduler.hasPendingSyncs());
+
+        // the sync starts a new interval
+        assertFalse(fsyncScheduler.shouldSync());
+    }
+
+    @Test
+    public void syncLater_notPeriodic_nothingPending() {
+        FsyncScheduler alwaysScheduler = FsyncScheduler.always();
+        alwaysScheduler.syncLater(testFolder.resolve("data.json"));
+        assertFalse(alwaysScheduler.hasPendingSyncs());
+
+        FsyncScheduler neverScheduler = new FsyncScheduler(FsyncPolicy.NEVER, 0);
+        neverScheduler.syncLater(testFolder.resolve("data.json"));
+        assertFalse(neverScheduler.hasPendingSyncs());
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class JournaledStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+    private JournaledStorageManager journaledStorageManager;
+    private Path addressBookJournalPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonScheduleBoardStorage(testFolder.resolve("sb")));
+        journaledStorageManager = new JournaledStorageManager(storageManager, 3);
+        addressBookJournalPath = Paths.get(testFolder.resolve("ab") + JournaledStorageManager.JOURNAL_FILE_SUFFIX);
+
+        // The first save writes a snapshot for later changes to be journaled on
+        journaledStorageManager.saveAddressBook(getTypicalAddressBook());
+        journaledStorageManager.saveScheduleBoard(getTypicalScheduleBoard());
+    }
+
+    @Test
+    public void saveAddressBook_recordedChanges_appendedToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        journaledStorageManager.record(ModelChange.addPerson(HOON));
+        journaledStorageManager.record(ModelChange.deletePerson(ALICE));
+        journaledStorageManager.saveAddressBook(addressBook);
+
+        // snapshot is untouched
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(2, Files.readAllLines(addressBookJournalPath).size());
+
+        JournaledStorageManager reopened = new JournaledStorageManager(storageManager, 3);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_snapshotSaved() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        journaledStorageManager.record(ModelChange.addPerson(HOON));
+        journaledStorageManager.record(ModelChange.addPerson(IDA));
+        journaledStorageManager.saveAddressBook(addressBook);
+
+        Person editedHoon = new PersonBuilder(HOON).withPhone("11111111").build();
+        addressBook.setPerson(HOON, editedHoon);
+        addressBook.removePerson(IDA);
+        journaledStorageManager.record(ModelChange.setPerson(HOON, editedHoon));
+        journaledStorageManager.record(ModelChange.deletePerson(IDA));
+        journaledStorageManager.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertFalse(Files.exists(addressBookJournalPath));
+        journaledStorageManager.flush();
+        assertEquals(addressBook, new AddressBook(journaledStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_resetRecorded_snapshotSaved() throws Exception {
+        journaledStorageManager.record(ModelChange.addPerson(HOON));
+        journaledStorageManager.record(ModelChange.resetAddressBook());
+        journaledStorageManager.saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        assertFalse(Files.exists(addressBookJournalPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedEntry_earlierEntriesReplayed() throws Exception {
+        journaledStorageManager.record(ModelChange.addPerson(HOON));
+        journaledStorageManager.saveAddressBook(getTypicalAddressBook());
+        Files.write(addressBookJournalPath, "{\"type\":\"ADD_PER".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        JournaledStorageManager reopened = new JournaledStorageManager(storageManager, 3);
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // the unreadable entry is compacted away instead of being appended to
+        reopened.record(ModelChange.addPerson(IDA));
+        expected.addPerson(IDA);
+        reopened.saveAddressBook(expected);
+        assertTrue(Files.notExists(addressBookJournalPath));
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readScheduleBoard_journaledChanges_replayed() throws Exception {
+        ScheduleBoard scheduleBoard = getTypicalScheduleBoard();
+        Schedule editedSchedule = new ScheduleBuilder(SCHEDULE_1).withStartTime("08:00").build();
+        scheduleBoard.setSchedule(SCHEDULE_1, editedSchedule);
+        scheduleBoard.editCandidateInSchedule(editedSchedule, HOON);
+        journaledStorageManager.record(ModelChange.setSchedule(SCHEDULE_1, editedSchedule));
+        journaledStorageManager.record(ModelChange.editCandidateInSchedule(editedSchedule, HOON));
+        journaledStorageManager.saveScheduleBoard(scheduleBoard);
+
+        JournaledStorageManager reopened = new JournaledStorageManager(storageManager, 3);
+        assertEquals(getTypicalScheduleBoard(), new ScheduleBoard(storageManager.readScheduleBoard().get()));
+        ScheduleBoard replayed = new ScheduleBoard(reopened.readScheduleBoard().get());
+        assertEquals(scheduleBoard, replayed);
+        assertEquals(HOON.getName(), replayed.getScheduleList().get(scheduleBoard.getScheduleList()
+                .indexOf(editedSchedule)).getCandidateName());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,10 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Phone;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +64,32 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBookEntries_partlyInvalidPersonAddressBook_invalidPersonReadAsError() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("partlyInvalidPersonAddressBook.json");
+        AddressBookEntries entries = new JsonAddressBookStorage(filePath).readAddressBookEntries(filePath).get();
+
+        assertEquals(2, entries.getJobRoles().size());
+        assertEquals(2, entries.getPersonCount());
+        assertEquals("Valid Person", entries.getPerson(0).get().getName().fullName);
+        assertFalse(entries.getError(0).isPresent());
+        assertFalse(entries.getPerson(1).isPresent());
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, entries.getError(1).get());
+    }
+
+    @Test
+    public void readAddressBookEntries_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBookEntries(filePath).isPresent());
+    }
+
+    @Test
+    public void readAddressBookEntries_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .readAddressBookEntries(filePath));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +116,65 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_savedWithoutLineBreaks() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(prettyFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactFilePath, true,
+                Deflater.NO_COMPRESSION, FsyncScheduler.always());
+        compactStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_savedAsGzip() throws Exception {
+        Path plainFilePath = testFolder.resolve("PlainAddressBook.json");
+        Path compressedFilePath = testFolder.resolve("CompressedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath, false,
+                Deflater.BEST_COMPRESSION, FsyncScheduler.always());
+        compressedStorage.saveAddressBook(original);
+
+        assertTrue(isGzipFile(compressedFilePath));
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook().get()));
+
+        // compressed file read by storage that does not compress
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+
+        // uncompressed file read by storage that compresses
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook(plainFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_gzipFileName_savedAsGzip() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json.gz");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(isGzipFile(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder.resolve("ab.json"),
+                false, Deflater.BEST_COMPRESSION + 1, FsyncScheduler.always()));
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder.resolve("ab.json"),
+                false, Deflater.DEFAULT_COMPRESSION, FsyncScheduler.always()));
+    }
+
+    private static boolean isGzipFile(Path filePath) throws IOException {
+        byte[] bytes = Files.readAllBytes(filePath);
+        return bytes.length > 2 && (bytes[0] & 0xff) == 0x1f && (bytes[1] & 0xff) == 0x8b;
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,12 +1,15 @@
 package seedu.address.storage;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -75,6 +78,19 @@ public class JsonScheduleBoardStorageTest {
         }
     }
 
+    @Test
+    public void readAndSaveScheduleBoard_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("CompressedScheduleBoard.json");
+        JsonScheduleBoardStorage storage = new JsonScheduleBoardStorage(filePath, true, Deflater.BEST_SPEED,
+                FsyncScheduler.always());
+        ScheduleBoard original = getTypicalScheduleBoard();
+        storage.saveScheduleBoard(original);
+        assertEquals(original, new ScheduleBoard(storage.readScheduleBoard().get()));
+
+        // compressed file read by storage that does not compress
+        assertEquals(original, new ScheduleBoard(new JsonScheduleBoardStorage(filePath).readScheduleBoard().get()));
+    }
+
     @Test
     public void saveScheduleBoard_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveScheduleBoard(new ScheduleBoard(), null));
@@ -1,15 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -30,6 +35,9 @@ public class JsonSerializableAddressBookTest {
             TEST_DATA_FOLDER.resolve("unrecognisedJobRoleAddressBook.json");
     private static final Path DUPLICATE_JOB_ROLE_FILE = TEST_DATA_FOLDER.resolve("duplicateJobRoleAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -85,4 +93,39 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOBROLE,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void readModelType_personsBeforeJobRoles_sameAsToModelType() throws Exception {
+        for (Path file : List.of(TYPICAL_PERSONS_FILE, UNRECOGNISED_JOB_ROLE_FILE)) {
+            AddressBook expected = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType();
+            assertEquals(expected, readModelType(file));
+        }
+    }
+
+    @Test
+    public void readModelType_savedAddressBook_jobRolesWrittenFirst() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(typicalPersonsAddressBook), file);
+
+        String json = Files.readString(file);
+        assertTrue(json.indexOf("\"jobRoles\"") < json.indexOf("\"persons\""));
+        assertEquals(typicalPersonsAddressBook, readModelType(file));
+    }
+
+    @Test
+    public void readModelType_invalidData_throwsException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_JOB_ROLE_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOBROLE, () ->
+                readModelType(DUPLICATE_JOB_ROLE_FILE));
+    }
+
+    private static AddressBook readModelType(Path file) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
 }
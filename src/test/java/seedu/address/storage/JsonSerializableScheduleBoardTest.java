@@ -8,6 +8,8 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.schedule.ScheduleBoard;
@@ -44,4 +46,22 @@ public class JsonSerializableScheduleBoardTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalSchedulesFile_success() throws Exception {
+        assertEquals(TypicalSchedules.getTypicalScheduleBoard(), readModelType(TYPICAL_SCHEDULES_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidData_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_SCHEDULE_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableScheduleBoard.MESSAGE_CLASHING_SCHEDULE, () ->
+                readModelType(DUPLICATE_SCHEDULE_FILE));
+    }
+
+    private static ScheduleBoard readModelType(Path file) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            return JsonSerializableScheduleBoard.readModelType(parser);
+        }
+    }
+
 }
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int COUNT = 3 * ParallelConverter.CHUNK_SIZE + 5;
+
+    private final List<String> numbers = IntStream.range(0, COUNT).mapToObj(String::valueOf)
+            .collect(Collectors.toList());
+    private final List<Integer> converted = new ArrayList<>();
+
+    @Test
+    public void convertAll_validObjects_convertedInOrder() throws Exception {
+        ParallelConverter.convertAll(numbers, 0, "number", Integer::valueOf, converted::add);
+        assertEquals(IntStream.range(0, COUNT).boxed().collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertAll_invalidObjects_firstErrorThrown() {
+        numbers.set(2500, "invalid");
+        numbers.set(1500, "invalid");
+        numbers.set(1600, "invalid");
+        assertThrows(IllegalValueException.class, String.format(ParallelConverter.MESSAGE_INVALID_RECORD_FORMAT,
+                "number", 1510, "Not a number"), () -> ParallelConverter.convertAll(numbers, 10, "number",
+                        ParallelConverterTest::parse, converted::add));
+
+        // objects before the first invalid object are still passed on
+        assertEquals(1500, converted.size());
+    }
+
+    @Test
+    public void convertAll_objectRejected_rejectionThrownBeforeLaterErrors() {
+        numbers.set(2000, "invalid");
+        assertThrows(IllegalValueException.class, "Rejected", () -> ParallelConverter.convertAll(numbers, 0,
+                "number", ParallelConverterTest::parse, number -> {
+                    if (number == 1000) {
+                        throw new IllegalValueException("Rejected");
+                    }
+                    converted.add(number);
+                }));
+        assertEquals(1000, converted.size());
+    }
+
+    @Test
+    public void convertEach_invalidObjects_allConvertedInOrder() {
+        numbers.set(1500, "invalid");
+        numbers.set(2500, "invalid");
+        List<String> errors = new ArrayList<>();
+        ParallelConverter.convertEach(numbers, ParallelConverterTest::parse, (number, error) -> {
+            converted.add(number);
+            errors.add(error == null ? null : error.getMessage());
+        });
+
+        List<Integer> expected = IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+        expected.set(1500, null);
+        expected.set(2500, null);
+        assertEquals(expected, converted);
+        assertEquals("Not a number", errors.get(1500));
+        assertEquals("Not a number", errors.get(2500));
+        assertEquals(2, errors.stream().filter(error -> error != null).count());
+    }
+
+    private static Integer parse(String number) throws IllegalValueException {
+        try {
+            return Integer.valueOf(number);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException("Not a number");
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(getManifestPath(), 0));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(SHARD_COUNT, getShardFileNames().size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // persons keep their order in the address book, across shards
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // read by a new storage
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> oldShardFileNames = readManifest().getShards();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withRemark("Edited remark").build());
+        storage.saveAddressBook(addressBook);
+        List<String> newShardFileNames = readManifest().getShards();
+
+        int changedShardCount = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (!oldShardFileNames.get(i).equals(newShardFileNames.get(i))) {
+                changedShardCount++;
+            }
+        }
+        assertEquals(1, changedShardCount);
+        // shard files that are no longer used are deleted
+        assertEquals(newShardFileNames.stream().sorted().collect(Collectors.toList()), getShardFileNames());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAfterRead_nothingRewritten() throws Exception {
+        new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        long generation = readManifest().getGeneration();
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        storage.saveAddressBook(new AddressBook(storage.readAddressBook().get()));
+        assertEquals(generation, readManifest().getGeneration());
+    }
+
+    @Test
+    public void saveAddressBook_jobRoleAdded_manifestRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> shardFileNames = readManifest().getShards();
+
+        addressBook.addJobRole(new JobRole("Data Engineer"));
+        storage.saveAddressBook(addressBook);
+        assertEquals(shardFileNames, readManifest().getShards());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noShards_readFromImportStorage() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT,
+                jsonStorage, false, FsyncScheduler.always());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        // once the shards are saved, they are read instead
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(SHARD_COUNT, getShardFileNames().size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_resharded() throws Exception {
+        new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), 2);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, getShardFileNames().size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(getManifestPath().resolveSibling(readManifest().getShards().get(0)));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_manifestNotMatchingShards_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        JsonSerializableShardManifest manifest = readManifest();
+        int[] personShards = manifest.getPersonShards();
+        personShards[0] = (personShards[0] + 1) % SHARD_COUNT;
+        JsonUtil.saveJsonFile(new JsonSerializableShardManifest(manifest.getGeneration(), manifest.getShards(),
+                manifest.getJobRoles(), personShards), getManifestPath());
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(testFolder.resolve("addressbook.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                ShardedAddressBookStorage.getManifestFilePath(testFolder.resolve("addressbook.json")));
+    }
+
+    private Path getManifestPath() {
+        return ShardedAddressBookStorage.getManifestFilePath(testFolder.resolve("addressbook.json"));
+    }
+
+    private JsonSerializableShardManifest readManifest() throws Exception {
+        return JsonUtil.readJsonFile(getManifestPath(), JsonSerializableShardManifest.class).get();
+    }
+
+    /**
+     * Returns the sorted names of the shard files in the shard directory.
+     */
+    private List<String> getShardFileNames() throws Exception {
+        try (Stream<Path> files = Files.list(getManifestPath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
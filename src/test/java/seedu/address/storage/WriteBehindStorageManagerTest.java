@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.schedule.ScheduleBoard;
+
+public class WriteBehindStorageManagerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+    private WriteBehindStorageManager writeBehindStorageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonScheduleBoardStorage(testFolder.resolve("sb")));
+        writeBehindStorageManager = new WriteBehindStorageManager(storageManager);
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_dataWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(original);
+        writeBehindStorageManager.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        writeBehindStorageManager.saveAddressBook(original);
+        original.removePerson(ALICE);
+        writeBehindStorageManager.flush();
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_multipleSaves_latestDataWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        writeBehindStorageManager.saveAddressBook(addressBook);
+        writeBehindStorageManager.flush();
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveScheduleBoard_thenFlush_dataWritten() throws Exception {
+        ScheduleBoard original = getTypicalScheduleBoard();
+        writeBehindStorageManager.saveScheduleBoard(original);
+        writeBehindStorageManager.flush();
+        assertEquals(original, new ScheduleBoard(storageManager.readScheduleBoard().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writesDeferred_writtenOnlyOnFlush() throws Exception {
+        writeBehindStorageManager = new WriteBehindStorageManager(storageManager, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        writeBehindStorageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(testFolder.resolve("ab")));
+
+        writeBehindStorageManager.flush();
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        StorageManager failingStorage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonScheduleBoardStorage(testFolder.resolve("sb")));
+        writeBehindStorageManager = new WriteBehindStorageManager(failingStorage);
+
+        writeBehindStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> writeBehindStorageManager.flush());
+    }
+}